@@ -0,0 +1,162 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ *     Limit on the number of queries a {@link BatchExecutorClient} has in flight, adjusted the way TCP adjusts its
+ *     congestion window.
+ * </p>
+ *
+ * <p>
+ *     The limit doubles with every window of queries that completes until the engine first pushes back, and from then
+ *     on grows by one query per window. It is halved when a batch fails with a retriable error, which is how writes
+ *     the engine gave up on with a {@code TemporaryWriteException} reach the client, or when a full batch takes much
+ *     longer per query than the fastest batches seen recently.
+ * </p>
+ */
+class AdaptiveLimit {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveLimit.class);
+
+    // How many times slower than the baseline a batch has to be, per query, to count as a sign of overload
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    // Number of batches over which the baseline follows latencies up, so a server that stays slower is not mistaken
+    // for an overloaded one forever
+    private static final int BASELINE_WINDOW = 100;
+
+    private final int min;
+    private final int max;
+
+    private double limit;
+    private boolean slowStart = true;
+    private double baselineNanosPerQuery = Double.MAX_VALUE;
+    private int epoch = 0;
+    private int inFlight = 0;
+
+    AdaptiveLimit(int initial, int min, int max) {
+        this.min = min;
+        this.max = max;
+        this.limit = Math.max(min, Math.min(max, initial));
+    }
+
+    /**
+     * Will block until the query fits within the limit, or until the thread is interrupted, in which case the query
+     * goes over the limit rather than being dropped
+     */
+    synchronized void acquire() {
+        while (inFlight >= limit()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // Waiting again would throw straight away, so keep the interrupt for the caller and stop waiting
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        inFlight++;
+    }
+
+    synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Will block until no queries are in flight, or until the thread is interrupted
+     */
+    synchronized void awaitIdle() {
+        while (inFlight > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * The number of decreases so far. A batch records it when it is sent, so that only batches sized for the current
+     * limit can decrease it again.
+     */
+    synchronized int epoch() {
+        return epoch;
+    }
+
+    /**
+     * Size of the batches to split the queries in flight into, so that each of the given number of threads gets one
+     */
+    synchronized int batchSize(int parallelism) {
+        return Math.max(1, limit() / parallelism);
+    }
+
+    synchronized void onSuccess(int epochSent, int queries, int parallelism, long nanos) {
+        double nanosPerQuery = (double) nanos / queries;
+
+        // The engine spends some time on every batch regardless of its size, so only full batches are comparable
+        if (queries >= batchSize(parallelism)) {
+            if (nanosPerQuery < baselineNanosPerQuery) {
+                baselineNanosPerQuery = nanosPerQuery;
+            } else {
+                baselineNanosPerQuery += (nanosPerQuery - baselineNanosPerQuery) / BASELINE_WINDOW;
+            }
+
+            if (nanosPerQuery > LATENCY_TOLERANCE * baselineNanosPerQuery) {
+                onOverload(epochSent);
+                return;
+            }
+        }
+
+        if (slowStart) {
+            setLimit(limit + queries);
+        } else {
+            setLimit(limit + queries / limit);
+        }
+    }
+
+    synchronized void onOverload(int epochSent) {
+        // Batches sent before the last decrease were sized for the old limit, so their failures are already accounted for
+        if (epochSent != epoch) {
+            return;
+        }
+
+        epoch++;
+        slowStart = false;
+        setLimit(limit / 2);
+        LOG.debug("Engine is overloaded, reduced limit to {} queries", limit());
+    }
+
+    private void setLimit(double val) {
+        limit = Math.max(min, Math.min(max, val));
+        notifyAll();
+    }
+}
@@ -22,17 +22,11 @@ import ai.grakn.API;
 import ai.grakn.Keyspace;
 import ai.grakn.graql.Query;
 import ai.grakn.util.SimpleURI;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
-import com.github.rholder.retry.Attempt;
-import com.github.rholder.retry.RetryException;
-import com.github.rholder.retry.RetryListener;
-import com.github.rholder.retry.Retryer;
-import com.github.rholder.retry.RetryerBuilder;
-import com.github.rholder.retry.StopStrategies;
-import com.github.rholder.retry.WaitStrategies;
 import com.netflix.hystrix.HystrixCollapser;
 import com.netflix.hystrix.HystrixCollapserKey;
 import com.netflix.hystrix.HystrixCollapserProperties;
@@ -50,14 +44,15 @@ import rx.schedulers.Schedulers;
 import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -70,6 +65,10 @@ import static com.codahale.metrics.MetricRegistry.name;
  * a batch finishes loading. BatchExecutorClient will block when the configured resources are being
  * used to execute tasks.
  *
+ * The number of queries in flight and the size of the batches they are sent in adapt to the load on the engine,
+ * see {@link AdaptiveLimit}. A batch that fails is split and its halves retried on their own, so only the queries
+ * that failed are sent again.
+ *
  * @author Domenico Corapi
  */
 public class BatchExecutorClient implements Closeable {
@@ -79,8 +78,8 @@ public class BatchExecutorClient implements Closeable {
     private final GraknClient graknClient;
     private final HystrixRequestContext context;
 
-    // We only allow a certain number of queries to be waiting to execute at once for performance reasons
-    private final Semaphore queryExecutionSemaphore;
+    // We only allow a certain number of queries to be waiting to execute at once, depending on how loaded the engine is
+    private final AdaptiveLimit loadLimit;
 
     // Config
     private final int maxDelay;
@@ -93,6 +92,7 @@ public class BatchExecutorClient implements Closeable {
     private final MetricRegistry metricRegistry;
     private final Meter failureMeter;
     private final Timer addTimer;
+    private final Histogram limitHistogram;
     private final Scheduler scheduler;
     private final ExecutorService executor;
     private boolean requestLogEnabled;
@@ -120,9 +120,11 @@ public class BatchExecutorClient implements Closeable {
         // of the server
         executor = Executors.newFixedThreadPool(threadPoolCoreSize);
         scheduler = Schedulers.from(executor);
-        queryExecutionSemaphore = new Semaphore(maxQueries);
+        // Start with one query per thread and find the capacity of the engine from there
+        loadLimit = new AdaptiveLimit(threadPoolCoreSize, 1, maxQueries);
         addTimer = metricRegistry.timer(name(BatchExecutorClient.class, "add"));
         failureMeter = metricRegistry.meter(name(BatchExecutorClient.class, "failure"));
+        limitHistogram = metricRegistry.histogram(name(BatchExecutorClient.class, "limit"));
     }
 
     /**
@@ -152,17 +154,16 @@ public class BatchExecutorClient implements Closeable {
     }
 
     /**
-     * Will block until all submitted queries have executed
+     * Will block until all submitted queries have executed, or until the thread is interrupted
      */
     @Override
     public void close() {
         LOG.debug("Closing BatchExecutorClient");
 
-        // Acquire ALL permits. Only possible when all the permits are released.
-        // This means this method will only return when ALL the queries are completed.
-        LOG.trace("Acquiring all {} permits ({} available)", maxQueries, queryExecutionSemaphore.availablePermits());
-        queryExecutionSemaphore.acquireUninterruptibly(maxQueries);
-        LOG.trace("Acquired all {} permits ({} available)", maxQueries, queryExecutionSemaphore.availablePermits());
+        // This method will only return when ALL the queries are completed.
+        LOG.trace("Waiting for {} queries in flight", loadLimit.inFlight());
+        loadLimit.awaitIdle();
+        LOG.trace("No queries in flight");
 
         context.close();
         executor.shutdownNow();
@@ -241,15 +242,23 @@ public class BatchExecutorClient implements Closeable {
      * We need this because we don't want to cache inserts.
      *
      * This is a non-static class so it can access all fields of {@link BatchExecutorClient}, such as the
-     * {@link BatchExecutorClient#queryExecutionSemaphore}. This avoids bugs where Hystrix caches certain parameters
-     * or properties like the semaphore: the request is linked directly to the {@link BatchExecutorClient} that
+     * {@link BatchExecutorClient#loadLimit}. This avoids bugs where Hystrix caches certain parameters
+     * or properties like the limit: the request is linked directly to the {@link BatchExecutorClient} that
      * created it.
+     *
+     * Once executed it holds either the response to the query or the exception that failed it.
      */
     private class QueryRequest {
 
         private Query<?> query;
         private UUID id;
 
+        @Nullable
+        private QueryResponse response = null;
+
+        @Nullable
+        private Exception failure = null;
+
         QueryRequest(Query<?> query) {
             this.query = query;
             this.id = UUID.randomUUID();
@@ -287,22 +296,38 @@ public class BatchExecutorClient implements Closeable {
             return query;
         }
 
+        @Nullable
+        QueryResponse getResponse() {
+            return response;
+        }
+
+        @Nullable
+        Exception getFailure() {
+            return failure;
+        }
+
+        void setResponse(QueryResponse response) {
+            this.response = response;
+        }
+
+        void setFailure(Exception failure) {
+            this.failure = failure;
+        }
+
         void acquirePermit() {
-            assert queryExecutionSemaphore.availablePermits() <= maxQueries :
-                    "Number of available permits should never exceed max queries";
+            assert loadLimit.limit() <= maxQueries : "Limit should never exceed max queries";
 
-            // Acquire permission to execute a query - will block until a permit is available
-            LOG.trace("Acquiring a permit for {} ({} available)", id, queryExecutionSemaphore.availablePermits());
-            queryExecutionSemaphore.acquireUninterruptibly();
-            LOG.trace("Acquired a permit for {} ({} available)", id, queryExecutionSemaphore.availablePermits());
+            // Acquire permission to execute a query - will block until the query fits within the limit
+            LOG.trace("Acquiring a permit for {} ({} of {} in flight)", id, loadLimit.inFlight(), loadLimit.limit());
+            loadLimit.acquire();
+            LOG.trace("Acquired a permit for {} ({} of {} in flight)", id, loadLimit.inFlight(), loadLimit.limit());
         }
 
         void releasePermit() {
             // Release a query execution permit, allowing a new query to execute
-            queryExecutionSemaphore.release();
+            loadLimit.release();
 
-            int availablePermits = queryExecutionSemaphore.availablePermits();
-            LOG.trace("Released a permit for {} ({} available)", id, availablePermits);
+            LOG.trace("Released a permit for {} ({} of {} in flight)", id, loadLimit.inFlight(), loadLimit.limit());
         }
     }
 
@@ -325,17 +350,23 @@ public class BatchExecutorClient implements Closeable {
      * Within the collapsing logic, this command is called after a certain timeout
      * expires to batch requests together.
      *
+     * The engine executes a batch in a single transaction, so when one query fails none of them are loaded.
+     * A batch containing a query the engine rejects is therefore split in two and each half executed on its own,
+     * until only the rejected queries are left. Rather than throwing, the command returns its requests with the
+     * outcome of each one.
+     *
      * @author Domenico Corapi
      */
-    private class CommandQueries extends HystrixCommand<List<QueryResponse>> {
+    private class CommandQueries extends HystrixCommand<List<QueryRequest>> {
 
         static final int QUEUE_MULTIPLIER = 1024;
+        static final long BASE_WAIT_MS = 10;
+        static final long MAX_WAIT_MS = 60_000;
 
         private final List<QueryRequest> queries;
         private final Keyspace keyspace;
         private final Timer graqlExecuteTimer;
         private final Meter attemptMeter;
-        private final Retryer<List> retryer;
 
         CommandQueries(List<QueryRequest> queries, Keyspace keyspace) {
             super(Setter
@@ -357,56 +388,115 @@ public class BatchExecutorClient implements Closeable {
             this.keyspace = keyspace;
             this.graqlExecuteTimer = metricRegistry.timer(name(this.getClass(), "execute"));
             this.attemptMeter = metricRegistry.meter(name(this.getClass(), "attempt"));
-            this.retryer = RetryerBuilder.<List>newBuilder()
-                    .retryIfException(throwable ->
-                            throwable instanceof GraknClientException
-                                    && ((GraknClientException) throwable).isRetriable())
-                    .retryIfExceptionOfType(ConnectException.class)
-                    .withWaitStrategy(WaitStrategies.exponentialWait(10, 1, TimeUnit.MINUTES))
-                    .withStopStrategy(StopStrategies.stopAfterAttempt(maxRetries + 1))
-                    .withRetryListener(new RetryListener() {
-                        @Override
-                        public <V> void onRetry(Attempt<V> attempt) {
-                            attemptMeter.mark();
-                        }
-                    })
-                    .build();
         }
 
         @Override
-        protected List run() throws GraknClientException {
-            List<Query<?>> queryList = queries.stream().map(QueryRequest::getQuery)
-                    .collect(Collectors.toList());
+        protected List<QueryRequest> run() {
             try {
-                List<QueryResponse> responses = retryer.call(() -> {
-                    try (Context c = graqlExecuteTimer.time()) {
-                        return graknClient.graqlExecute(queryList, keyspace);
-                    }
-                });
-
-                if (queryResponseHandler != null) {
-                    responses.forEach(queryResponseHandler);
+                execute(queries, 1);
+                return queries;
+            } finally {
+                queries.forEach(QueryRequest::releasePermit);
+            }
+        }
+
+        private void execute(List<QueryRequest> requests, int attempt) {
+            List<Query<?>> queryList = requests.stream().map(QueryRequest::getQuery).collect(Collectors.toList());
+            int epoch = loadLimit.epoch();
+            long start = System.nanoTime();
+
+            List<QueryResponse> responses;
+            try (Context c = graqlExecuteTimer.time()) {
+                responses = graknClient.graqlExecute(queryList, keyspace);
+            } catch (GraknClientException | RuntimeException e) {
+                boolean retriable = isRetriable(e);
+
+                if (retriable) {
+                    loadLimit.onOverload(epoch);
+                    limitHistogram.update(loadLimit.limit());
                 }
 
-                return responses;
-            } catch (RetryException | ExecutionException e) {
-                Throwable cause = e.getCause();
-                if (cause instanceof GraknClientException) {
-                    if (exceptionHandler != null) {
-                        exceptionHandler.accept((GraknClientException) cause);
-                    }
-                    throw (GraknClientException) cause;
+                if (retriable && attempt <= maxRetries && waitBeforeRetry(attempt)) {
+                    attemptMeter.mark();
+                    // Smaller batches are less likely to conflict, and a half that succeeds is not sent again
+                    halves(requests).forEach(half -> execute(half, attempt + 1));
+                } else if (isQueryRejected(e) && requests.size() > 1) {
+                    // The engine rejected some of the queries, so find them without retrying the others. Any other
+                    // error, such as one with the keyspace, would fail every half too, so the batch fails as a whole
+                    halves(requests).forEach(half -> execute(half, attempt));
                 } else {
-                    RuntimeException exception = new RuntimeException("Unexpected exception while retrying, " + queryList.size() + " queries failed.", e);
-                    if (exceptionHandler != null) {
-                        exceptionHandler.accept(exception);
-                    }
-                    throw exception;
+                    fail(requests, e);
                 }
-            } finally {
-                queries.forEach(QueryRequest::releasePermit);
+                return;
+            }
+
+            loadLimit.onSuccess(epoch, requests.size(), threadPoolCoreSize, System.nanoTime() - start);
+            limitHistogram.update(loadLimit.limit());
+
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).setResponse(responses.get(i));
             }
+
+            if (queryResponseHandler != null) {
+                responses.forEach(queryResponseHandler);
+            }
+        }
+
+        private void fail(List<QueryRequest> requests, Exception e) {
+            Exception failure = e instanceof GraknClientException ? e :
+                    new RuntimeException("Unexpected exception while executing, " + requests.size() + " queries failed.", e);
+
+            if (exceptionHandler != null) {
+                exceptionHandler.accept(failure);
+            }
+            requests.forEach(request -> request.setFailure(failure));
         }
+
+        /**
+         * Waits exponentially longer after each attempt, with jitter so clients pushed back together do not all
+         * retry at once
+         *
+         * @return false if interrupted while waiting
+         */
+        private boolean waitBeforeRetry(int attempt) {
+            long waitMs = Math.min(MAX_WAIT_MS, BASE_WAIT_MS << Math.min(attempt, 20));
+            waitMs = waitMs / 2 + ThreadLocalRandom.current().nextLong(waitMs / 2 + 1);
+
+            try {
+                Thread.sleep(waitMs);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private static boolean isRetriable(Exception e) {
+        if (e instanceof GraknClientException) {
+            return ((GraknClientException) e).isRetriable();
+        }
+
+        // The engine could not be reached, e.g. because it is restarting
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isQueryRejected(Exception e) {
+        return e instanceof GraknClientException && ((GraknClientException) e).isQueryRejected();
+    }
+
+    private static List<List<QueryRequest>> halves(List<QueryRequest> requests) {
+        if (requests.size() < 2) {
+            return Collections.singletonList(requests);
+        }
+
+        int middle = requests.size() / 2;
+        return Arrays.asList(requests.subList(0, middle), requests.subList(middle, requests.size()));
     }
 
     /**
@@ -415,7 +505,7 @@ public class BatchExecutorClient implements Closeable {
      *
      * @author Domenico Corapi
      */
-    private class QueriesObservableCollapser extends HystrixCollapser<List<QueryResponse>, QueryResponse, QueryRequest> {
+    private class QueriesObservableCollapser extends HystrixCollapser<List<QueryRequest>, QueryResponse, QueryRequest> {
 
         private final QueryRequest query;
         private Keyspace keyspace;
@@ -439,6 +529,27 @@ public class BatchExecutorClient implements Closeable {
             return query;
         }
 
+        /**
+         * Splits the requests collapsed together into batches of the size the engine can currently take, each of
+         * which is executed by its own CommandQueries
+         *
+         * @param requests Set of requests being collapsed
+         * @return returns the batches to execute
+         */
+        @Override
+        protected Collection<Collection<CollapsedRequest<QueryResponse, QueryRequest>>> shardRequests(
+                Collection<CollapsedRequest<QueryResponse, QueryRequest>> requests) {
+
+            List<CollapsedRequest<QueryResponse, QueryRequest>> requestList = new ArrayList<>(requests);
+            int batchSize = loadLimit.batchSize(threadPoolCoreSize);
+
+            Collection<Collection<CollapsedRequest<QueryResponse, QueryRequest>>> shards = new ArrayList<>();
+            for (int i = 0; i < requestList.size(); i += batchSize) {
+                shards.add(requestList.subList(i, Math.min(i + batchSize, requestList.size())));
+            }
+            return shards;
+        }
+
         /**
          * Logic to collapse requests into into CommandQueries
          *
@@ -446,7 +557,7 @@ public class BatchExecutorClient implements Closeable {
          * @return returns a command that executed all the requests
          */
         @Override
-        protected HystrixCommand<List<QueryResponse>> createCommand(
+        protected HystrixCommand<List<QueryRequest>> createCommand(
                 Collection<CollapsedRequest<QueryResponse, QueryRequest>> collapsedRequests) {
 
             List<QueryRequest> requests =
@@ -456,12 +567,15 @@ public class BatchExecutorClient implements Closeable {
         }
 
         @Override
-        protected void mapResponseToRequests(List<QueryResponse> batchResponse, Collection<CollapsedRequest<QueryResponse, QueryRequest>> collapsedRequests) {
-            int count = 0;
+        protected void mapResponseToRequests(List<QueryRequest> batchResponse, Collection<CollapsedRequest<QueryResponse, QueryRequest>> collapsedRequests) {
             for (CollapsedRequest<QueryResponse, QueryRequest> request : collapsedRequests) {
-                QueryResponse response = batchResponse.get(count++);
-                request.setResponse(response);
-                request.setComplete();
+                Exception failure = request.getArgument().getFailure();
+                if (failure != null) {
+                    request.setException(failure);
+                } else {
+                    request.setResponse(request.getArgument().getResponse());
+                    request.setComplete();
+                }
             }
             metricRegistry.histogram(name(QueriesObservableCollapser.class, "batch", "size")).update(collapsedRequests.size());
         }
@@ -27,22 +27,41 @@ import javax.ws.rs.core.Response.StatusType;
  */
 public class GraknClientException extends Exception {
 
+    // The engine reports a query it cannot execute with one of these, rather than an error with the request itself
+    private static final int BAD_REQUEST = 400;
+    private static final int UNPROCESSABLE_ENTITY = 422;
+
     private final boolean retriable;
+    private final boolean queryRejected;
 
     public GraknClientException(String s) {
         this(s, false);
     }
 
     public GraknClientException(String s, boolean retriable) {
-        super(s);
-        this.retriable = retriable;
+        this(s, retriable, false);
     }
 
     public GraknClientException(String s, StatusType statusInfo) {
-        this(s, statusInfo.getFamily().equals(Family.SERVER_ERROR));
+        this(s, statusInfo.getFamily().equals(Family.SERVER_ERROR),
+                statusInfo.getStatusCode() == BAD_REQUEST || statusInfo.getStatusCode() == UNPROCESSABLE_ENTITY);
+    }
+
+    private GraknClientException(String s, boolean retriable, boolean queryRejected) {
+        super(s);
+        this.retriable = retriable;
+        this.queryRejected = queryRejected;
     }
 
     public boolean isRetriable() {
         return retriable;
     }
+
+    /**
+     * @return true if the engine rejected a query in the request, e.g. because it is invalid, so the other queries
+     * may succeed without it
+     */
+    public boolean isQueryRejected() {
+        return queryRejected;
+    }
 }
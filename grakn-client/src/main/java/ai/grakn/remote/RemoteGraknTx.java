@@ -32,11 +32,13 @@ import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Rule;
 import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
 import ai.grakn.concept.Type;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.internal.query.QueryBuilderImpl;
+import ai.grakn.grpc.ConceptMethod;
 import ai.grakn.grpc.ConceptMethods;
 import ai.grakn.grpc.GrpcClient;
 import ai.grakn.grpc.GrpcUtil;
@@ -48,8 +50,10 @@ import ai.grakn.rpc.generated.GrpcGrakn.DeleteRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static ai.grakn.util.CommonUtil.toImmutableSet;
@@ -207,6 +211,30 @@ public final class RemoteGraknTx implements GraknTx, GraknAdmin {
         return Objects.requireNonNull(sups).map(Concept::asSchemaConcept);
     }
 
+    /**
+     * Fetch the results of the given read-only {@link ConceptMethod}s for all the given concepts in one round trip.
+     * Until the next write in this transaction, calling those methods on those concepts will not contact the server.
+     */
+    public void prefetch(Collection<? extends Concept> concepts, ConceptMethod<?>... conceptMethods) {
+        Set<ConceptId> ids = concepts.stream().map(Concept::getId).collect(toImmutableSet());
+        client.prefetch(ids, Arrays.asList(conceptMethods));
+    }
+
+    /**
+     * Prefetch the common neighbourhood of the given {@link Thing}s: their types and attributes, the values and types
+     * of those attributes and the labels of all these types.
+     */
+    public void prefetchThings(Collection<? extends Thing> things) {
+        prefetch(things, ConceptMethods.GET_DIRECT_TYPE, ConceptMethods.GET_ATTRIBUTES);
+
+        Set<Attribute<?>> attributes = things.stream().flatMap(thing -> thing.attributes()).collect(toImmutableSet());
+        prefetch(attributes, ConceptMethods.GET_VALUE, ConceptMethods.GET_DIRECT_TYPE);
+
+        Set<Type> types = Stream.<Thing>concat(things.stream(), attributes.stream())
+                .map(Thing::type).collect(toImmutableSet());
+        prefetch(types, ConceptMethods.GET_LABEL);
+    }
+
     @Override
     public void delete() {
         DeleteRequest request = GrpcUtil.deleteRequest(GrpcUtil.openRequest(keyspace(), GraknTxType.WRITE).getOpen());
@@ -44,13 +44,21 @@ import ai.grakn.graql.analytics.PathsQuery;
 import ai.grakn.graql.analytics.StdQuery;
 import ai.grakn.graql.analytics.SumQuery;
 import ai.grakn.grpc.GrpcClient;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -102,72 +110,79 @@ final class RemoteQueryRunner implements QueryRunner {
 
     @Override
     public <T> T run(AggregateQuery<T> query) {
-        return runSingleUnchecked(query);
+        List<Object> parts = Lists.newArrayList(run(query));
+
+        // Large map results, such as from a group aggregate, are sent in several parts
+        if (parts.size() > 1) {
+            return (T) mergeParts(parts.iterator());
+        } else {
+            return (T) Iterables.getOnlyElement(parts);
+        }
     }
 
     @Override
     public <T> ComputeJob<T> run(ConnectedComponentQuery<T> query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of((T) runComputeMap(query, key -> key));
     }
 
     @Override
     public ComputeJob<Map<Long, Set<String>>> run(CorenessQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of((Map<Long, Set<String>>) runComputeMap(query, Long::valueOf));
     }
 
     @Override
     public ComputeJob<Long> run(CountQuery query) {
-        return runCompute(query, Long.class);
+        return RemoteComputeJob.of(runNumber(query).longValue());
     }
 
     @Override
     public ComputeJob<Map<Long, Set<String>>> run(DegreeQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of((Map<Long, Set<String>>) runComputeMap(query, Long::valueOf));
     }
 
     @Override
     public ComputeJob<Map<String, Set<String>>> run(KCoreQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of((Map<String, Set<String>>) runComputeMap(query, key -> key));
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(MaxQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(Optional.ofNullable(runNumber(query)));
     }
 
     @Override
     public ComputeJob<Optional<Double>> run(MeanQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(Optional.ofNullable(runNumber(query)).map(Number::doubleValue));
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(MedianQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(Optional.ofNullable(runNumber(query)));
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(MinQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(Optional.ofNullable(runNumber(query)));
     }
 
     @Override
     public ComputeJob<Optional<List<Concept>>> run(PathQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(runPaths(query).stream().findFirst());
     }
 
     @Override
     public ComputeJob<List<List<Concept>>> run(PathsQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(runPaths(query));
     }
 
     @Override
     public ComputeJob<Optional<Double>> run(StdQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(Optional.ofNullable(runNumber(query)).map(Number::doubleValue));
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(SumQuery query) {
-        return runComputeUnchecked(query);
+        return RemoteComputeJob.of(Optional.ofNullable(runNumber(query)));
     }
 
     private Iterator<Object> run(Query<?> query) {
@@ -184,19 +199,66 @@ final class RemoteQueryRunner implements QueryRunner {
         return stream.map(Answer.class::cast);
     }
 
-    private <T> ComputeJob<T> runCompute(ComputeQuery<? extends T> query, Class<? extends T> clazz) {
-        return RemoteComputeJob.of(runSingle(query, clazz));
+    @Nullable
+    private Number runNumber(ComputeQuery<?> query) {
+        return (Number) Iterators.getOnlyElement(run(query));
     }
 
-    private <T> ComputeJob<T> runComputeUnchecked(ComputeQuery<? extends T> query) {
-        return RemoteComputeJob.of(runSingleUnchecked(query));
+    /**
+     * Each path is sent as an {@link Answer} whose variables are the positions of the concepts in the path
+     */
+    private List<List<Concept>> runPaths(ComputeQuery<?> query) {
+        List<List<Concept>> paths = new ArrayList<>();
+
+        run(query).forEachRemaining(part -> {
+            Answer answer = (Answer) part;
+            List<Concept> path = new ArrayList<>(answer.size());
+            for (int i = 0; i < answer.size(); i++) {
+                path.add(answer.get(Integer.toString(i)));
+            }
+            paths.add(path);
+        });
+
+        return paths;
     }
 
-    private <T> T runSingle(Query<? extends T> query, Class<? extends T> clazz) {
-        return clazz.cast(Iterators.getOnlyElement(run(query)));
+    /**
+     * Read a map of IDs to either sets of IDs or counts, which may be sent in several parts. JSON keys are always
+     * strings, so the given function is used to restore their original type.
+     */
+    private Map<?, ?> runComputeMap(ComputeQuery<?> query, Function<String, ?> keyConverter) {
+        Map<Object, Object> result = new HashMap<>();
+
+        mergeParts(run(query)).forEach((key, value) -> {
+            Object converted;
+            if (value instanceof Collection) {
+                converted = ImmutableSet.copyOf((Collection<?>) value);
+            } else if (value instanceof Number) {
+                converted = ((Number) value).longValue();
+            } else {
+                converted = value;
+            }
+            result.put(keyConverter.apply(key), converted);
+        });
+
+        return result;
+    }
+
+    private static Map<String, Object> mergeParts(Iterator<Object> parts) {
+        Map<String, Object> merged = new HashMap<>();
+
+        parts.forEachRemaining(part -> {
+            ((Map<String, Object>) part).forEach((key, value) -> merged.merge(key, value, (left, right) -> {
+                List<Object> values = new ArrayList<>((Collection<?>) left);
+                values.addAll((Collection<?>) right);
+                return values;
+            }));
+        });
+
+        return merged;
     }
 
-    private <T> T runSingleUnchecked(Query<? extends T> query) {
-        return (T) Iterators.getOnlyElement(run(query));
+    private <T> T runSingle(Query<? extends T> query, Class<? extends T> clazz) {
+        return clazz.cast(Iterators.getOnlyElement(run(query)));
     }
 }
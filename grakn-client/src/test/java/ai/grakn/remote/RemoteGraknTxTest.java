@@ -36,6 +36,7 @@ import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.analytics.DegreeQuery;
 import ai.grakn.grpc.GrpcUtil;
 import ai.grakn.grpc.GrpcUtil.ErrorType;
 import ai.grakn.remote.concept.RemoteConcepts;
@@ -47,6 +48,7 @@ import ai.grakn.rpc.generated.GrpcGrakn.QueryResult;
 import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
 import ai.grakn.rpc.generated.GrpcIterator.IteratorId;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import io.grpc.Metadata;
@@ -58,10 +60,13 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static ai.grakn.graql.Graql.ask;
+import static ai.grakn.graql.Graql.compute;
 import static ai.grakn.graql.Graql.define;
 import static ai.grakn.graql.Graql.label;
 import static ai.grakn.graql.Graql.match;
@@ -187,6 +192,32 @@ public class RemoteGraknTxTest {
         assertEquals(ConceptId.of("V123"), answer.get(var("x")).getId());
     }
 
+    @Test
+    public void whenExecutingADegreeQueryReturnedInParts_GetTheMergedTypedResultBack() {
+        Query<?> query = compute().degree();
+        String queryString = query.toString();
+
+        TxResponse part1 = TxResponse.newBuilder()
+                .setQueryResult(QueryResult.newBuilder().setOtherResult("{\"1\": [\"V1\", \"V2\"]}")).build();
+        TxResponse part2 = TxResponse.newBuilder()
+                .setQueryResult(QueryResult.newBuilder().setOtherResult("{\"1\": [\"V3\"], \"2\": [\"V4\"]}")).build();
+
+        server.setResponseSequence(GrpcUtil.execQueryRequest(query), part1, part2);
+
+        Map<Long, Set<String>> degrees;
+
+        try (GraknTx tx = RemoteGraknTx.create(session, GrpcUtil.openRequest(KEYSPACE, GraknTxType.WRITE))) {
+            verify(server.requests()).onNext(any()); // The open request
+            degrees = tx.graql().<DegreeQuery>parse(queryString).execute();
+        }
+
+        Map<Long, Set<String>> expected = ImmutableMap.of(
+                1L, ImmutableSet.of("V1", "V2", "V3"),
+                2L, ImmutableSet.of("V4")
+        );
+        assertEquals(expected, degrees);
+    }
+
     @Test
     public void whenExecutingAQueryWithAVoidResult_GetANullBack() {
         Query<?> query = match(var("x").isa("person")).delete("x");
@@ -34,10 +34,12 @@ import ai.grakn.concept.Role;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Thing;
 import ai.grakn.concept.Type;
+import ai.grakn.exception.GraknBackendException;
 import ai.grakn.graql.Pattern;
 import ai.grakn.grpc.ConceptMethod;
 import ai.grakn.grpc.ConceptMethods;
 import ai.grakn.grpc.GrpcUtil;
+import ai.grakn.grpc.GrpcUtil.ErrorType;
 import ai.grakn.grpc.RolePlayer;
 import ai.grakn.remote.GrpcServerMock;
 import ai.grakn.remote.RemoteGraknSession;
@@ -46,6 +48,8 @@ import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
 import ai.grakn.util.SimpleURI;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import io.grpc.Metadata;
+import io.grpc.Status;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -74,6 +78,7 @@ import static ai.grakn.grpc.ConceptMethods.IS_INFERRED;
 import static ai.grakn.grpc.GrpcUtil.convertOptionalConcept;
 import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
@@ -81,6 +86,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 
@@ -715,6 +721,74 @@ public class RemoteConceptsTest {
         verifyConceptMethodCalled(ConceptMethods.removeRolePlayer(RolePlayer.create(role, thing)));
     }
 
+    @Test
+    public void whenPrefetchingConceptMethods_SubsequentCallsDoNotGoToTheServer() {
+        mockConceptMethod(GET_DIRECT_TYPE, type);
+        mockConceptMethod(IS_INFERRED, true);
+
+        tx.prefetch(ImmutableSet.of(thing), GET_DIRECT_TYPE, IS_INFERRED);
+
+        assertEquals(type, thing.type());
+        assertTrue(thing.isInferred());
+        assertTrue(thing.isInferred());
+
+        verifyConceptMethodCalled(GET_DIRECT_TYPE);
+        verifyConceptMethodCalled(IS_INFERRED);
+    }
+
+    @Test
+    public void whenPrefetchingAStreamingConceptMethod_TheStreamCanBeReadRepeatedly() {
+        Attribute<?> a = RemoteConcepts.createAttribute(tx, A);
+        Attribute<?> b = RemoteConcepts.createAttribute(tx, B);
+
+        mockConceptMethod(ConceptMethods.GET_ATTRIBUTES, Stream.of(a, b));
+
+        tx.prefetch(ImmutableSet.of(thing), ConceptMethods.GET_ATTRIBUTES);
+
+        assertThat(thing.attributes().collect(toSet()), containsInAnyOrder(a, b));
+        assertThat(thing.attributes().collect(toSet()), containsInAnyOrder(a, b));
+
+        verifyConceptMethodCalled(ConceptMethods.GET_ATTRIBUTES);
+    }
+
+    @Test
+    public void whenWritingAfterPrefetching_TheNextCallGoesToTheServer() {
+        mockConceptMethod(IS_INFERRED, true);
+        tx.prefetch(ImmutableSet.of(thing), IS_INFERRED);
+        assertTrue(thing.isInferred());
+
+        concept.delete();
+
+        mockConceptMethod(IS_INFERRED, false);
+        assertFalse(thing.isInferred());
+    }
+
+    @Test
+    public void whenPrefetchingAndAMiddleRequestFails_AllResponsesAreReadAndTheFailureIsThrown() {
+        mockConceptMethod(GET_DIRECT_TYPE, type);
+        Metadata trailers = new Metadata();
+        trailers.put(ErrorType.KEY, ErrorType.GRAKN_BACKEND_EXCEPTION);
+        server.setResponse(GrpcUtil.runConceptMethodRequest(ID, IS_INFERRED),
+                Status.UNKNOWN.withDescription("the middle request failed").asRuntimeException(trailers));
+        mockConceptMethod(IS_ABSTRACT, false);
+
+        try {
+            tx.prefetch(ImmutableSet.of(thing), GET_DIRECT_TYPE, IS_INFERRED, IS_ABSTRACT);
+            fail("The failure of the middle request should have been thrown");
+        } catch (GraknBackendException e) {
+            assertThat(e.getMessage(), containsString("the middle request failed"));
+        }
+
+        verifyConceptMethodCalled(GET_DIRECT_TYPE);
+        verifyConceptMethodCalled(IS_INFERRED);
+        assertTrue(tx.isClosed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenPrefetchingAWritingConceptMethod_Throw() {
+        tx.prefetch(ImmutableSet.of(concept), ConceptMethods.DELETE);
+    }
+
     private void verifyConceptMethodCalled(ConceptMethod<?> conceptMethod) {
         verify(server.requests()).onNext(GrpcUtil.runConceptMethodRequest(ID, conceptMethod));
     }
@@ -99,6 +99,8 @@ public abstract class GraknConfigKey<T> {
     public static final GraknConfigKey<Integer> TASKS_RETRY_DELAY = key("tasks.retry.delay", INT);
 
     public static final GraknConfigKey<Long> SHARDING_THRESHOLD = key("knowledge-base.sharding-threshold", LONG);
+    public static final GraknConfigKey<List<String>> MATERIALISED_RULES = key("knowledge-base.materialised-rules", CSV);
+    public static final GraknConfigKey<Integer> PARALLEL_BRANCH_THREADS = key("knowledge-base.parallel-branch-threads", INT);
     public static final GraknConfigKey<String> KB_MODE = key("knowledge-base.mode");
     public static final GraknConfigKey<String> KB_ANALYTICS = key("knowledge-base.analytics");
     public static final GraknConfigKey<String> DATA_DIR = key("data-dir");
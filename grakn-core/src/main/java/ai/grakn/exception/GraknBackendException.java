@@ -27,6 +27,7 @@ import static ai.grakn.util.ErrorMessage.BACKEND_EXCEPTION;
 import static ai.grakn.util.ErrorMessage.COULD_NOT_REACH_ENGINE;
 import static ai.grakn.util.ErrorMessage.ENGINE_STARTUP_ERROR;
 import static ai.grakn.util.ErrorMessage.INITIALIZATION_EXCEPTION;
+import static ai.grakn.util.ErrorMessage.LOCK_TIMEOUT;
 
 /**
  * <p>
@@ -81,6 +82,13 @@ public class GraknBackendException extends GraknException {
         return create(String.format("Cannot convert concept {%s} into response object due to it being of an unknown base type", concept));
     }
 
+    /**
+     * Thrown when a lock could not be acquired in time
+     */
+    public static GraknBackendException lockTimeout(String lockName, long timeoutMs){
+        return create(LOCK_TIMEOUT.getMessage(lockName, timeoutMs));
+    }
+
     public static GraknBackendException initializationException(Keyspace keyspace) {
         return create(INITIALIZATION_EXCEPTION.getMessage(keyspace));
     }
@@ -207,6 +207,10 @@ public class GraqlQueryException extends GraknException {
         return new GraqlQueryException(VARIABLE_NOT_IN_QUERY.getMessage(var));
     }
 
+    public static GraqlQueryException boundVarHasValue(Var var) {
+        return create("the variable %s cannot be bound, because it already has a value in the query", var);
+    }
+
     public static GraqlQueryException noTx() {
         return new GraqlQueryException(ErrorMessage.NO_TX.getMessage());
     }
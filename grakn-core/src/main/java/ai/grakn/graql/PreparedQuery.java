@@ -0,0 +1,55 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A Graql query which has been parsed once and can be executed many times with different values bound to its
+ * variables.
+ *
+ * <p>
+ * Binding {@code $e} to {@code "bob@gmail.com"} in {@code match $x has email $e; get;} is the same as executing
+ * {@code match $x has email $e; $e val "bob@gmail.com"; get;}, except the query string is not parsed again and the
+ * query plan is reused.
+ * </p>
+ *
+ * @param <T> The type of query that is built
+ */
+public interface PreparedQuery<T extends Query<?>> {
+
+    /**
+     * @param values the values to bind to variables of the query
+     * @return a query where each variable is bound to the given value
+     */
+    @CheckReturnValue
+    T bind(Map<Var, ?> values);
+
+    /**
+     * @param var the variable to bind
+     * @param value the value to bind the variable to
+     * @return a query where the variable is bound to the given value
+     */
+    @CheckReturnValue
+    default T bind(Var var, Object value) {
+        return bind(Collections.singletonMap(var, value));
+    }
+}
@@ -104,6 +104,13 @@ public interface QueryBuilder {
     @CheckReturnValue
     <T extends Query<?>> T parse(String queryString);
 
+    /**
+     * @param queryString a string representing a query
+     * @return a prepared query, which can be executed many times with different values bound to its variables
+     */
+    @CheckReturnValue
+    <T extends Query<?>> PreparedQuery<T> prepare(String queryString);
+
     /**
      * Enable or disable inference
      */
@@ -113,4 +120,18 @@ public interface QueryBuilder {
      * Enable or disable materialisation
      */
     QueryBuilder materialise(boolean materialise);
+
+    /**
+     * Enable or disable tracking of explanations for inferred answers.
+     * Disabling this saves building explanations that are never looked at.
+     */
+    QueryBuilder explain(boolean explain);
+
+    /**
+     * Enable or disable computing the branches of disjunctive queries concurrently when inferring.
+     * Each branch runs in its own read transaction, so it only sees committed data.
+     * Transactions which have written anything resolve the branches one by one instead, so no writes are missed.
+     * Queries which explain their answers are also resolved one by one, so the explanations are kept.
+     */
+    QueryBuilder parallel(boolean parallel);
 }
@@ -111,6 +111,15 @@ public interface ReasonerQuery{
     @CheckReturnValue
     Stream<Answer> resolve(boolean materialise);
 
+    /**
+     * resolves the query
+     * @param materialise materialisation flag
+     * @param explain whether the answers should carry explanations
+     * @return stream of answers
+     */
+    @CheckReturnValue
+    Stream<Answer> resolve(boolean materialise, boolean explain);
+
     /**
      * Returns a var-type map local to this query. Map is cached.
      * @return map of variable name - corresponding type pairs
@@ -53,13 +53,27 @@ public abstract class CommitLog {
     @JsonProperty("new-attributes")
     public abstract Map<String, Set<ConceptId>> attributes();
 
+    /**
+     * The number of instances removed from each type. Unlike {@link #instanceCount()} this is not offset by the
+     * instances added, so it shows every type which lost an instance.
+     */
+    @JsonProperty("removed-count")
+    public abstract Map<ConceptId, Long> removedCount();
+
+    public static CommitLog create(Keyspace keyspace, Map<ConceptId, Long> instanceCount, Map<String, Set<ConceptId>> newAttributes){
+        return create(keyspace, instanceCount, newAttributes, new HashMap<>());
+    }
+
     @JsonCreator
     public static CommitLog create(
             @JsonProperty("keyspace") Keyspace keyspace,
             @JsonProperty("instance-count") Map<ConceptId, Long> instanceCount,
-            @JsonProperty("new-attributes") Map<String, Set<ConceptId>> newAttributes
+            @JsonProperty("new-attributes") Map<String, Set<ConceptId>> newAttributes,
+            @JsonProperty("removed-count") Map<ConceptId, Long> removedCount
     ){
-        return new AutoValue_CommitLog(keyspace, instanceCount, newAttributes);
+        //Logs from older clients do not contain the removed count
+        if(removedCount == null) removedCount = new HashMap<>();
+        return new AutoValue_CommitLog(keyspace, instanceCount, newAttributes, removedCount);
     }
 
     /**
@@ -67,7 +81,7 @@ public abstract class CommitLog {
      * @return a thread safe {@link CommitLog}
      */
     public static CommitLog createThreadSafe(Keyspace keyspace){
-        return create(keyspace, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        return create(keyspace, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
     }
 
     /**
@@ -75,11 +89,12 @@ public abstract class CommitLog {
      * @return a simple {@link CommitLog}
      */
     public static CommitLog createDefault(Keyspace keyspace){
-        return create(keyspace, new HashMap<>(), new HashMap<>());
+        return create(keyspace, new HashMap<>(), new HashMap<>(), new HashMap<>());
     }
 
     public void clear(){
         instanceCount().clear();
         attributes().clear();
+        removedCount().clear();
     }
 }
@@ -65,6 +65,7 @@ public class REST {
         public static final String CONCEPT_ATTRIBUTES = "/kb/:keyspace/concept/:id/attributes";
         public static final String CONCEPT_KEYS = "/kb/:keyspace/concept/:id/keys";
         public static final String CONCEPT_RELATIONSHIPS = "/kb/:keyspace/concept/:id/relationships";
+        public static final String CONCEPT_ROLEPLAYERS = "/kb/:keyspace/concept/:id/roleplayers";
 
         public static final String TYPE_LABEL = "/kb/:keyspace/type/:label";
         public static final String TYPE_SUBS = "/kb/:keyspace/type/:label/subs";
@@ -97,6 +98,8 @@ public class REST {
         public static final String KEYSPACE_PARAM = "keyspace";
         public static final String LIMIT_PARAMETER = "limit";
         public static final String OFFSET_PARAMETER = "offset";
+        public static final String CURSOR_PARAMETER = "cursor";
+        public static final String EXPLAIN_PARAMETER = "explain";
         public static final String FORMAT = "format";
 
         /**
@@ -167,6 +167,7 @@ public final class Schema {
         IS_ABSTRACT(Boolean.class), IS_IMPLICIT(Boolean.class), IS_INFERRED(Boolean.class),
         REGEX(String.class), DATA_TYPE(String.class), CURRENT_LABEL_ID(Integer.class),
         RULE_WHEN(String.class), RULE_THEN(String.class), CURRENT_SHARD(String.class),
+        FENCING_TOKEN(Long.class),
 
         //Supported Data Types
         VALUE_STRING(String.class), VALUE_LONG(Long.class),
@@ -195,7 +196,13 @@ public final class Schema {
         ROLE_LABEL_ID(Integer.class),
         RELATIONSHIP_TYPE_LABEL_ID(Integer.class),
         REQUIRED(Boolean.class),
-        IS_INFERRED(Boolean.class);
+        IS_INFERRED(Boolean.class),
+
+        //The ids of the concepts at either end of an edge, used to page through the edges of a vertex in the order of
+        //its vertex-centric indices
+        INSTANCE_ID(String.class),
+        RELATIONSHIP_ID(String.class),
+        ROLE_PLAYER_ID(String.class);
 
         private final Class dataType;
 
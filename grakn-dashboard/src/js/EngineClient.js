@@ -125,7 +125,7 @@ export default {
   graqlQuery(query: string) {
     // In get queries we are also attaching a limit for the embedded objects of the resulting nodes, this is not the query limit.
     return this.request({
-      url: `/kb/${User.getCurrentKeySpace()}/graql?infer=${User.getReasonerStatus()}&defineAllVars=true`,
+      url: `/kb/${User.getCurrentKeySpace()}/graql?infer=${User.getReasonerStatus()}&explain=${User.getReasonerStatus()}&defineAllVars=true`,
       requestType: 'POST',
       data: query,
     });
@@ -134,7 +134,7 @@ export default {
   getExplanation(query: string) {
     // In get queries we are also attaching a limit for the embedded objects of the resulting nodes, this is not the query limit.
     return this.request({
-      url: `/kb/${User.getCurrentKeySpace()}/explain?query=${query}`,
+      url: `/kb/${User.getCurrentKeySpace()}/explain?query=${query}&explain=true`,
       requestType: 'GET',
     });
   },
@@ -24,7 +24,7 @@ import ai.grakn.engine.data.QueueSanityCheck;
 import ai.grakn.engine.data.RedisSanityCheck;
 import ai.grakn.engine.data.RedisWrapper;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
-import ai.grakn.engine.lock.JedisLockProvider;
+import ai.grakn.engine.lock.JedisFencedLockProvider;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.rpc.GrpcGraknService;
 import ai.grakn.engine.rpc.GrpcOpenRequestExecutorImpl;
@@ -36,18 +36,22 @@ import ai.grakn.engine.task.postprocessing.IndexPostProcessor;
 import ai.grakn.engine.task.postprocessing.IndexStorage;
 import ai.grakn.engine.task.postprocessing.PostProcessingTask;
 import ai.grakn.engine.task.postprocessing.PostProcessor;
+import ai.grakn.engine.task.postprocessing.RulePostProcessor;
 import ai.grakn.engine.task.postprocessing.redisstorage.RedisCountStorage;
 import ai.grakn.engine.task.postprocessing.redisstorage.RedisIndexStorage;
 import ai.grakn.engine.util.EngineID;
 import ai.grakn.factory.SystemKeyspaceSession;
 import ai.grakn.grpc.GrpcOpenRequestExecutor;
 import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
 import spark.Service;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * This is a factory class which contains methods for instantiating a {@link GraknEngineServer} in different ways.
@@ -55,6 +59,9 @@ import java.util.Collections;
  * @author Michele Orsi
  */
 public class GraknEngineServerFactory {
+    //The number of types which can be waiting to be sharded before commit log submissions start sharding themselves
+    private static final int SHARDING_QUEUE_SIZE = 1000;
+
     /**
      * Create a {@link GraknEngineServer} configured for Grakn Core. Grakn Queue (which is needed for post-processing and distributed locks) is implemented with Redis as the backend store
      *
@@ -73,7 +80,7 @@ public class GraknEngineServerFactory {
         QueueSanityCheck queueSanityCheck = new RedisSanityCheck(redisWrapper);
 
         // distributed locks
-        LockProvider lockProvider = new JedisLockProvider(redisWrapper.getJedisPool());
+        LockProvider lockProvider = new JedisFencedLockProvider(redisWrapper.getJedisPool());
 
 
         SystemKeyspaceSession systemKeyspaceSession = new GraknSystemKeyspaceSession(config);
@@ -87,8 +94,11 @@ public class GraknEngineServerFactory {
         IndexStorage indexStorage =  RedisIndexStorage.create(redisWrapper.getJedisPool(), metricRegistry);
         CountStorage countStorage = RedisCountStorage.create(redisWrapper.getJedisPool(), metricRegistry);
         IndexPostProcessor indexPostProcessor = IndexPostProcessor.create(lockProvider, indexStorage);
-        CountPostProcessor countPostProcessor = CountPostProcessor.create(config, engineGraknTxFactory, lockProvider, metricRegistry, countStorage);
-        PostProcessor postProcessor = PostProcessor.create(indexPostProcessor, countPostProcessor);
+        ExecutorService shardingExecutor = CountPostProcessor.shardingExecutor(config.getProperty(GraknConfigKey.POST_PROCESSOR_POOL_SIZE), SHARDING_QUEUE_SIZE, metricRegistry);
+        CountPostProcessor countPostProcessor = CountPostProcessor.create(config, engineGraknTxFactory, lockProvider, metricRegistry, countStorage, shardingExecutor);
+        ExecutorService ruleExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("rule-post-processor-%d").setDaemon(true).build());
+        RulePostProcessor rulePostProcessor = RulePostProcessor.create(config, engineGraknTxFactory, lockProvider, indexPostProcessor, countPostProcessor, metricRegistry, ruleExecutor);
+        PostProcessor postProcessor = PostProcessor.create(indexPostProcessor, countPostProcessor, rulePostProcessor);
 
         // http services: spark, http controller, and gRPC server
         Service sparkHttp = Service.ignite();
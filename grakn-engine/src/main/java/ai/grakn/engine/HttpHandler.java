@@ -87,10 +87,8 @@ public class HttpHandler {
     }
 
     protected void startCollaborators() {
-        JacksonPrinter printer = JacksonPrinter.create();
-
         // Start all the DEFAULT controllers
-        new GraqlController(factory, postProcessor, printer, metricRegistry).start(spark);
+        new GraqlController(factory, postProcessor, JacksonPrinter::create, metricRegistry).start(spark);
         new ConceptController(factory, metricRegistry).start(spark);
         new SystemController(prop, factory.keyspaceStore(), graknEngineStatus, metricRegistry).start(spark);
         new CommitLogController(postProcessor).start(spark);
@@ -28,10 +28,10 @@ import spark.Service;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * A controller which core submits commit logs to so we can post-process jobs for cleanup.
+ * The response is sent once the commit log has been recorded. Any resulting sharding happens in the background.
  *
  * @author Filipe Peliz Pinto Teixeira
  */
@@ -48,7 +48,7 @@ public class CommitLogController implements HttpController {
     @Path("/kb/{keyspace}/commit_log")
     private String submitConcepts(Request req) throws IOException {
         CommitLog commitLog = mapper.readValue(req.body(), CommitLog.class);
-        CompletableFuture.allOf(CompletableFuture.runAsync(() -> postProcessor.submit(commitLog))).join();
+        postProcessor.submit(commitLog);
         return "";
     }
 
@@ -33,18 +33,25 @@ import ai.grakn.engine.controller.response.Link;
 import ai.grakn.engine.controller.response.ListResource;
 import ai.grakn.engine.controller.response.RolePlayer;
 import ai.grakn.engine.controller.response.Things;
+import ai.grakn.engine.controller.util.Cursor;
 import ai.grakn.engine.controller.util.Requests;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.exception.GraknServerException;
+import ai.grakn.kb.internal.concept.ThingImpl;
 import ai.grakn.util.REST.WebPath;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import spark.Request;
 import spark.Response;
 import spark.Service;
 
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -53,6 +60,8 @@ import java.util.stream.Stream;
 import static ai.grakn.GraknTxType.READ;
 import static ai.grakn.engine.controller.util.Requests.mandatoryPathParameter;
 import static ai.grakn.engine.controller.util.Requests.queryParameter;
+import static ai.grakn.util.REST.Request.CURSOR_PARAMETER;
+import static ai.grakn.util.REST.Request.EXPLAIN_PARAMETER;
 import static ai.grakn.util.REST.Request.ID_PARAMETER;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
 import static ai.grakn.util.REST.Request.LABEL_PARAMETER;
@@ -72,11 +81,15 @@ import static org.apache.http.HttpStatus.SC_OK;
  * @author Filipe Peliz Pinto Teixeira
  */
 public class ConceptController implements HttpController {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Responses are written straight to the response stream, which is closed by Spark rather than Jackson
+    private static final ObjectMapper objectMapper =
+            new ObjectMapper().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
     private EngineGraknTxFactory factory;
     private Timer conceptIdGetTimer;
     private Timer labelGetTimer;
     private Timer instancesGetTimer;
+    private Timer relationshipsGetTimer;
+    private Timer rolePlayersGetTimer;
 
     public ConceptController(EngineGraknTxFactory factory,
                              MetricRegistry metricRegistry){
@@ -84,6 +97,8 @@ public class ConceptController implements HttpController {
         this.conceptIdGetTimer = metricRegistry.timer(name(ConceptController.class, "concept-by-identifier"));
         this.labelGetTimer = metricRegistry.timer(name(ConceptController.class, "concept-by-label"));
         this.instancesGetTimer = metricRegistry.timer(name(ConceptController.class, "instances-of-type"));
+        this.relationshipsGetTimer = metricRegistry.timer(name(ConceptController.class, "relationships-of-thing"));
+        this.rolePlayersGetTimer = metricRegistry.timer(name(ConceptController.class, "role-players-of-relationship"));
     }
 
     @Override
@@ -100,6 +115,7 @@ public class ConceptController implements HttpController {
         spark.get(WebPath.CONCEPT_ATTRIBUTES, this::getAttributes);
         spark.get(WebPath.CONCEPT_KEYS, this::getKeys);
         spark.get(WebPath.CONCEPT_RELATIONSHIPS, this::getRelationships);
+        spark.get(WebPath.CONCEPT_ROLEPLAYERS, this::getRolePlayers);
 
         spark.get(WebPath.TYPE_INSTANCES, this::getTypeInstances);
         spark.get(WebPath.TYPE_PLAYS, this::getTypePlays);
@@ -111,47 +127,154 @@ public class ConceptController implements HttpController {
         spark.get(WebPath.RULE_SUBS, this::getSchemaConceptSubs);
     }
 
-    private String getTypeAttributes(Request request, Response response) throws JsonProcessingException {
+    private String getTypeAttributes(Request request, Response response) throws IOException {
         Function<ai.grakn.concept.Type, Stream<Jacksonisable>> collector = type -> type.attributes().map(ConceptBuilder::build);
         return getConceptCollection(request, response, "attributes", buildTypeGetter(request), collector);
     }
 
-    private String getTypeKeys(Request request, Response response) throws JsonProcessingException {
+    private String getTypeKeys(Request request, Response response) throws IOException {
         Function<ai.grakn.concept.Type, Stream<Jacksonisable>> collector = type -> type.keys().map(ConceptBuilder::build);
         return getConceptCollection(request, response, "keys", buildTypeGetter(request), collector);
     }
 
-    private String getTypePlays(Request request, Response response) throws JsonProcessingException {
+    private String getTypePlays(Request request, Response response) throws IOException {
         Function<ai.grakn.concept.Type, Stream<Jacksonisable>> collector = type -> type.plays().map(ConceptBuilder::build);
         return getConceptCollection(request, response, "plays", buildTypeGetter(request), collector);
     }
 
-    private String getRelationships(Request request, Response response) throws JsonProcessingException {
-        //TODO: Figure out how to incorporate offset and limit
-        Function<ai.grakn.concept.Thing, Stream<Jacksonisable>> collector = thing -> thing.plays().flatMap(role -> {
-            Link roleWrapper = Link.create(role);
-            return thing.relationships(role).map(relationship -> {
-                Link relationshipWrapper = Link.create(relationship);
-                return RolePlayer.create(roleWrapper, relationshipWrapper);
-            });
+    private String getRelationships(Request request, Response response) throws IOException {
+        response.type(APPLICATION_JSON);
+
+        Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
+        Optional<Cursor> cursor = getCursor(request);
+        int limit = getLimit(request);
+
+        try (GraknTx tx = factory.tx(keyspace, READ); Timer.Context context = relationshipsGetTimer.time()) {
+            ai.grakn.concept.Thing thing = buildThingGetter(request).apply(tx);
+
+            //If the concept was not found return;
+            if(thing == null){
+                response.status(SC_NOT_FOUND);
+                return "[]";
+            }
+
+            // We get one extra relationship so we can check if there is a next page
+            List<Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Relationship>> page =
+                    relationshipsAfter(thing, cursor, limit + 1L).limit(limit + 1L).collect(Collectors.toList());
+
+            Link next = null;
+            if(page.size() == limit + 1){
+                page.remove(page.size() - 1);
+                if(!page.isEmpty()) {
+                    Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Relationship> last = page.get(page.size() - 1);
+                    Cursor nextCursor = Cursor.of(last.getKey().getLabel().getValue(), last.getValue().getId());
+                    next = Link.createRelationshipsLink(thing, nextCursor, limit);
+                }
+            }
+
+            List<RolePlayer> relationships = page.stream().
+                    map(entry -> RolePlayer.create(Link.create(entry.getKey()), Link.create(entry.getValue()))).
+                    collect(Collectors.toList());
+
+            ListResource<RolePlayer> listResource = ListResource.create(Requests.selfLink(request), "relationships", relationships, next);
+            response.status(SC_OK);
+            return write(response, listResource);
+        }
+    }
+
+    private String getRolePlayers(Request request, Response response) throws IOException {
+        response.type(APPLICATION_JSON);
+
+        Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
+        Optional<Cursor> cursor = getCursor(request);
+        int limit = getLimit(request);
+
+        try (GraknTx tx = factory.tx(keyspace, READ); Timer.Context context = rolePlayersGetTimer.time()) {
+            ai.grakn.concept.Thing thing = buildThingGetter(request).apply(tx);
+
+            //If the relationship was not found return;
+            if(thing == null || !thing.isRelationship()){
+                response.status(SC_NOT_FOUND);
+                return "[]";
+            }
+            ai.grakn.concept.Relationship relationship = thing.asRelationship();
+
+            // We get one extra role player so we can check if there is a next page
+            List<Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Thing>> page =
+                    ConceptBuilder.rolePlayersAfter(relationship, cursor, limit + 1L).limit(limit + 1L).collect(Collectors.toList());
+
+            Link next = null;
+            if(page.size() == limit + 1){
+                page.remove(page.size() - 1);
+                if(!page.isEmpty()) {
+                    Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Thing> last = page.get(page.size() - 1);
+                    Cursor nextCursor = Cursor.of(last.getKey().getLabel().getValue(), last.getValue().getId());
+                    next = Link.createRolePlayersLink(relationship, nextCursor, limit);
+                }
+            }
+
+            List<RolePlayer> rolePlayers = page.stream().
+                    map(entry -> RolePlayer.create(Link.create(entry.getKey()), Link.create(entry.getValue()))).
+                    collect(Collectors.toList());
+
+            ListResource<RolePlayer> listResource = ListResource.create(Requests.selfLink(request), "roleplayers", rolePlayers, next);
+            response.status(SC_OK);
+            return write(response, listResource);
+        }
+    }
+
+    /**
+     * Streams the {@link ai.grakn.concept.Relationship}s of a {@link ai.grakn.concept.Thing} grouped by the
+     * {@link ai.grakn.concept.Role} played. When a {@link Cursor} is provided the {@link ai.grakn.concept.Role}s
+     * preceding the {@link Cursor}'s {@link ai.grakn.concept.Role} are skipped and the edge index of that
+     * {@link ai.grakn.concept.Role} is seeked, so the {@link ai.grakn.concept.Relationship}s of previous pages are not read.
+     *
+     * @throws GraknServerException if the {@link Cursor}'s {@link ai.grakn.concept.Role} cannot be played by the
+     * {@link ai.grakn.concept.Thing}
+     */
+    private static Stream<Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Relationship>> relationshipsAfter(
+            ai.grakn.concept.Thing thing, Optional<Cursor> cursor, long limit
+    ){
+        List<ai.grakn.concept.Role> roles = thing.type().plays().
+                sorted(Comparator.comparing(role -> role.getLabel().getValue())).
+                collect(Collectors.toList());
+
+        int start = 0;
+        if(cursor.isPresent()) {
+            String label = cursor.get().partition();
+            while(start < roles.size() && !roles.get(start).getLabel().getValue().equals(label)) start++;
+            if(start == roles.size()) throw GraknServerException.requestInvalidParameter(CURSOR_PARAMETER, cursor.get().encode());
+        }
+
+        ThingImpl<?, ?> thingImpl = (ThingImpl<?, ?>) thing;
+        ai.grakn.concept.Role first = roles.isEmpty() ? null : roles.get(start);
+        return roles.subList(start, roles.size()).stream().flatMap(role -> {
+            ConceptId last = cursor.isPresent() && role.equals(first) ? cursor.get().last() : null;
+            return thingImpl.relationshipsAfter(role, last, limit).
+                    map(relationship -> new AbstractMap.SimpleImmutableEntry<>(role, relationship));
         });
-        return this.getConceptCollection(request, response, "relationships", buildThingGetter(request), collector);
     }
 
-    private String getKeys(Request request, Response response) throws JsonProcessingException {
-        return getAttributes(request, response, thing -> thing.keys());
+    private String getKeys(Request request, Response response) throws IOException {
+        return getAttributes(request, response, thing -> thing.keys().map(Attribute::getId));
     }
 
-    private String getAttributes(Request request, Response response) throws JsonProcessingException {
-        return getAttributes(request, response, thing -> thing.attributes());
+    private String getAttributes(Request request, Response response) throws IOException {
+        return getAttributes(request, response, thing -> ((ThingImpl<?, ?>) thing).attributeIds());
     }
 
-    private String getAttributes(Request request, Response response, Function<ai.grakn.concept.Thing,  Stream<Attribute<?>>> attributeFetcher) throws JsonProcessingException {
+    /**
+     * Pages over the ids of the attributes, so only the {@link Attribute}s on the requested page are built
+     */
+    private String getAttributes(Request request, Response response, Function<ai.grakn.concept.Thing,  Stream<ConceptId>> attributeIdFetcher) throws IOException {
         int offset = getOffset(request);
         int limit = getLimit(request);
 
-        Function<ai.grakn.concept.Thing, Stream<Jacksonisable>> collector = thing ->
-                attributeFetcher.apply(thing).skip(offset).limit(limit).map(EmbeddedAttribute::create);
+        Function<ai.grakn.concept.Thing, Stream<Jacksonisable>> collector = thing -> {
+            GraknTx tx = ((ThingImpl<?, ?>) thing).vertex().tx();
+            return attributeIdFetcher.apply(thing).skip(offset).limit(limit).
+                    map(id -> EmbeddedAttribute.create(tx.<Attribute<?>>getConcept(id)));
+        };
 
         return this.getConceptCollection(request, response, "attributes", buildThingGetter(request), collector);
     }
@@ -159,7 +282,7 @@ public class ConceptController implements HttpController {
     private <X extends ai.grakn.concept.Concept> String getConceptCollection(
             Request request, Response response, String key,
             Function<GraknTx, X> getter, Function<X, Stream<Jacksonisable>> collector
-    ) throws JsonProcessingException {
+    ) throws IOException {
         response.type(APPLICATION_JSON);
 
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
@@ -178,23 +301,25 @@ public class ConceptController implements HttpController {
 
             ListResource<Jacksonisable> listResource = ListResource.create(link, key, list);
 
-            return objectMapper.writeValueAsString(listResource);
+            return write(response, listResource);
         }
     }
 
-    private String getSchemaConceptSubs(Request request, Response response) throws JsonProcessingException {
+    private String getSchemaConceptSubs(Request request, Response response) throws IOException {
         Function<ai.grakn.concept.SchemaConcept, Stream<Jacksonisable>> collector = schema -> schema.subs().map(ConceptBuilder::build);
         return getConceptCollection(request, response, "subs", buildSchemaConceptGetter(request), collector);
     }
 
-    private String getTypeInstances(Request request, Response response) throws JsonProcessingException {
+    private String getTypeInstances(Request request, Response response) throws IOException {
         response.type(APPLICATION_JSON);
 
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
         Label label = Label.of(mandatoryPathParameter(request, LABEL_PARAMETER));
 
+        Optional<Cursor> cursor = getCursor(request);
         int offset = getOffset(request);
         int limit = getLimit(request);
+        boolean explain = getExplain(request);
 
         try (GraknTx tx = factory.tx(keyspace, READ); Timer.Context context = instancesGetTimer.time()) {
             Type type = tx.getType(label);
@@ -205,12 +330,21 @@ public class ConceptController implements HttpController {
             }
 
             //Get the wrapper
-            Things things = ConceptBuilder.buildThings(type, offset, limit);
+            Things things;
+            if(cursor.isPresent()){
+                things = ConceptBuilder.buildThings(type, cursor.get(), limit, explain);
+            } else {
+                things = ConceptBuilder.buildThings(type, offset, limit, explain);
+            }
             response.status(SC_OK);
-            return objectMapper.writeValueAsString(things);
+            return write(response, things);
         }
     }
 
+    private Optional<Cursor> getCursor(Request request){
+        return queryParameter(request, CURSOR_PARAMETER).map(Cursor::decode);
+    }
+
     private int getOffset(Request request){
         return getIntegerQueryParameter(request, OFFSET_PARAMETER, 0);
     }
@@ -219,35 +353,39 @@ public class ConceptController implements HttpController {
         return getIntegerQueryParameter(request, LIMIT_PARAMETER, 100);
     }
 
+    private boolean getExplain(Request request){
+        return queryParameter(request, EXPLAIN_PARAMETER).map(Boolean::parseBoolean).orElse(false);
+    }
+
     private int getIntegerQueryParameter(Request request, String parameter, int defaultValue){
         Optional<String> value = queryParameter(request, parameter);
         return value.map(Integer::parseInt).orElse(defaultValue);
     }
 
-    private String getSchemaByLabel(Request request, Response response) throws JsonProcessingException {
+    private String getSchemaByLabel(Request request, Response response) throws IOException {
         Requests.validateRequest(request, APPLICATION_ALL, APPLICATION_JSON);
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
         Label label = Label.of(mandatoryPathParameter(request, LABEL_PARAMETER));
-        return getConcept(response, keyspace, (tx) -> tx.getSchemaConcept(label));
+        return getConcept(response, keyspace, (tx) -> tx.getSchemaConcept(label), false);
     }
 
-    private String getConceptById(Request request, Response response) throws JsonProcessingException {
+    private String getConceptById(Request request, Response response) throws IOException {
         Requests.validateRequest(request, APPLICATION_ALL, APPLICATION_JSON);
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
         ConceptId conceptId = ConceptId.of(mandatoryPathParameter(request, ID_PARAMETER));
-        return getConcept(response, keyspace, (tx) -> tx.getConcept(conceptId));
+        return getConcept(response, keyspace, (tx) -> tx.getConcept(conceptId), getExplain(request));
     }
 
-    private String getConcept(Response response, Keyspace keyspace, Function<GraknTx, ai.grakn.concept.Concept> getter) throws JsonProcessingException {
+    private String getConcept(Response response, Keyspace keyspace, Function<GraknTx, ai.grakn.concept.Concept> getter, boolean explain) throws IOException {
         response.type(APPLICATION_JSON);
 
         try (GraknTx tx = factory.tx(keyspace, READ); Timer.Context context = conceptIdGetTimer.time()) {
             ai.grakn.concept.Concept concept = getter.apply(tx);
 
-            Optional<Concept> conceptWrapper = Optional.ofNullable(concept).map(ConceptBuilder::build);
+            Optional<Concept> conceptWrapper = Optional.ofNullable(concept).map(c -> ConceptBuilder.<Concept>build(c, explain));
             if(conceptWrapper.isPresent()){
                 response.status(SC_OK);
-                return objectMapper.writeValueAsString(conceptWrapper.get());
+                return write(response, conceptWrapper.get());
             } else {
                 response.status(SC_NOT_FOUND);
                 return "";
@@ -255,22 +393,22 @@ public class ConceptController implements HttpController {
         }
     }
 
-    private String getTypes(Request request, Response response) throws JsonProcessingException {
+    private String getTypes(Request request, Response response) throws IOException {
         return getConcepts(request, response, "types", (tx) -> tx.admin().getMetaConcept().subs());
     }
 
-    private String getRules(Request request, Response response) throws JsonProcessingException {
+    private String getRules(Request request, Response response) throws IOException {
         return getConcepts(request, response, "rules", (tx) -> tx.admin().getMetaRule().subs());
     }
 
-    private String getRoles(Request request, Response response) throws JsonProcessingException {
+    private String getRoles(Request request, Response response) throws IOException {
         return getConcepts(request, response, "roles", (tx) -> tx.admin().getMetaRole().subs());
     }
 
     private String getConcepts(
             Request request, Response response, String key,
             Function<GraknTx, Stream<? extends ai.grakn.concept.Concept>> getter
-    ) throws JsonProcessingException {
+    ) throws IOException {
         response.type(APPLICATION_JSON);
 
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
@@ -279,10 +417,20 @@ public class ConceptController implements HttpController {
             List<Concept> concepts = getter.apply(tx).map(ConceptBuilder::<Concept>build).collect(Collectors.toList());
             ListResource list = ListResource.create(Requests.selfLink(request), key, concepts);
             response.status(SC_OK);
-            return objectMapper.writeValueAsString(list);
+            return write(response, list);
         }
     }
 
+    /**
+     * Serialises the response object straight into the body of the response, so the page is never held as a string
+     *
+     * @return An empty string, as the body has already been written
+     */
+    private static String write(Response response, Object body) throws IOException {
+        objectMapper.writeValue(response.raw().getOutputStream(), body);
+        return "";
+    }
+
     /**
      * Helper method used to build a function which will get a {@link ai.grakn.concept.SchemaConcept} by {@link Label}
      *
@@ -68,6 +68,7 @@ import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -75,6 +76,7 @@ import static ai.grakn.engine.controller.util.Requests.mandatoryBody;
 import static ai.grakn.engine.controller.util.Requests.mandatoryPathParameter;
 import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
 import static ai.grakn.engine.controller.util.Requests.queryParameter;
+import static ai.grakn.util.REST.Request.EXPLAIN_PARAMETER;
 import static ai.grakn.util.REST.Request.Graql.ALLOW_MULTIPLE_QUERIES;
 import static ai.grakn.util.REST.Request.Graql.DEFINE_ALL_VARS;
 import static ai.grakn.util.REST.Request.Graql.EXECUTE_WITH_INFERENCE;
@@ -101,18 +103,19 @@ public class GraqlController implements HttpController {
     private static final Logger LOG = LoggerFactory.getLogger(GraqlController.class);
     private static final RetryLogger retryLogger = new RetryLogger();
     private static final int MAX_RETRY = 10;
-    private final Printer<?> printer;
+    private final Function<Boolean, Printer<?>> printers;
     private final EngineGraknTxFactory factory;
     private final PostProcessor postProcessor;
     private final Timer executeGraql;
     private final Timer executeExplanation;
 
     public GraqlController(
-            EngineGraknTxFactory factory, PostProcessor postProcessor, Printer<?> printer, MetricRegistry metricRegistry
+            EngineGraknTxFactory factory, PostProcessor postProcessor, Function<Boolean, Printer<?>> printers,
+            MetricRegistry metricRegistry
     ) {
         this.factory = factory;
         this.postProcessor = postProcessor;
-        this.printer = printer;
+        this.printers = printers;
         this.executeGraql = metricRegistry.timer(name(GraqlController.class, "execute-graql"));
         this.executeExplanation = metricRegistry.timer(name(GraqlController.class, "execute-explanation"));
     }
@@ -135,13 +138,14 @@ public class GraqlController implements HttpController {
     private String explainGraql(Request request, Response response) throws RetryException, ExecutionException {
         Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
         String queryString = mandatoryQueryParameter(request, QUERY);
+        boolean explain = getExplain(request);
 
         response.status(SC_OK);
 
         return executeFunctionWithRetrying(() -> {
             try (GraknTx tx = factory.tx(keyspace, GraknTxType.WRITE); Timer.Context context = executeExplanation.time()) {
                 Answer answer = tx.graql().infer(true).parser().<GetQuery>parseQuery(queryString).execute().stream().findFirst().orElse(new QueryAnswer());
-                return mapper.writeValueAsString(ExplanationBuilder.buildExplanation(answer));
+                return mapper.writeValueAsString(ExplanationBuilder.buildExplanation(answer, explain));
             }
         });
     }
@@ -161,6 +165,9 @@ public class GraqlController implements HttpController {
         //Define all anonymous variables in the query
         Optional<Boolean> defineAllVars = queryParameter(request, DEFINE_ALL_VARS).map(Boolean::parseBoolean);
 
+        //Build the queries explaining inferred concepts in the results
+        boolean explain = getExplain(request);
+
         //Used to check if serialisation of results is needed. When loading we skip this for the sake of speed
         boolean skipSerialisation = parseBoolean(queryParameter(request, LOADING_DATA).orElse("false"));
 
@@ -194,7 +201,7 @@ public class GraqlController implements HttpController {
 
                 response.status(SC_OK);
 
-                return executeQuery(tx, queryString, acceptType, multiQuery, skipSerialisation, parser);
+                return executeQuery(tx, queryString, acceptType, multiQuery, skipSerialisation, explain, parser);
             } finally {
                 LOG.debug("Executed graql query");
             }
@@ -252,12 +259,13 @@ public class GraqlController implements HttpController {
      * @param queryString read query to be executed
      * @param acceptType  response format that the client will accept
      * @param multi       execute multiple statements
+     * @param explain     build the queries explaining inferred concepts in the results
      * @param parser
      */
-    private String executeQuery(EmbeddedGraknTx<?> tx, String queryString, String acceptType, boolean multi, boolean skipSerialisation, QueryParser parser) throws JsonProcessingException {
+    private String executeQuery(EmbeddedGraknTx<?> tx, String queryString, String acceptType, boolean multi, boolean skipSerialisation, boolean explain, QueryParser parser) throws JsonProcessingException {
 
         // By default use Jackson printer
-        Printer<?> printer = this.printer;
+        Printer<?> printer = printers.apply(explain);
 
         if (APPLICATION_TEXT.equals(acceptType)) printer = Printers.graql(false);
 
@@ -293,6 +301,10 @@ public class GraqlController implements HttpController {
         return formatted;
     }
 
+    private static boolean getExplain(Request request) {
+        return queryParameter(request, EXPLAIN_PARAMETER).map(Boolean::parseBoolean).orElse(false);
+    }
+
     private Object executeAndMonitor(Query<?> query) {
         return query.execute();
     }
@@ -44,10 +44,14 @@ public abstract class Answer {
         return new AutoValue_Answer(conceptMap);
     }
 
-    public static Answer create(ai.grakn.graql.admin.Answer answer){
+    /**
+     * @param answer The {@link ai.grakn.graql.admin.Answer} to wrap
+     * @param explain Whether to build the queries explaining the inferred {@link ai.grakn.concept.Thing}s in it
+     */
+    public static Answer create(ai.grakn.graql.admin.Answer answer, boolean explain){
         Map<String, Concept> conceptMap = answer.map().entrySet().stream().collect(Collectors.toMap(
                 entry -> entry.getKey().getValue(),
-                entry -> ConceptBuilder.build(entry.getValue())
+                entry -> ConceptBuilder.build(entry.getValue(), explain)
         ));
         return create(conceptMap);
     }
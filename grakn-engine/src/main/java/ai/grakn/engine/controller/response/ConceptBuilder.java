@@ -18,15 +18,29 @@
 
 package ai.grakn.engine.controller.response;
 
+import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.controller.util.Cursor;
 import ai.grakn.exception.GraknBackendException;
+import ai.grakn.exception.GraknServerException;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.internal.reasoner.utils.conversion.ConceptConverter;
+import ai.grakn.kb.internal.concept.RelationshipImpl;
+import ai.grakn.kb.internal.concept.ThingImpl;
+import ai.grakn.kb.internal.concept.TypeImpl;
 import ai.grakn.util.Schema;
 
-import java.util.HashSet;
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static ai.grakn.util.REST.Request.CURSOR_PARAMETER;
 
 /**
  * <p>
@@ -38,17 +52,34 @@ import java.util.stream.Collectors;
 public class ConceptBuilder {
 
     /**
-     * Takes a {@link ai.grakn.concept.Concept} and returns the equivalent response object
+     * The number of role players embedded in a {@link Relationship}. The rest are linked to.
+     */
+    public static final int EMBEDDED_ROLE_PLAYERS = 100;
+
+    /**
+     * Takes a {@link ai.grakn.concept.Concept} and returns the equivalent response object, without explaining
+     * inferred {@link ai.grakn.concept.Thing}s
      *
      * @param concept The {@link ai.grakn.concept.Concept} to be converted into a response object
      * @return the response object wrapper {@link Concept}
      */
     public static <X extends Concept> X build(ai.grakn.concept.Concept concept){
+        return build(concept, false);
+    }
+
+    /**
+     * Takes a {@link ai.grakn.concept.Concept} and returns the equivalent response object
+     *
+     * @param concept The {@link ai.grakn.concept.Concept} to be converted into a response object
+     * @param explain Whether to build the query explaining an inferred {@link ai.grakn.concept.Thing}
+     * @return the response object wrapper {@link Concept}
+     */
+    public static <X extends Concept> X build(ai.grakn.concept.Concept concept, boolean explain){
         Concept response;
         if(concept.isSchemaConcept()){
             response = buildSchemaConcept(concept.asSchemaConcept());
         } else if (concept.isThing()) {
-            response = buildThing(concept.asThing());
+            response = buildThing(concept.asThing(), explain);
         } else {
             throw GraknBackendException.convertingUnknownConcept(concept);
         }
@@ -61,9 +92,10 @@ public class ConceptBuilder {
      * response object
      *
      * @param type The {@link ai.grakn.concept.Type} to extract the {@link ai.grakn.concept.Thing}s from
+     * @param explain Whether to build the queries explaining inferred {@link ai.grakn.concept.Thing}s
      * @return The wrapper of the {@link ai.grakn.concept.Thing}s
      */
-    public static Things buildThings(ai.grakn.concept.Type type, int offset, int limit){
+    public static Things buildThings(ai.grakn.concept.Type type, int offset, int limit, boolean explain){
         Link selfLink = Link.createInstanceLink(type, offset, limit);
 
         Link previous = null;
@@ -75,19 +107,81 @@ public class ConceptBuilder {
         }
 
         //TODO: This does not actually scale. The DB is still read in this instance
-        List<Thing> things = type.instances().skip(offset).limit(limit + 1L).
-                map(ConceptBuilder::buildThing).collect(Collectors.toList());
+        Link next = Link.createInstanceLink(type, offset + limit, limit);
+        return buildThings(type.instances().skip(offset), last -> next, selfLink, previous, limit, explain);
+    }
+
+    /**
+     * Gets the instances of a specific {@link ai.grakn.concept.Type} which follow a {@link Cursor} and wraps them
+     * in a {@link Things} response object. Unlike paging by offset this does not read the instances of previous pages.
+     *
+     * @param type The {@link ai.grakn.concept.Type} to extract the {@link ai.grakn.concept.Thing}s from
+     * @param cursor The {@link Cursor} pointing to the last {@link ai.grakn.concept.Thing} of the previous page
+     * @param explain Whether to build the queries explaining inferred {@link ai.grakn.concept.Thing}s
+     * @return The wrapper of the {@link ai.grakn.concept.Thing}s
+     * @throws GraknServerException if the {@link Cursor} does not point to a shard of the {@link ai.grakn.concept.Type}
+     */
+    public static Things buildThings(ai.grakn.concept.Type type, Cursor cursor, int limit, boolean explain){
+        Link selfLink = Link.createInstanceLink(type, cursor, limit);
+        Stream<? extends ai.grakn.concept.Thing> instances = TypeImpl.from(type).
+                instancesAfter(cursor.partition(), cursor.last(), limit + 1L).
+                orElseThrow(() -> GraknServerException.requestInvalidParameter(CURSOR_PARAMETER, cursor.encode()));
+        Function<ai.grakn.concept.Thing, Link> next =
+                last -> Link.createInstanceLink(type, Cursor.of(((ThingImpl<?, ?>) last).shard().id(), last.getId()), limit);
+        return buildThings(instances, next, selfLink, null, limit, explain);
+    }
+
+    private static Things buildThings(
+            Stream<? extends ai.grakn.concept.Thing> instances, Function<ai.grakn.concept.Thing, Link> nextLink,
+            Link selfLink, @Nullable Link previous, int limit, boolean explain
+    ){
+        List<ai.grakn.concept.Thing> page = instances.limit(limit + 1L).collect(Collectors.toList());
 
         // We get one extra instance and then remove it so we can sneakily check if there is a next page
-        boolean hasNextPage = things.size() == limit + 1;
-        Link next = hasNextPage ? Link.createInstanceLink(type, offset + limit, limit) : null;
-        if (things.size() == limit + 1) things.remove(things.size() - 1);
+        Link next = null;
+        if (page.size() == limit + 1) {
+            page.remove(page.size() - 1);
+            if (!page.isEmpty()) next = nextLink.apply(page.get(page.size() - 1));
+        }
 
+        List<Thing> things = page.stream().map(thing -> buildThing(thing, explain)).collect(Collectors.toList());
         return Things.create(selfLink, things, next, previous);
     }
 
-    //TODO: This will scale poorly with super nodes. Need to introduce some sort of paging maybe?
-    private static Thing buildThing(ai.grakn.concept.Thing thing) {
+    /**
+     * Streams the role players of a {@link ai.grakn.concept.Relationship} grouped by the {@link ai.grakn.concept.Role}
+     * they play. When a {@link Cursor} is provided the {@link ai.grakn.concept.Role}s preceding the {@link Cursor}'s
+     * {@link ai.grakn.concept.Role} are skipped without reading their role players, and the role players preceding
+     * the {@link Cursor}'s role player are skipped using the role player index.
+     *
+     * @param limit The maximum number of role players to read per {@link ai.grakn.concept.Role}
+     * @throws GraknServerException if the {@link Cursor}'s {@link ai.grakn.concept.Role} is not related by the
+     * {@link ai.grakn.concept.Relationship}
+     */
+    public static Stream<Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Thing>> rolePlayersAfter(
+            ai.grakn.concept.Relationship relationship, Optional<Cursor> cursor, long limit
+    ){
+        List<ai.grakn.concept.Role> roles = relationship.type().relates().
+                sorted(Comparator.comparing(role -> role.getLabel().getValue())).
+                collect(Collectors.toList());
+
+        int start = 0;
+        if(cursor.isPresent()) {
+            String label = cursor.get().partition();
+            while(start < roles.size() && !roles.get(start).getLabel().getValue().equals(label)) start++;
+            if(start == roles.size()) throw GraknServerException.requestInvalidParameter(CURSOR_PARAMETER, cursor.get().encode());
+        }
+
+        RelationshipImpl relationshipImpl = RelationshipImpl.from(relationship);
+        ai.grakn.concept.Role first = roles.isEmpty() ? null : roles.get(start);
+        return roles.subList(start, roles.size()).stream().flatMap(role -> {
+            ConceptId last = cursor.isPresent() && role.equals(first) ? cursor.get().last() : null;
+            return relationshipImpl.rolePlayersAfter(role, last, limit).
+                    map(rolePlayer -> new AbstractMap.SimpleImmutableEntry<>(role, rolePlayer));
+        });
+    }
+
+    private static Thing buildThing(ai.grakn.concept.Thing thing, boolean explain) {
         Link selfLink = Link.create(thing);
         EmbeddedSchemaConcept type = EmbeddedSchemaConcept.create(thing.type());
         Link attributes = Link.createAttributesLink(thing);
@@ -95,7 +189,7 @@ public class ConceptBuilder {
         Link relationships = Link.createRelationshipsLink(thing);
 
         String explanation = null;
-        if(thing.isInferred()) explanation = Graql.match(ConceptConverter.toPattern(thing)).get().toString();
+        if(explain && thing.isInferred()) explanation = Graql.match(ConceptConverter.toPattern(thing)).get().toString();
 
         if(thing.isAttribute()){
             return buildAttribute(thing.asAttribute(), selfLink, type, attributes, keys, relationships, explanation);
@@ -134,13 +228,22 @@ public class ConceptBuilder {
     }
 
     private static Relationship buildRelationship(ai.grakn.concept.Relationship relationship, Link selfLink, EmbeddedSchemaConcept type, Link attributes, Link keys, Link relationships, String explanation){
-        //Get all the role players and roles part of this relationship
-        Set<RolePlayer> roleplayers = new HashSet<>();
-        relationship.allRolePlayers().forEach((role, things) -> {
-            Link roleLink = Link.create(role);
-            things.forEach(thing -> roleplayers.add(RolePlayer.create(roleLink, Link.create(thing))));
-        });
-        return Relationship.create(relationship.getId(), selfLink, type, attributes, keys, relationships, relationship.isInferred(), explanation, roleplayers);
+        //Only embed the first page of role players, so a relationship with very many of them is still cheap to build
+        List<Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Thing>> page = rolePlayersAfter(relationship, Optional.empty(), EMBEDDED_ROLE_PLAYERS + 1L).
+                limit(EMBEDDED_ROLE_PLAYERS + 1L).collect(Collectors.toList());
+
+        Link next = null;
+        if(page.size() == EMBEDDED_ROLE_PLAYERS + 1){
+            page.remove(page.size() - 1);
+            Map.Entry<ai.grakn.concept.Role, ai.grakn.concept.Thing> last = page.get(page.size() - 1);
+            Cursor cursor = Cursor.of(last.getKey().getLabel().getValue(), last.getValue().getId());
+            next = Link.createRolePlayersLink(relationship, cursor, EMBEDDED_ROLE_PLAYERS);
+        }
+
+        Set<RolePlayer> roleplayers = page.stream().
+                map(entry -> RolePlayer.create(Link.create(entry.getKey()), Link.create(entry.getValue()))).
+                collect(Collectors.toSet());
+        return Relationship.create(relationship.getId(), selfLink, type, attributes, keys, relationships, relationship.isInferred(), explanation, roleplayers, next);
     }
 
     private static Type buildType(ai.grakn.concept.Type type, Link selfLink, EmbeddedSchemaConcept sup, Link subs){
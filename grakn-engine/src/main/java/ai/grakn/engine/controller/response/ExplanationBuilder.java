@@ -39,7 +39,12 @@ import java.util.List;
  */
 public class ExplanationBuilder {
 
-    public static List<Answer> buildExplanation(ai.grakn.graql.admin.Answer queryAnswer) {
+    /**
+     * @param queryAnswer The {@link ai.grakn.graql.admin.Answer} to explain
+     * @param explain Whether to build the queries explaining the inferred {@link ai.grakn.concept.Thing}s in the
+     *                explanation, so that they can be explained in turn
+     */
+    public static List<Answer> buildExplanation(ai.grakn.graql.admin.Answer queryAnswer, boolean explain) {
         final List<Answer> explanation = new ArrayList<>();
         queryAnswer.getExplanation().getAnswers().forEach(answer -> {
             AnswerExplanation expl = answer.getExplanation();
@@ -59,7 +64,7 @@ public class ExplanationBuilder {
                         .flatMap(unifier -> rewrittenQuery.materialise(answer.unify(unifier)))
                         .findFirst().orElse(new QueryAnswer());
             }
-            explanation.add(Answer.create(inferredAnswer));
+            explanation.add(Answer.create(inferredAnswer, explain));
         });
         return explanation;
     }
@@ -19,6 +19,7 @@
 package ai.grakn.engine.controller.response;
 
 import ai.grakn.engine.Jacksonisable;
+import ai.grakn.engine.controller.util.Cursor;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
 import ai.grakn.util.REST;
 import ai.grakn.util.REST.WebPath;
@@ -107,6 +108,35 @@ public abstract class Link implements Jacksonisable{
         return create(REST.resolveTemplate(WebPath.CONCEPT_RELATIONSHIPS, thing.keyspace().getValue(), thing.getId().getValue()));
     }
 
+    /**
+     * Creates a link to get the next page of {@link Relationship}s of a {@link Thing}
+     */
+    public static Link createRelationshipsLink(ai.grakn.concept.Thing thing, Cursor cursor, int limit){
+        ImmutableMap<String, Object> params = ImmutableMap.of(
+                REST.Request.CURSOR_PARAMETER, cursor.encode(), REST.Request.LIMIT_PARAMETER, limit
+        );
+
+        return create(createRelationshipsLink(thing), params);
+    }
+
+    /**
+     * Creates a link to fetch all the {@link RolePlayer}s of a {@link Relationship}
+     */
+    public static Link createRolePlayersLink(ai.grakn.concept.Relationship relationship){
+        return create(REST.resolveTemplate(WebPath.CONCEPT_ROLEPLAYERS, relationship.keyspace().getValue(), relationship.getId().getValue()));
+    }
+
+    /**
+     * Creates a link to get the next page of {@link RolePlayer}s of a {@link Relationship}
+     */
+    public static Link createRolePlayersLink(ai.grakn.concept.Relationship relationship, Cursor cursor, int limit){
+        ImmutableMap<String, Object> params = ImmutableMap.of(
+                REST.Request.CURSOR_PARAMETER, cursor.encode(), REST.Request.LIMIT_PARAMETER, limit
+        );
+
+        return create(createRolePlayersLink(relationship), params);
+    }
+
     /**
      * Creates a link to fetch the instances of a {@link Type}
      */
@@ -129,6 +159,17 @@ public abstract class Link implements Jacksonisable{
         return create(createInstanceLink(type), params);
     }
 
+    /**
+     * Creates a link to get the paged instances of a {@link Type} which follow the provided {@link Cursor}
+     */
+    public static Link createInstanceLink(ai.grakn.concept.Type type, Cursor cursor, int limit){
+        ImmutableMap<String, Object> params = ImmutableMap.of(
+                REST.Request.CURSOR_PARAMETER, cursor.encode(), REST.Request.LIMIT_PARAMETER, limit
+        );
+
+        return create(createInstanceLink(type), params);
+    }
+
     /**
      * Creates a link to get all the subs of a {@link SchemaConcept}
      */
@@ -34,6 +34,7 @@ import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -66,8 +67,18 @@ public abstract class ListResource<T> extends JsonSerializable.Base {
 
     public abstract List<T> items();
 
+    /**
+     * A link to the next page of items, if the items are paged and there is a next page
+     */
+    @Nullable
+    public abstract Link next();
+
     public static <T> ListResource<T> create(Link selfLink, String key, List<T> items) {
-        return new AutoValue_ListResource<>(selfLink, key, ImmutableList.copyOf(items));
+        return create(selfLink, key, items, null);
+    }
+
+    public static <T> ListResource<T> create(Link selfLink, String key, List<T> items, @Nullable Link next) {
+        return new AutoValue_ListResource<>(selfLink, key, ImmutableList.copyOf(items), next);
     }
 
     @Override
@@ -75,6 +86,7 @@ public abstract class ListResource<T> extends JsonSerializable.Base {
         gen.writeStartObject();
         gen.writeObjectField("@id", selfLink());
         gen.writeObjectField(key(), items());
+        if (next() != null) gen.writeObjectField("next", next());
         gen.writeEndObject();
     }
 
@@ -87,7 +99,7 @@ public abstract class ListResource<T> extends JsonSerializable.Base {
 
     static class Deserializer<T> extends JsonDeserializer<ListResource<T>> {
 
-        private static final ImmutableSet<String> RECOGNISED_KEYS = ImmutableSet.of("@id");
+        private static final ImmutableSet<String> RECOGNISED_KEYS = ImmutableSet.of("@id", "next");
 
         @Override
         public ListResource<T> deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
@@ -109,7 +121,8 @@ public abstract class ListResource<T> extends JsonSerializable.Base {
             List<T> items = value.traverse().readValueAs(new TypeReference<List<T>>(){});
 
             Link selfLink = node.get("@id").traverse().readValueAs(Link.class);
-            return ListResource.create(selfLink, key, items);
+            Link next = node.has("next") ? node.get("next").traverse().readValueAs(Link.class) : null;
+            return ListResource.create(selfLink, key, items, next);
         }
     }
 }
@@ -37,9 +37,19 @@ import java.util.Set;
 @AutoValue
 public abstract class Relationship extends Thing {
 
+    /**
+     * The first page of the role players of the {@link ai.grakn.concept.Relationship}
+     */
     @JsonProperty
     public abstract Set<RolePlayer> roleplayers();
 
+    /**
+     * A link to the next page of role players, if they did not all fit in {@link #roleplayers()}
+     */
+    @Nullable
+    @JsonProperty("roleplayers-next")
+    public abstract Link roleplayersNext();
+
     @JsonCreator
     public static Relationship create(
             @JsonProperty("id") ConceptId id,
@@ -50,7 +60,8 @@ public abstract class Relationship extends Thing {
             @JsonProperty("relationships") Link relationships,
             @JsonProperty("inferred") boolean inferred,
             @Nullable @JsonProperty("explanation-query")  String explanation,
-            @JsonProperty("roleplayers") Set<RolePlayer> roleplayers){
-        return new AutoValue_Relationship(Schema.BaseType.RELATIONSHIP.name(), id, selfLink, type, attributes, keys, relationships, inferred, explanation, roleplayers);
+            @JsonProperty("roleplayers") Set<RolePlayer> roleplayers,
+            @Nullable @JsonProperty("roleplayers-next") Link roleplayersNext){
+        return new AutoValue_Relationship(Schema.BaseType.RELATIONSHIP.name(), id, selfLink, type, attributes, keys, relationships, inferred, explanation, roleplayers, roleplayersNext);
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.controller.util;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.GraknServerException;
+import com.google.auto.value.AutoValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static ai.grakn.util.REST.Request.CURSOR_PARAMETER;
+
+/**
+ * <p>
+ *     An opaque continuation token used to page through large collections of {@link ai.grakn.concept.Concept}s
+ * </p>
+ *
+ * <p>
+ *     A {@link Cursor} records the partition the last returned {@link ai.grakn.concept.Concept} was found in
+ *     and the {@link ConceptId} of that {@link ai.grakn.concept.Concept}. For the instances of a type the partition
+ *     is the id of a shard, for the relationships of a thing it is the label of the role played.
+ *     This means fetching the next page does not require re-reading every previous page.
+ * </p>
+ */
+@AutoValue
+public abstract class Cursor {
+    private static final String SEPARATOR = "\n";
+
+    public abstract String partition();
+
+    public abstract ConceptId last();
+
+    public static Cursor of(String partition, ConceptId last){
+        return new AutoValue_Cursor(partition, last);
+    }
+
+    /**
+     * @return The url safe string representation of this {@link Cursor}
+     */
+    public String encode(){
+        String raw = partition() + SEPARATOR + last().getValue();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a {@link Cursor} which has been previously encoded using {@link Cursor#encode()}
+     *
+     * @param value the encoded {@link Cursor}
+     * @return the decoded {@link Cursor}
+     * @throws GraknServerException if the value is not a valid {@link Cursor}
+     */
+    public static Cursor decode(String value){
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e){
+            throw GraknServerException.requestInvalidParameter(CURSOR_PARAMETER, value);
+        }
+
+        int split = raw.lastIndexOf(SEPARATOR);
+        if(split <= 0 || split == raw.length() - 1){
+            throw GraknServerException.requestInvalidParameter(CURSOR_PARAMETER, value);
+        }
+
+        return of(raw.substring(0, split), ConceptId.of(raw.substring(split + 1)));
+    }
+}
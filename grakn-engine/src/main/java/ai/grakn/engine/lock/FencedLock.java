@@ -0,0 +1,57 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import java.util.OptionalLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * <p>
+ *     A {@link Lock} which is granted in the order it was requested and which issues a fencing token on acquisition
+ * </p>
+ *
+ * <p>
+ *     Fencing tokens strictly increase every time the same named lock is acquired. They can be passed along with any
+ *     writes made under the lock so that writes from a holder whose lease has expired can be detected and rejected.
+ * </p>
+ */
+public interface FencedLock extends Lock {
+
+    /**
+     *
+     * @return The fencing token issued when this lock was last acquired
+     */
+    long fencingToken();
+
+    /**
+     * Extends the lease of this lock if it is still held.
+     *
+     * @return true if the lock is still held and its lease was extended
+     */
+    boolean renew();
+
+    /**
+     * @param lock A held {@link Lock}
+     * @return The fencing token of the {@link Lock} if it is a {@link FencedLock}, or nothing if it cannot be fenced
+     */
+    static OptionalLong tokenOf(Lock lock) {
+        if (lock instanceof FencedLock) return OptionalLong.of(((FencedLock) lock).fencingToken());
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import ai.grakn.exception.GraknBackendException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+
+/**
+ * <p>
+ *     A fair, fenced distributed lock backed by Redis
+ * </p>
+ *
+ * <p>
+ *     Unlike {@link JedisLock} this lock does not poll Redis in a sleep loop. Every acquirer takes a ticket, which
+ *     also serves as its fencing token, and joins a queue ordered by ticket. Only the head of the queue may take the
+ *     lock. On release the holder pushes a notification onto a list owned by the next ticket in the queue, which is
+ *     waiting on that list with a blocking pop. All state transitions are performed by Lua scripts so they are atomic.
+ * </p>
+ *
+ * <p>
+ *     The lock is held on a lease which is renewed in the background while it is held, so long running work such
+ *     as merging duplicate attributes does not lose the lock. If the holding engine dies the lease expires and the
+ *     next waiter takes over.
+ * </p>
+ */
+public class JedisFencedLock implements FencedLock {
+    private static final Logger LOG = LoggerFactory.getLogger(JedisFencedLock.class);
+
+    // How long lock() waits before giving up, so a stuck queue surfaces as an error rather than a hung thread
+    private static final long DEFAULT_TIMEOUT_MS = 60_000L;
+    private static final long DEFAULT_LEASE_MS = 60_000L;
+    // How long a waiter is kept in the queue without checking in before it is considered dead
+    private static final long WAITER_TIMEOUT_MS = 5_000L;
+    // Waiters re-check the lock at least this often in case a holder or waiter has died without notifying
+    private static final int MAX_WAIT_SECONDS = 1;
+    private static final long SHORT_WAIT_MS = 50L;
+
+    private static final ScheduledExecutorService RENEWER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("fenced-lock-renewer-%s").setDaemon(true).build());
+
+    private static final String ENQUEUE_SCRIPT =
+            "local ticket = redis.call('incr', KEYS[1]) " +
+            "redis.call('zadd', KEYS[2], ticket, ticket) " +
+            "redis.call('hset', KEYS[3], ticket, ARGV[1]) " +
+            "return ticket";
+
+    private static final String ACQUIRE_SCRIPT =
+            "redis.call('hset', KEYS[3], ARGV[1], ARGV[4]) " +
+            "while true do " +
+            "  local head = redis.call('zrange', KEYS[2], 0, 0)[1] " +
+            "  if not head or head == ARGV[1] then break end " +
+            "  local deadline = tonumber(redis.call('hget', KEYS[3], head)) " +
+            "  if deadline and deadline >= tonumber(ARGV[3]) then break end " +
+            "  redis.call('zrem', KEYS[2], head) " +
+            "  redis.call('hdel', KEYS[3], head) " +
+            "end " +
+            "local head = redis.call('zrange', KEYS[2], 0, 0)[1] " +
+            "if head == ARGV[1] and redis.call('exists', KEYS[1]) == 0 then " +
+            "  redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "  redis.call('zrem', KEYS[2], ARGV[1]) " +
+            "  redis.call('hdel', KEYS[3], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0";
+
+    private static final String DEQUEUE_SCRIPT =
+            "redis.call('zrem', KEYS[1], ARGV[1]) " +
+            "redis.call('hdel', KEYS[2], ARGV[1]) " +
+            "redis.call('del', KEYS[3]) " +
+            "return 1";
+
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('del', KEYS[1]) " +
+            "local head = redis.call('zrange', KEYS[2], 0, 0)[1] " +
+            "if head then " +
+            "  local notify = ARGV[2] .. head " +
+            "  redis.call('rpush', notify, 1) " +
+            "  redis.call('pexpire', notify, ARGV[3]) " +
+            "end " +
+            "return 1";
+
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "return 1";
+
+    private final Pool<Jedis> jedis;
+    private final String lockName;
+    private final long leaseMs;
+    private final long timeoutMs;
+
+    // All keys share the same hash tag so that they live in the same slot
+    private final String holderKey;
+    private final String ticketKey;
+    private final String queueKey;
+    private final String deadlineKey;
+    private final String notifyKeyPrefix;
+
+    private long token = -1;
+    private boolean locked = false;
+    private @Nullable ScheduledFuture<?> renewal = null;
+
+    public JedisFencedLock(Pool<Jedis> jedis, String lockName) {
+        this(jedis, lockName, DEFAULT_LEASE_MS, DEFAULT_TIMEOUT_MS);
+    }
+
+    @VisibleForTesting
+    JedisFencedLock(Pool<Jedis> jedis, String lockName, long leaseMs, long timeoutMs) {
+        Preconditions.checkNotNull(jedis,"JedisPool used in lock cannot be null");
+        Preconditions.checkArgument(lockName != null && !lockName.isEmpty(),"Lock name not valid");
+        this.jedis = jedis;
+        this.lockName = lockName;
+        this.leaseMs = leaseMs;
+        this.timeoutMs = timeoutMs;
+
+        String base = "fenced-lock:{" + lockName + "}";
+        this.holderKey = base;
+        this.ticketKey = base + ":tickets";
+        this.queueKey = base + ":queue";
+        this.deadlineKey = base + ":deadlines";
+        this.notifyKeyPrefix = base + ":notify:";
+    }
+
+    /**
+     * Waits for the lock for at most a minute
+     *
+     * @throws GraknBackendException if the lock could not be acquired in time
+     */
+    @Override
+    public void lock() {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (acquire(Math.max(0, deadline - System.currentTimeMillis()))) return;
+                    throw GraknBackendException.lockTimeout(lockName, timeoutMs);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for the lock until it is acquired or the thread is interrupted
+     */
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        acquire(Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean tryLock() {
+        try {
+            return acquire(0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        Preconditions.checkNotNull(unit);
+        return acquire(unit.toMillis(time));
+    }
+
+    @Override
+    public synchronized void unlock() {
+        if (!locked) return;
+
+        if (renewal != null) {
+            renewal.cancel(false);
+            renewal = null;
+        }
+        locked = false;
+
+        try (Jedis r = jedis.getResource()) {
+            r.eval(RELEASE_SCRIPT, ImmutableList.of(holderKey, queueKey),
+                    ImmutableList.of(String.valueOf(token), notifyKeyPrefix, String.valueOf(WAITER_TIMEOUT_MS)));
+        }
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public synchronized long fencingToken() {
+        return token;
+    }
+
+    @Override
+    public synchronized boolean renew() {
+        if (!locked) return false;
+
+        try (Jedis r = jedis.getResource()) {
+            Object renewed = r.eval(RENEW_SCRIPT, ImmutableList.of(holderKey),
+                    ImmutableList.of(String.valueOf(token), String.valueOf(leaseMs)));
+            if (Long.valueOf(1L).equals(renewed)) return true;
+        }
+
+        LOG.warn("Lease of lock {} with token {} expired before it was renewed", lockName, token);
+        locked = false;
+        return false;
+    }
+
+    public String getLockName() {
+        return lockName;
+    }
+
+    /**
+     * Joins the queue for this lock and waits until this ticket reaches the head of the queue and the lock is free.
+     *
+     * @param timeoutMs how long to wait for the lock, {@link Long#MAX_VALUE} to wait until it is acquired
+     * @return true if the lock was acquired
+     */
+    private boolean acquire(long timeoutMs) throws InterruptedException {
+        long now = System.currentTimeMillis();
+        long deadline = timeoutMs > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeoutMs;
+
+        try (Jedis r = jedis.getResource()) {
+            long ticket = (Long) r.eval(ENQUEUE_SCRIPT, ImmutableList.of(ticketKey, queueKey, deadlineKey),
+                    ImmutableList.of(String.valueOf(System.currentTimeMillis() + WAITER_TIMEOUT_MS)));
+            String notifyKey = notifyKeyPrefix + ticket;
+
+            try {
+                while (true) {
+                    if (tryAcquire(r, ticket)) {
+                        r.del(notifyKey);
+                        return true;
+                    }
+
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) return false;
+                    if (Thread.interrupted()) throw new InterruptedException();
+
+                    if (remaining < TimeUnit.SECONDS.toMillis(MAX_WAIT_SECONDS)) {
+                        // Blocking pops have a resolution of a second so short waits fall back to a brief sleep
+                        Thread.sleep(Math.min(remaining, SHORT_WAIT_MS));
+                    } else {
+                        // Blocks until the previous holder notifies us or we need to check in again
+                        r.blpop(MAX_WAIT_SECONDS, notifyKey);
+                    }
+                }
+            } finally {
+                if (!isHeldBy(ticket)) {
+                    r.eval(DEQUEUE_SCRIPT, ImmutableList.of(queueKey, deadlineKey, notifyKey),
+                            ImmutableList.of(String.valueOf(ticket)));
+                }
+            }
+        }
+    }
+
+    private synchronized boolean isHeldBy(long ticket) {
+        return locked && token == ticket;
+    }
+
+    private synchronized boolean tryAcquire(Jedis r, long ticket) {
+        long now = System.currentTimeMillis();
+        Object acquired = r.eval(ACQUIRE_SCRIPT, ImmutableList.of(holderKey, queueKey, deadlineKey), ImmutableList.of(
+                String.valueOf(ticket), String.valueOf(leaseMs), String.valueOf(now), String.valueOf(now + WAITER_TIMEOUT_MS)));
+
+        if (!Long.valueOf(1L).equals(acquired)) return false;
+
+        token = ticket;
+        locked = true;
+        long period = leaseMs / 3;
+        renewal = RENEWER.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew()) cancelRenewal();
+            } catch (RuntimeException e) {
+                LOG.warn("Could not renew lease of lock " + lockName, e);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private synchronized void cancelRenewal() {
+        if (renewal != null) {
+            renewal.cancel(false);
+            renewal = null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+/**
+ * Provider for {@link JedisFencedLock}
+ */
+public class JedisFencedLockProvider implements LockProvider {
+
+    private Pool<Jedis> client;
+
+    public JedisFencedLockProvider(Pool<Jedis> client) {
+        this.client = client;
+    }
+
+    @Override
+    public FencedLock getLock(String lockName) {
+        return new JedisFencedLock(client, lockName);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+
+/**
+ * <p>
+ *     In-process stand-in for {@link JedisFencedLockProvider}
+ * </p>
+ *
+ * <p>
+ *     Locks with the same name share a fair {@link Semaphore}, so waiters are granted the lock in the order they
+ *     asked for it and are woken on release. Fencing tokens are issued from a single counter rather than one per
+ *     name, so they keep increasing even after an unused name has been evicted and is locked again.
+ *     Leases never expire because the lock cannot outlive the process holding it.
+ * </p>
+ */
+public class ProcessWideFencedLockProvider implements LockProvider {
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final LoadingCache<String, LockState> states = CacheBuilder.newBuilder().weakValues().build(
+            new CacheLoader<String, LockState>() {
+                @Override
+                public LockState load(String lockName) {
+                    return new LockState();
+                }
+            });
+
+    @Override
+    public FencedLock getLock(String lockName) {
+        Preconditions.checkArgument(lockName != null && !lockName.isEmpty(),"Lock name not valid");
+        return new ProcessWideFencedLock(lockName, states.getUnchecked(lockName), tokens);
+    }
+
+    /**
+     * The state shared by all the {@link ProcessWideFencedLock}s with the same name
+     */
+    private static class LockState {
+        private final Semaphore semaphore = new Semaphore(1, true);
+    }
+
+    /**
+     * A {@link FencedLock} which is only fenced within the current process
+     */
+    static class ProcessWideFencedLock implements FencedLock {
+        private final String lockName;
+        private final LockState state;
+        private final AtomicLong tokens;
+        private long token = -1;
+        private boolean locked = false;
+
+        private ProcessWideFencedLock(String lockName, LockState state, AtomicLong tokens) {
+            this.lockName = lockName;
+            this.state = state;
+            this.tokens = tokens;
+        }
+
+        @Override
+        public void lock() {
+            state.semaphore.acquireUninterruptibly();
+            acquired();
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            state.semaphore.acquire();
+            acquired();
+        }
+
+        @Override
+        public boolean tryLock() {
+            // Barging would break the ordering of waiters so a timed acquire with no timeout is used instead
+            try {
+                return tryLock(0, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            if (!state.semaphore.tryAcquire(time, unit)) return false;
+            acquired();
+            return true;
+        }
+
+        @Override
+        public synchronized void unlock() {
+            if (!locked) return;
+            locked = false;
+            state.semaphore.release();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized long fencingToken() {
+            return token;
+        }
+
+        @Override
+        public synchronized boolean renew() {
+            return locked;
+        }
+
+        public String getLockName() {
+            return lockName;
+        }
+
+        private synchronized void acquired() {
+            token = tokens.incrementAndGet();
+            locked = true;
+        }
+    }
+}
@@ -42,8 +42,21 @@ import java.util.stream.Stream;
 public class JacksonPrinter implements Printer<Object>{
     private static ObjectMapper mapper = new ObjectMapper();
 
+    private final boolean explain;
+
+    private JacksonPrinter(boolean explain){
+        this.explain = explain;
+    }
+
     public static JacksonPrinter create(){
-        return new JacksonPrinter();
+        return create(false);
+    }
+
+    /**
+     * @param explain Whether to build the queries explaining inferred {@link ai.grakn.concept.Thing}s
+     */
+    public static JacksonPrinter create(boolean explain){
+        return new JacksonPrinter(explain);
     }
 
     @Override
@@ -57,12 +70,12 @@ public class JacksonPrinter implements Printer<Object>{
 
     @Override
     public Object build(Concept concept) {
-        return ConceptBuilder.build(concept);
+        return ConceptBuilder.build(concept, explain);
     }
 
     @Override
     public Object build(ai.grakn.graql.admin.Answer answer) {
-        return Answer.create(answer);
+        return Answer.create(answer, explain);
     }
 
     @Override
@@ -20,24 +20,44 @@ package ai.grakn.engine.rpc;
 
 import ai.grakn.concept.Concept;
 import ai.grakn.graql.GraqlConverter;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.Streamable;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.analytics.PathQuery;
+import ai.grakn.graql.analytics.PathsQuery;
 import ai.grakn.graql.internal.printer.Printers;
 import ai.grakn.grpc.GrpcUtil;
 import ai.grakn.rpc.generated.GrpcConcept;
 import ai.grakn.rpc.generated.GrpcGrakn;
 import ai.grakn.rpc.generated.GrpcGrakn.QueryResult;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Converts to GRPC result format. This is a special format for {@link Answer}s, but JSON strings for everything else.
  *
+ * <p>
+ *     Results that can grow with the size of the graph are split into several {@link QueryResult}s by
+ *     {@link #convertInParts(Query, Object)}, so that no single gRPC message has to hold all of them.
+ * </p>
+ *
  * @author Felix Chapman
  */
 class GrpcConverter implements GraqlConverter<Object, QueryResult> {
 
+    /**
+     * The most map entries or collection elements put in a single {@link QueryResult} when splitting a map
+     */
+    static final int MAX_ELEMENTS_PER_RESULT = 10_000;
+
     private GrpcConverter() {
 
     }
@@ -56,6 +76,83 @@ class GrpcConverter implements GraqlConverter<Object, QueryResult> {
         }
     }
 
+    /**
+     * Convert the result of a query that is not {@link Streamable} into a sequence of {@link QueryResult}s, or return
+     * nothing if the result should be sent as a single {@link QueryResult}.
+     *
+     * <p>
+     *     Each path of a {@link PathQuery} or {@link PathsQuery} is sent as an {@link GrpcGrakn.Answer} whose variables
+     *     are the positions in the path. Maps with more than {@link #MAX_ELEMENTS_PER_RESULT} elements, such as large
+     *     {@code compute cluster} or {@code compute degree} results, are split into several maps. A collection value
+     *     may be split across maps under the same key, so the client concatenates values when merging.
+     * </p>
+     */
+    public Optional<Stream<QueryResult>> convertInParts(Query<?> query, Object result) {
+        if (query instanceof PathsQuery) {
+            Collection<List<Concept>> paths = (Collection<List<Concept>>) result;
+            return Optional.of(paths.stream().map(GrpcConverter::convertPath));
+        } else if (query instanceof PathQuery) {
+            Optional<List<Concept>> path = (Optional<List<Concept>>) result;
+            return Optional.of(path.map(GrpcConverter::convertPath).map(Stream::of).orElseGet(Stream::empty));
+        } else if (result instanceof Map && size((Map<?, ?>) result) > MAX_ELEMENTS_PER_RESULT) {
+            return Optional.of(split((Map<?, ?>) result).stream().map(this::convert));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static QueryResult convertPath(List<Concept> path) {
+        GrpcGrakn.Answer.Builder answerRps = GrpcGrakn.Answer.newBuilder();
+        for (int i = 0; i < path.size(); i++) {
+            answerRps.putAnswer(Integer.toString(i), GrpcUtil.convert(path.get(i)));
+        }
+        return QueryResult.newBuilder().setAnswer(answerRps).build();
+    }
+
+    private static int size(Map<?, ?> map) {
+        int size = 0;
+        for (Object value : map.values()) {
+            size += value instanceof Collection ? ((Collection<?>) value).size() : 1;
+        }
+        return size;
+    }
+
+    private static List<Map<Object, Object>> split(Map<?, ?> map) {
+        List<Map<Object, Object>> parts = new ArrayList<>();
+        Map<Object, Object> part = new LinkedHashMap<>();
+        int partSize = 0;
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+
+            Iterable<?> pieces;
+            if (value instanceof Collection && !((Collection<?>) value).isEmpty()) {
+                pieces = Iterables.partition((Collection<?>) value, MAX_ELEMENTS_PER_RESULT);
+            } else {
+                pieces = ImmutableList.of(value);
+            }
+
+            for (Object piece : pieces) {
+                int pieceSize = piece instanceof Collection ? ((Collection<?>) piece).size() : 1;
+
+                if (partSize + pieceSize > MAX_ELEMENTS_PER_RESULT && !part.isEmpty()) {
+                    parts.add(part);
+                    part = new LinkedHashMap<>();
+                    partSize = 0;
+                }
+
+                part.put(entry.getKey(), piece);
+                partSize += pieceSize;
+            }
+        }
+
+        if (!part.isEmpty()) {
+            parts.add(part);
+        }
+
+        return parts;
+    }
+
     @Override
     public Concept build(Concept concept) {
         return concept;
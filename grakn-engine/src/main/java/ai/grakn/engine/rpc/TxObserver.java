@@ -246,6 +246,17 @@ class TxObserver implements StreamObserver<TxRequest> {
 
             if (result == null) {
                 responseObserver.onNext(GrpcUtil.doneResponse());
+                return;
+            }
+
+            Optional<Stream<QueryResult>> parts = grpcConverter.convertInParts(query, result);
+
+            if (parts.isPresent()) {
+                Iterator<TxResponse> iterator = parts.get().map(this::txResponse).iterator();
+
+                IteratorId iteratorId = grpcIterators.add(iterator);
+
+                responseObserver.onNext(TxResponse.newBuilder().setIteratorId(iteratorId).build());
             } else {
                 responseObserver.onNext(txResponse(grpcConverter.convert(result)));
             }
@@ -24,17 +24,28 @@ import ai.grakn.Keyspace;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.GraknConfig;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.lock.FencedLock;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.kb.log.CommitLog;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 import static com.codahale.metrics.MetricRegistry.name;
@@ -54,17 +65,54 @@ public class CountPostProcessor {
     private final EngineGraknTxFactory factory;
     private final LockProvider lockProvider;
     private final long shardingThreshold;
+    private final Executor shardingExecutor;
 
-    private CountPostProcessor(GraknConfig engineConfig, EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry, CountStorage countStorage) {
+    //The types which are currently waiting to be sharded. Used to avoid queueing the same type more than once
+    private final Set<String> pendingShards = ConcurrentHashMap.newKeySet();
+
+    private CountPostProcessor(GraknConfig engineConfig, EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry, CountStorage countStorage, Executor shardingExecutor) {
         this.countStorage = countStorage;
         this.shardingThreshold = engineConfig.getProperty(GraknConfigKey.SHARDING_THRESHOLD);
         this.metricRegistry = metricRegistry;
         this.factory = factory;
         this.lockProvider = lockProvider;
+        this.shardingExecutor = shardingExecutor;
     }
 
+    /**
+     * Creates a {@link CountPostProcessor} which shards types on the thread which updates the counts
+     */
     public static CountPostProcessor create(GraknConfig engineConfig, EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry, CountStorage countStorage) {
-        return new CountPostProcessor(engineConfig, factory, lockProvider, metricRegistry, countStorage);
+        return create(engineConfig, factory, lockProvider, metricRegistry, countStorage, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Creates a {@link CountPostProcessor} which shards types using the provided {@link Executor}.
+     * This allows {@link CountPostProcessor#updateCounts(CommitLog)} to return as soon as the counts are stored.
+     */
+    public static CountPostProcessor create(GraknConfig engineConfig, EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry, CountStorage countStorage, Executor shardingExecutor) {
+        return new CountPostProcessor(engineConfig, factory, lockProvider, metricRegistry, countStorage, shardingExecutor);
+    }
+
+    /**
+     * Creates a bounded {@link ExecutorService} for sharding types in the background.
+     * When the queue is full the submitting thread shards the type itself, which pushes back on whoever is submitting
+     * commit logs. The queue size and the number of times this happens are reported through the {@link MetricRegistry}.
+     *
+     * @param threads The number of threads used for sharding
+     * @param queueSize The number of types which can be waiting to be sharded
+     */
+    public static ExecutorService shardingExecutor(int threads, int queueSize, MetricRegistry metricRegistry){
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("count-post-processor-sharding-%d").setDaemon(true).build(),
+                (task, pool) -> {
+                    metricRegistry.meter(name(CountPostProcessor.class, "sharding-queue-full")).mark();
+                    if (!pool.isShutdown()) task.run();
+                });
+
+        metricRegistry.register(name(CountPostProcessor.class, "sharding-queue-size"), (Gauge<Integer>) () -> executor.getQueue().size());
+        return executor;
     }
 
     /**
@@ -100,14 +148,7 @@ public class CountPostProcessor {
             });
 
             //Shard anything which requires sharding
-            conceptToShard.forEach(type -> {
-                Timer.Context contextSharding = metricRegistry.timer("sharding").time();
-                try {
-                    shardConcept(countStorage, factory, commitLog.keyspace(), type, shardingThreshold);
-                } finally {
-                    contextSharding.stop();
-                }
-            });
+            conceptToShard.forEach(type -> submitSharding(commitLog.keyspace(), type));
             LOG.debug("Updating instance count successful for {} tasks", jobs.size());
         } catch(Exception e) {
             LOG.error("Could not terminate task", e);
@@ -115,6 +156,28 @@ public class CountPostProcessor {
         }
     }
 
+    /**
+     * Queues the sharding of a type unless it is already waiting to be sharded.
+     * Sharding re-checks the count once the lock is held so skipping duplicates does not lose any work.
+     */
+    private void submitSharding(Keyspace keyspace, ConceptId conceptId){
+        String key = getLockingKey(keyspace, conceptId);
+        if(!pendingShards.add(key)) return;
+
+        shardingExecutor.execute(() -> {
+            Timer.Context contextSharding = metricRegistry.timer("sharding").time();
+            try {
+                pendingShards.remove(key);
+                shardConcept(countStorage, factory, keyspace, conceptId, shardingThreshold);
+            } catch (RuntimeException e) {
+                LOG.error("Could not shard " + conceptId + " in keyspace " + keyspace, e);
+                throw e;
+            } finally {
+                contextSharding.stop();
+            }
+        });
+    }
+
     /**
      * Updates the type counts in countStorage and checks if sharding is needed.
      *
@@ -144,6 +207,7 @@ public class CountPostProcessor {
                               Keyspace keyspace, ConceptId conceptId, long shardingThreshold){
         Lock engineLock = lockProvider.getLock(getLockingKey(keyspace, conceptId));
         engineLock.lock(); //Try to get the lock
+        OptionalLong fencingToken = FencedLock.tokenOf(engineLock);
 
         try {
             //Check if sharding is still needed. Another engine could have sharded whilst waiting for lock
@@ -152,6 +216,14 @@ public class CountPostProcessor {
 
                 try(EmbeddedGraknTx<?> tx = factory.tx(keyspace, GraknTxType.WRITE)) {
                     tx.shard(conceptId);
+
+                    // a holder whose lease expired while sharding must not add a shard on top of the next holder's.
+                    // The token is compared and written in this tx, so the commit fails if another holder fences first
+                    if(fencingToken.isPresent() && !tx.fence(conceptId, fencingToken.getAsLong())){
+                        LOG.warn("Lock on sharding {} expired before sharding, abandoning shard", conceptId);
+                        return;
+                    }
+
                     tx.commitSubmitNoLogs();
                 }
                 //Update number of shards
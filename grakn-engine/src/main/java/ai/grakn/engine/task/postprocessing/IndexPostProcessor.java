@@ -20,13 +20,18 @@ package ai.grakn.engine.task.postprocessing;
 
 import ai.grakn.GraknTx;
 import ai.grakn.Keyspace;
+import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.lock.FencedLock;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.kb.log.CommitLog;
 import ai.grakn.util.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 
@@ -39,6 +44,7 @@ import java.util.concurrent.locks.Lock;
  * @author Filipe Peliz Pinto Teixeira
  */
 public class IndexPostProcessor {
+    private final static Logger LOG = LoggerFactory.getLogger(IndexPostProcessor.class);
     private final LockProvider lockProvider;
     private final IndexStorage indexStorage;
     private static final String LOCK_KEY = "post-processing-index-lock-%s-%s";
@@ -90,6 +96,7 @@ public class IndexPostProcessor {
             // Lock is acquired after checking for duplicates to reduce runtime
             Lock indexLock = lockProvider.getLock(getLockKey(tx.keyspace(), conceptIndex));
             indexLock.lock();
+            OptionalLong fencingToken = FencedLock.tokenOf(indexLock);
 
             try {
                 // execute the provided post processing method
@@ -102,6 +109,15 @@ public class IndexPostProcessor {
                                 throw new RuntimeException(message);
                             });
 
+                    // a holder whose lease expired while merging must not overwrite the merge of the next holder.
+                    // The token is compared and written on the merged attribute in this tx, so the commit fails if
+                    // another holder fences it first
+                    Optional<Concept> merged = tx.getConcept(Schema.VertexProperty.INDEX, conceptIndex);
+                    if(fencingToken.isPresent() && merged.isPresent() && !tx.fence(merged.get().getId(), fencingToken.getAsLong())){
+                        LOG.warn("Lock on index {} expired before merging, abandoning merge", conceptIndex);
+                        return;
+                    }
+
                     // persist merged concepts
                     tx.commitSubmitNoLogs();
                 }
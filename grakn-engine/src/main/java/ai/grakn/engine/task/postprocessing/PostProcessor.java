@@ -23,7 +23,8 @@ import com.google.auto.value.AutoValue;
 
 /**
  * <p>
- *     Simple helper class which contains {@link IndexPostProcessor} and {@link CountPostProcessor}.
+ *     Simple helper class which contains {@link IndexPostProcessor}, {@link CountPostProcessor} and
+ *     {@link RulePostProcessor}.
  *     This is so we can hold all the logic for post processing in one place without encapsulating too much
  *     diverging logic in one class
  * </p>
@@ -34,9 +35,14 @@ import com.google.auto.value.AutoValue;
 public abstract class PostProcessor {
     public abstract IndexPostProcessor index();
     public abstract CountPostProcessor count();
+    public abstract RulePostProcessor rules();
 
     public static PostProcessor create(IndexPostProcessor indexPostProcessor, CountPostProcessor countPostProcessor) {
-        return new AutoValue_PostProcessor(indexPostProcessor, countPostProcessor);
+        return create(indexPostProcessor, countPostProcessor, RulePostProcessor.disabled());
+    }
+
+    public static PostProcessor create(IndexPostProcessor indexPostProcessor, CountPostProcessor countPostProcessor, RulePostProcessor rulePostProcessor) {
+        return new AutoValue_PostProcessor(indexPostProcessor, countPostProcessor, rulePostProcessor);
     }
 
     /**
@@ -47,5 +53,6 @@ public abstract class PostProcessor {
     public void submit(CommitLog commitLog){
         index().updateIndices(commitLog);
         count().updateCounts(commitLog);
+        rules().updateConclusions(commitLog);
     }
 }
@@ -0,0 +1,327 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.task.postprocessing;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Rule;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
+import ai.grakn.engine.GraknConfig;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.admin.RelationPlayer;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.property.RelationshipProperty;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.log.CommitLog;
+import ai.grakn.util.CommonUtil;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     Class responsible for keeping the conclusions of selected {@link Rule}s materialised.
+ * </p>
+ *
+ * <p>
+ *     The {@link Rule}s are listed in {@link GraknConfigKey#MATERIALISED_RULES}, either as {@code keyspace:rule} to
+ *     select a {@link Rule} in a single {@link Keyspace} or as {@code rule} to select it in every {@link Keyspace}.
+ *     Whenever a {@link CommitLog} shows that the instances of a {@link Type} used in the body of a selected
+ *     {@link Rule} have changed, the conclusions of that {@link Rule} are derived again and persisted.
+ *     If instances were removed, the conclusions of that {@link Rule} are deleted and derived again (delete and
+ *     re-derive), so that those which no longer hold do not linger. The conclusions are changes as well, so the
+ *     selected {@link Rule}s which depend on them are updated in turn.
+ * </p>
+ */
+public class RulePostProcessor {
+    private final static Logger LOG = LoggerFactory.getLogger(RulePostProcessor.class);
+    private static final String ALL_KEYSPACES = "";
+    private final SetMultimap<String, Label> materialisedRules;
+    private final EngineGraknTxFactory factory;
+    private final LockProvider lockProvider;
+    private final IndexPostProcessor indexPostProcessor;
+    private final CountPostProcessor countPostProcessor;
+    private final MetricRegistry metricRegistry;
+    private final Executor executor;
+
+    private RulePostProcessor(SetMultimap<String, Label> materialisedRules, EngineGraknTxFactory factory, LockProvider lockProvider, IndexPostProcessor indexPostProcessor, CountPostProcessor countPostProcessor, MetricRegistry metricRegistry, Executor executor) {
+        this.materialisedRules = materialisedRules;
+        this.factory = factory;
+        this.lockProvider = lockProvider;
+        this.indexPostProcessor = indexPostProcessor;
+        this.countPostProcessor = countPostProcessor;
+        this.metricRegistry = metricRegistry;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a {@link RulePostProcessor} which materialises conclusions on the thread which submits the
+     * {@link CommitLog}
+     */
+    public static RulePostProcessor create(GraknConfig engineConfig, EngineGraknTxFactory factory, LockProvider lockProvider, IndexPostProcessor indexPostProcessor, CountPostProcessor countPostProcessor, MetricRegistry metricRegistry) {
+        return create(engineConfig, factory, lockProvider, indexPostProcessor, countPostProcessor, metricRegistry, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Creates a {@link RulePostProcessor} which materialises conclusions using the provided {@link Executor}
+     */
+    public static RulePostProcessor create(GraknConfig engineConfig, EngineGraknTxFactory factory, LockProvider lockProvider, IndexPostProcessor indexPostProcessor, CountPostProcessor countPostProcessor, MetricRegistry metricRegistry, Executor executor) {
+        ImmutableSetMultimap.Builder<String, Label> rules = ImmutableSetMultimap.builder();
+        for (String rule : engineConfig.getProperty(GraknConfigKey.MATERIALISED_RULES)) {
+            int separator = rule.indexOf(':');
+            if (separator < 0) {
+                rules.put(ALL_KEYSPACES, Label.of(rule));
+            } else {
+                rules.put(rule.substring(0, separator), Label.of(rule.substring(separator + 1)));
+            }
+        }
+        return new RulePostProcessor(rules.build(), factory, lockProvider, indexPostProcessor, countPostProcessor, metricRegistry, executor);
+    }
+
+    /**
+     * Creates a {@link RulePostProcessor} which does not materialise any {@link Rule}
+     */
+    public static RulePostProcessor disabled() {
+        return new RulePostProcessor(ImmutableSetMultimap.of(), null, null, null, null, null, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * @param keyspace The {@link Keyspace} to look up
+     * @return the labels of the {@link Rule}s which are kept materialised in the given {@link Keyspace}
+     */
+    public Set<Label> materialisedRules(Keyspace keyspace) {
+        Set<Label> rules = new HashSet<>(materialisedRules.get(ALL_KEYSPACES));
+        rules.addAll(materialisedRules.get(keyspace.getValue()));
+        return rules;
+    }
+
+    /**
+     * Re-derives the conclusions of the materialised {@link Rule}s which depend on the {@link Type}s changed in the
+     * {@link CommitLog}.
+     *
+     * @param commitLog The commit log containing the {@link Type}s which have gained or lost instances
+     */
+    public void updateConclusions(CommitLog commitLog){
+        Set<Label> rules = materialisedRules(commitLog.keyspace());
+        if (rules.isEmpty() || (commitLog.instanceCount().isEmpty() && commitLog.removedCount().isEmpty())) return;
+
+        Set<ConceptId> changedTypes = new HashSet<>(commitLog.instanceCount().keySet());
+        changedTypes.addAll(commitLog.removedCount().keySet());
+        Set<ConceptId> removedTypes = new HashSet<>(commitLog.removedCount().keySet());
+
+        executor.execute(() -> {
+            try {
+                updateConclusions(commitLog.keyspace(), rules, changedTypes, removedTypes);
+            } catch (RuntimeException e) {
+                LOG.error("Could not update materialised rules in keyspace " + commitLog.keyspace(), e);
+                throw e;
+            }
+        });
+    }
+
+    private void updateConclusions(Keyspace keyspace, Set<Label> rules, Set<ConceptId> changedTypes, Set<ConceptId> removedTypes){
+        // Only one engine should be re-deriving the conclusions of a keyspace at once
+        Lock lock = lockProvider.getLock(getLockingKey(keyspace));
+        lock.lock();
+
+        try (Timer.Context context = metricRegistry.timer(name(RulePostProcessor.class, "execution")).time()) {
+            // Conclusions are facts as well, so the rules which depend on them are updated in turn until nothing
+            // changes. Each rule is only updated once, since materialising it already resolves it recursively.
+            Set<Label> updatedRules = new HashSet<>();
+            Optional<CommitLog> commitLog = updateConclusions(keyspace, rules, updatedRules, changedTypes, removedTypes);
+            while (commitLog.isPresent()) {
+                Set<ConceptId> changedConclusions = new HashSet<>(commitLog.get().instanceCount().keySet());
+                changedConclusions.addAll(commitLog.get().removedCount().keySet());
+                Set<ConceptId> removedConclusions = new HashSet<>(commitLog.get().removedCount().keySet());
+
+                commitLog = updateConclusions(keyspace, rules, updatedRules, changedConclusions, removedConclusions);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-derives the conclusions of the materialised {@link Rule}s which depend on the changed {@link Type}s and
+     * have not been updated yet.
+     *
+     * @return the {@link CommitLog} of the conclusions, or nothing if there were no {@link Rule}s to update
+     */
+    private Optional<CommitLog> updateConclusions(Keyspace keyspace, Set<Label> rules, Set<Label> updatedRules, Set<ConceptId> changedTypes, Set<ConceptId> removedTypes){
+        if (changedTypes.isEmpty()) return Optional.empty();
+
+        try (EmbeddedGraknTx<?> tx = factory.tx(keyspace, GraknTxType.WRITE)) {
+            Set<Label> changedLabels = affectedLabels(tx, changedTypes);
+            Set<Label> removedLabels = affectedLabels(tx, removedTypes);
+            Set<Rule> affectedRules = rules.stream()
+                    .filter(label -> !updatedRules.contains(label))
+                    .map(label -> tx.<SchemaConcept>getSchemaConcept(label))
+                    .filter(Objects::nonNull)
+                    .filter(SchemaConcept::isRule)
+                    .map(SchemaConcept::asRule)
+                    .filter(rule -> dependsOn(rule, changedLabels))
+                    .collect(toSet());
+
+            if (affectedRules.isEmpty()) return Optional.empty();
+            affectedRules.forEach(rule -> updatedRules.add(rule.getLabel()));
+
+            Set<Rule> invalidatedRules = affectedRules.stream().filter(rule -> dependsOn(rule, removedLabels)).collect(toSet());
+            if (!invalidatedRules.isEmpty()) deleteAndRederive(tx, invalidatedRules, affectedRules);
+
+            affectedRules.forEach(rule -> tx.graql().infer(true).materialise(true).match(rule.getThen()).get().execute());
+
+            // Logs are not submitted so that materialising does not trigger itself again, but the conclusions still
+            // need to be counted and their attributes merged
+            Optional<CommitLog> commitLog = tx.commitSubmitNoLogs();
+            commitLog.ifPresent(log -> {
+                indexPostProcessor.updateIndices(log);
+                countPostProcessor.updateCounts(log);
+            });
+            metricRegistry.meter(name(RulePostProcessor.class, "rules-materialised")).mark(affectedRules.size());
+            LOG.debug("Materialised {} rules in keyspace {}", affectedRules.size(), keyspace);
+            return commitLog;
+        }
+    }
+
+    private static boolean dependsOn(Rule rule, Set<Label> labels){
+        return rule.getHypothesisTypes().anyMatch(type -> labels.contains(type.getLabel()));
+    }
+
+    /**
+     * Collects the labels of the changed {@link Type}s and of everything they are a {@link Type} of, so that a change
+     * to a subtype, or to the implicit relationship of an attribute, counts as a change to the {@link Type} used in
+     * a {@link Rule}.
+     */
+    private static Set<Label> affectedLabels(EmbeddedGraknTx<?> tx, Set<ConceptId> changedTypes){
+        Set<Label> labels = new HashSet<>();
+        for (ConceptId id : changedTypes) {
+            Concept concept = tx.getConcept(id);
+            if (concept == null || !concept.isSchemaConcept()) continue;
+
+            SchemaConcept type = concept.asSchemaConcept();
+            type.sups().forEach(sup -> labels.add(sup.getLabel()));
+
+            // Implicit relationships such as `@has-name` change when the attribute `name` is attached to something
+            if (type.isImplicit() && type.isRelationshipType()) {
+                String implicitLabel = type.getLabel().getValue();
+                labels.add(Label.of(implicitLabel.substring(implicitLabel.indexOf('-') + 1)));
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * Deletes the conclusions of the {@link Rule}s which may no longer hold and derives them again (delete and
+     * re-derive). Every inferred relationship which fits the head of one of the {@link Rule}s is deleted, whether
+     * or not it still holds, because with recursive {@link Rule}s a conclusion can appear to support itself. The
+     * deleted conclusions are then derived again from what is left, so only those which still hold come back.
+     * Conclusions of the {@link Rule}s which are materialised afterwards come back when they are materialised, those
+     * of other {@link Rule}s concluding the same {@link Type}s are derived again one by one.
+     *
+     * Inferred attributes may also be owned by things which were inserted directly, so they are left to be reused
+     * when re-deriving.
+     */
+    private static void deleteAndRederive(EmbeddedGraknTx<?> tx, Set<Rule> invalidatedRules, Set<Rule> materialisedRules){
+        Set<Type> conclusionTypes = invalidatedRules.stream()
+                .flatMap(Rule::getConclusionTypes)
+                .filter(Type::isRelationshipType)
+                .collect(toSet());
+        if (conclusionTypes.isEmpty()) return;
+
+        Set<Rule> otherRules = tx.getMetaRule().subs()
+                .filter(other -> !other.equals(tx.getMetaRule()))
+                .filter(other -> !materialisedRules.contains(other))
+                .filter(other -> other.getConclusionTypes().anyMatch(conclusionTypes::contains))
+                .collect(toSet());
+
+        // The role players are kept so the conclusions can be derived again once they are deleted
+        Set<Relationship> candidates = conclusionTypes.stream()
+                .flatMap(Type::instances)
+                .filter(Thing::isInferred)
+                .map(Concept::asRelationship)
+                .filter(relationship -> invalidatedRules.stream().anyMatch(rule -> headBindings(rule, relationship).isPresent()))
+                .collect(toSet());
+        Set<Pattern> rederivations = candidates.stream()
+                .flatMap(relationship -> otherRules.stream()
+                        .map(other -> headBindings(other, relationship).map(bindings -> Graql.and(other.getThen(), bindings))))
+                .flatMap(CommonUtil::optionalToStream)
+                .collect(toSet());
+
+        candidates.forEach(Concept::delete);
+
+        rederivations.forEach(pattern -> tx.graql().infer(true).materialise(true).match(pattern).get().execute());
+    }
+
+    /**
+     * Binds the variables in the head of the {@link Rule} to the role players of the given {@link Relationship}
+     *
+     * @return the bindings, or nothing if the {@link Relationship} does not fit the head of the {@link Rule}
+     */
+    private static Optional<Pattern> headBindings(Rule rule, Relationship relationship){
+        Optional<RelationshipProperty> head = rule.getThen().admin().varPatterns().stream()
+                .flatMap(pattern -> pattern.getProperties(RelationshipProperty.class))
+                .findFirst();
+        if (!head.isPresent()) return Optional.empty();
+
+        Map<Role, Set<Thing>> rolePlayers = relationship.allRolePlayers();
+        Set<Pattern> bindings = new HashSet<>();
+        for (RelationPlayer player : head.get().relationPlayers()) {
+            Optional<Label> roleLabel = player.getRole().flatMap(VarPatternAdmin::getTypeLabel);
+            Set<Pattern> ids = rolePlayers.entrySet().stream()
+                    .filter(entry -> !roleLabel.isPresent() || entry.getKey().sups().anyMatch(role -> role.getLabel().equals(roleLabel.get())))
+                    .flatMap(entry -> entry.getValue().stream())
+                    .map(thing -> player.getRolePlayer().var().id(thing.getId()))
+                    .collect(toSet());
+
+            if (ids.isEmpty()) return Optional.empty();
+            bindings.add(Graql.or(ids));
+        }
+        return Optional.of(Graql.and(bindings));
+    }
+
+    private static String getLockingKey(Keyspace keyspace){
+        return "/materialising-rules-lock/" + keyspace;
+    }
+}
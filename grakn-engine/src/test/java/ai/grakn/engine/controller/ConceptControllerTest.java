@@ -37,10 +37,12 @@ import ai.grakn.engine.controller.response.RelationshipType;
 import ai.grakn.engine.controller.response.Role;
 import ai.grakn.engine.controller.response.RolePlayer;
 import ai.grakn.engine.controller.response.Rule;
+import ai.grakn.engine.controller.util.Cursor;
 import ai.grakn.engine.controller.util.JsonConceptBuilder;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.graql.Pattern;
+import ai.grakn.kb.internal.concept.EntityTypeImpl;
 import ai.grakn.test.rule.SessionContext;
 import ai.grakn.util.REST;
 import ai.grakn.util.SampleKBLoader;
@@ -58,24 +60,29 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 import static com.jayway.restassured.RestAssured.given;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
@@ -446,6 +453,114 @@ public class ConceptControllerTest {
         assertThat(nextLink, anyOf(endsWith("?limit=2&offset=2"), endsWith("?offset=2&limit=2")));
     }
 
+    @Test
+    public void whenFollowingInstancesNextLinks_EnsureAllInstancesAreReturnedOnce() {
+        String instancesLink =
+                "/kb/" + keyspace.getValue() + "/type/" + MetaSchema.THING.getLabel().getValue() + "/instances";
+
+        Set<String> expected;
+        try(GraknTx tx = factory.tx(keyspace, GraknTxType.READ)) {
+            expected = tx.admin().getMetaConcept().instances().map(thing -> Link.create(thing).id()).collect(Collectors.toSet());
+        }
+
+        List<String> returned = new ArrayList<>();
+        String link = instancesLink + "?limit=1";
+        while(link != null){
+            Response response = RestAssured.when().get(link);
+            assertEquals(SC_OK, response.statusCode());
+            List<Map<String, Object>> instances = response.jsonPath().getList("instances");
+            instances.forEach(instance -> returned.add((String) instance.get("@id")));
+            link = response.jsonPath().getString("next");
+        }
+
+        assertEquals(expected.size(), returned.size());
+        assertEquals(expected, new HashSet<>(returned));
+    }
+
+    @Test
+    public void whenFollowingRelationshipsNextLinks_EnsureAllRolePlayersAreReturnedOnce() {
+        List<RolePlayer> returned = new ArrayList<>();
+        String link = entityWrapper.relationships().id() + "?limit=1";
+        while(link != null){
+            Response response = RestAssured.when().get(link);
+            assertEquals(SC_OK, response.statusCode());
+            returned.addAll(Arrays.asList(response.jsonPath().getObject("relationships", RolePlayer[].class)));
+            link = response.jsonPath().getString("next");
+        }
+
+        assertThat(returned, containsInAnyOrder(
+                RolePlayer.create(roleWrapper1.selfLink(), relationshipWrapper.selfLink()),
+                RolePlayer.create(roleWrapper2.selfLink(), relationshipWrapper.selfLink())
+        ));
+    }
+
+    @Test
+    public void whenFollowingRolePlayersNextLinks_EnsureAllRolePlayersAreReturnedOnce() {
+        List<RolePlayer> returned = new ArrayList<>();
+        String link = REST.resolveTemplate(
+                REST.WebPath.CONCEPT_ROLEPLAYERS, keyspace.getValue(), relationshipWrapper.id().getValue()) + "?limit=1";
+        while(link != null){
+            Response response = RestAssured.when().get(link);
+            assertEquals(SC_OK, response.statusCode());
+            returned.addAll(Arrays.asList(response.jsonPath().getObject("roleplayers", RolePlayer[].class)));
+            link = response.jsonPath().getString("next");
+        }
+
+        assertThat(returned, containsInAnyOrder(
+                RolePlayer.create(roleWrapper1.selfLink(), entityWrapper.selfLink()),
+                RolePlayer.create(roleWrapper2.selfLink(), entityWrapper.selfLink())
+        ));
+    }
+
+    @Test
+    public void whenCallingInstancesEndpointWithInvalidCursor_Return400() {
+        String instancesLink =
+                "/kb/" + keyspace.getValue() + "/type/" + MetaSchema.THING.getLabel().getValue() + "/instances";
+
+        RestAssured.given().param("cursor", "not a cursor").get(instancesLink).then().statusCode(SC_BAD_REQUEST);
+    }
+
+    @Test
+    public void whenCallingInstancesEndpointWithCursorToAnUnknownShard_Return400() {
+        String instancesLink =
+                "/kb/" + keyspace.getValue() + "/type/" + MetaSchema.THING.getLabel().getValue() + "/instances";
+        String cursor = Cursor.of("unknown-shard", entityWrapper.id()).encode();
+
+        RestAssured.given().param("cursor", cursor).get(instancesLink).then().statusCode(SC_BAD_REQUEST);
+    }
+
+    @Test
+    public void whenCallingRelationshipsEndpointWithCursorToAnUnknownRole_Return400() {
+        String cursor = Cursor.of("unknown-role", relationshipWrapper.id()).encode();
+
+        RestAssured.given().param("cursor", cursor).get(entityWrapper.relationships().id())
+                .then().statusCode(SC_BAD_REQUEST);
+    }
+
+    @Test
+    public void whenCallingRolePlayersEndpointWithCursorToAnUnknownRole_Return400() {
+        String cursor = Cursor.of("unknown-role", entityWrapper.id()).encode();
+        String link = REST.resolveTemplate(
+                REST.WebPath.CONCEPT_ROLEPLAYERS, keyspace.getValue(), relationshipWrapper.id().getValue());
+
+        RestAssured.given().param("cursor", cursor).get(link).then().statusCode(SC_BAD_REQUEST);
+    }
+
+    @Test
+    public void whenCallingThingEndpointWithExplain_ReturnTheQueryWhichExplainsAnInferredThing() {
+        ConceptId id;
+        try(GraknTx tx = factory.tx(keyspace, GraknTxType.WRITE)) {
+            id = EntityTypeImpl.from(tx.putEntityType("My Inferred Entity Type")).addEntityInferred().getId();
+            tx.commit();
+        }
+        String link = REST.resolveTemplate(REST.WebPath.CONCEPT_ID, keyspace.getValue(), id.getValue());
+
+        RestAssured.given().param("explain", true).get(link)
+                .then().statusCode(SC_OK).body("explanation-query", containsString(id.getValue()));
+        RestAssured.when().get(link)
+                .then().statusCode(SC_OK).body("explanation-query", nullValue());
+    }
+
     @Test
     public void whenCallingInstancesEndpoint_ReturnPreviousLink() {
         String instancesLink =
@@ -77,7 +77,7 @@ public class GraqlControllerInsertTest {
 
     @ClassRule
     public static SparkContext sparkContext = SparkContext.withControllers(
-            new GraqlController(mockFactory, postProcessor, printer, new MetricRegistry())
+            new GraqlController(mockFactory, postProcessor, explain -> printer, new MetricRegistry())
     );
 
     @Before
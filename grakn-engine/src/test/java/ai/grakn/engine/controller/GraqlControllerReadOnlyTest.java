@@ -84,7 +84,7 @@ public class GraqlControllerReadOnlyTest {
     public static SparkContext sparkContext = SparkContext.withControllers((spark, config) -> {
         MetricRegistry metricRegistry = new MetricRegistry();
         new SystemController(mockFactory.config(), mockFactory.keyspaceStore(), new GraknEngineStatus(), metricRegistry).start(spark);
-        new GraqlController(mockFactory, mock(PostProcessor.class), printer, metricRegistry).start(spark);
+        new GraqlController(mockFactory, mock(PostProcessor.class), explain -> printer, metricRegistry).start(spark);
     });
 
     @Before
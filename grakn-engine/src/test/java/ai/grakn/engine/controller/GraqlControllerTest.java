@@ -52,6 +52,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.var;
+import static ai.grakn.util.REST.Request.EXPLAIN_PARAMETER;
 import static ai.grakn.util.REST.Request.Graql.ALLOW_MULTIPLE_QUERIES;
 import static ai.grakn.util.REST.Request.Graql.DEFINE_ALL_VARS;
 import static ai.grakn.util.REST.Request.Graql.EXECUTE_WITH_INFERENCE;
@@ -59,6 +60,8 @@ import static ai.grakn.util.REST.Request.Graql.QUERY;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -80,9 +83,17 @@ public class GraqlControllerTest {
                                String acceptType,
                                boolean reasoner,
                                String keyspace, boolean multi) {
+        return sendQuery(query, acceptType, reasoner, keyspace, multi, false);
+    }
+
+    private Response sendQuery(String query,
+                               String acceptType,
+                               boolean reasoner,
+                               String keyspace, boolean multi, boolean explain) {
         return RestAssured.with()
                 .body(query)
                 .queryParam(EXECUTE_WITH_INFERENCE, reasoner)
+                .queryParam(EXPLAIN_PARAMETER, explain)
                 .queryParam(ALLOW_MULTIPLE_QUERIES, multi)
                 .queryParam(DEFINE_ALL_VARS, true)
                 .accept(acceptType)
@@ -105,7 +116,7 @@ public class GraqlControllerTest {
         EngineGraknTxFactory factory = EngineGraknTxFactory
                 .create(mockLockProvider, GraknConfig.create(), GraknKeyspaceStoreFake.of());
         factory.keyspaceStore().loadSystemSchema();
-        new GraqlController(factory, mock(PostProcessor.class), printer, new MetricRegistry()).start(spark);
+        new GraqlController(factory, mock(PostProcessor.class), JacksonPrinter::create, new MetricRegistry()).start(spark);
     });
 
     @ClassRule
@@ -147,6 +158,20 @@ public class GraqlControllerTest {
         assertEquals(3, json.size());
     }
 
+    @Test
+    public void whenExplainIsRequested_InferredConceptsInResultsAreExplained() {
+        String keyspace = genealogyKB.tx().keyspace().getValue();
+        String query = "match $r ($x, $y) isa cousins; limit 1; get $r;";
+
+        Json explained = Json.read(sendQuery(query, APPLICATION_JSON, true, keyspace, false, true).body().asString())
+                .asJsonList().get(0).at("r");
+        Json notExplained = Json.read(sendQuery(query, APPLICATION_JSON, true, keyspace, false, false).body().asString())
+                .asJsonList().get(0).at("r");
+
+        assertTrue(explained.at("explanation-query").isString());
+        assertFalse(notExplained.has("explanation-query") && notExplained.at("explanation-query").isString());
+    }
+
     @Test
     public void testInsertQuery() {
         Response resp = sendQuery("insert $x isa movie;");
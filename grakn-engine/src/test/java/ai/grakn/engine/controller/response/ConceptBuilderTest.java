@@ -26,8 +26,12 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNull;
 import static junit.framework.TestCase.assertTrue;
 
 public class ConceptBuilderTest {
@@ -68,6 +72,19 @@ public class ConceptBuilderTest {
         assertEquals(relationshipLinkExpected, relationshipLink);
     }
 
+    @Test
+    public void whenWrappingRelationship_EnsureRolePlayersAreEmbedded(){
+        ai.grakn.concept.Relationship relationship = tx.getRelationshipType("event-protagonist").instances().findAny().get();
+        Relationship relationshipWrapper = ConceptBuilder.build(relationship);
+
+        Set<RolePlayer> rolePlayers = new HashSet<>();
+        relationship.allRolePlayers().forEach((role, things) -> things.forEach(thing ->
+                rolePlayers.add(RolePlayer.create(Link.create(role), Link.create(thing)))));
+
+        assertEquals(rolePlayers, relationshipWrapper.roleplayers());
+        assertNull(relationshipWrapper.roleplayersNext());
+    }
+
     @Test
     public void whenWrappingEntityType_EnsureEntityTypeDetailsAreWrapped(){
         ai.grakn.concept.EntityType entityType = tx.getEntityType("person");
@@ -97,7 +114,7 @@ public class ConceptBuilderTest {
     @Test
     public void whenWrappingTheInstancesOfAType_EnsureInstancesAreEmbedded(){
         ai.grakn.concept.EntityType entityType = tx.getEntityType("person");
-        Things things = ConceptBuilder.buildThings(entityType, 0, 100);
+        Things things = ConceptBuilder.buildThings(entityType, 0, 100, false);
 
         entityType.instances().forEach(realInstance -> {
             Concept wrapperInstance = ConceptBuilder.build(realInstance);
@@ -108,10 +125,10 @@ public class ConceptBuilderTest {
     @Test
     public void whenWrappingInstancesOfATypeWithLimitAndOffSet_EnsureReturnedInstancesMatch(){
         ai.grakn.concept.EntityType entityType = tx.getEntityType("person");
-        Things things = ConceptBuilder.buildThings(entityType, 0, 10);
+        Things things = ConceptBuilder.buildThings(entityType, 0, 10, false);
         assertEquals(10, things.instances().size());
 
-        Things things2 = ConceptBuilder.buildThings(entityType, 10, 10);
+        Things things2 = ConceptBuilder.buildThings(entityType, 10, 10, false);
         assertEquals(10, things2.instances().size());
 
         things.instances().forEach(instanceWrapper -> assertFalse(things2.instances().contains(instanceWrapper)));
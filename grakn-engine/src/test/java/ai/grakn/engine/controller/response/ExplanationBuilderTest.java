@@ -66,7 +66,7 @@ public class ExplanationBuilderTest {
                     .map(ai.grakn.concept.Concept::getId)
                     .collect(Collectors.toSet());
 
-            List<Answer> explanation = ExplanationBuilder.buildExplanation(specificAnswer);
+            List<Answer> explanation = ExplanationBuilder.buildExplanation(specificAnswer, false);
 
             Set<ConceptId> entityIds = explanation.stream()
                     .flatMap(exp -> exp.conceptMap().values().stream())
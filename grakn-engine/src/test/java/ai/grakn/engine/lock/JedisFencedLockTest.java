@@ -0,0 +1,185 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import ai.grakn.exception.GraknBackendException;
+import ai.grakn.test.rule.InMemoryRedisContext;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JedisFencedLockTest {
+
+    private static JedisPool jedisPool;
+
+    @ClassRule
+    public static InMemoryRedisContext inMemoryRedisContext = InMemoryRedisContext.create();
+
+    @BeforeClass
+    public static void setupClass() {
+        jedisPool = inMemoryRedisContext.jedisPool();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        jedisPool.close();
+    }
+
+    //Every test uses its own lock so the queue left behind by one test does not affect the next
+    private final String lockName = UUID.randomUUID().toString();
+
+    @Test
+    public void whenLockIsFree_ItIsAcquired(){
+        FencedLock lock = new JedisFencedLockProvider(jedisPool).getLock(lockName);
+
+        assertTrue(lock.tryLock());
+        assertTrue(lock.renew());
+        lock.unlock();
+        assertFalse(lock.renew());
+    }
+
+    @Test
+    public void whenOtherLockIsHeld_TryLockFailsUntilItIsReleased() throws InterruptedException {
+        FencedLock holder = new JedisFencedLock(jedisPool, lockName);
+        holder.lock();
+
+        FencedLock waiter = new JedisFencedLock(jedisPool, lockName);
+        assertFalse(waiter.tryLock());
+        assertFalse(waiter.tryLock(100, TimeUnit.MILLISECONDS));
+
+        holder.unlock();
+        assertTrue(waiter.tryLock(5, TimeUnit.SECONDS));
+        waiter.unlock();
+    }
+
+    @Test(expected = GraknBackendException.class)
+    public void whenOtherLockIsHeldForTooLong_LockTimesOut(){
+        FencedLock holder = new JedisFencedLock(jedisPool, lockName);
+        holder.lock();
+
+        try {
+            new JedisFencedLock(jedisPool, lockName, 60_000L, 200L).lock();
+        } finally {
+            holder.unlock();
+        }
+    }
+
+    @Test
+    public void whenOtherLockIsHeldForLongerThanTheTimeout_LockInterruptiblyWaitsUntilInterrupted() throws InterruptedException {
+        FencedLock holder = new JedisFencedLock(jedisPool, lockName);
+        holder.lock();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                new JedisFencedLock(jedisPool, lockName, 60_000L, 200L).lockInterruptibly();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        waiter.start();
+
+        try {
+            //The waiter keeps waiting well past its timeout
+            waiter.join(1_000L);
+            assertTrue(waiter.isAlive());
+
+            waiter.interrupt();
+            waiter.join(5_000L);
+            assertFalse(waiter.isAlive());
+            assertThat(failure.get(), instanceOf(InterruptedException.class));
+        } finally {
+            holder.unlock();
+        }
+    }
+
+    @Test
+    public void whenOtherLockIsReleased_LockInterruptiblyAcquiresIt() throws InterruptedException {
+        FencedLock holder = new JedisFencedLock(jedisPool, lockName);
+        holder.lock();
+
+        FencedLock waiter = new JedisFencedLock(jedisPool, lockName, 60_000L, 200L);
+        Thread waiting = new Thread(() -> {
+            try {
+                waiter.lockInterruptibly();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiting.start();
+
+        Thread.sleep(500L);
+        holder.unlock();
+        waiting.join(5_000L);
+
+        assertFalse(waiting.isAlive());
+        assertTrue(waiter.renew());
+        waiter.unlock();
+    }
+
+    @Test
+    public void whenLockIsAcquiredRepeatedly_FencingTokensIncrease(){
+        FencedLock lock1 = new JedisFencedLock(jedisPool, lockName);
+        FencedLock lock2 = new JedisFencedLock(jedisPool, lockName);
+
+        lock1.lock();
+        long token1 = lock1.fencingToken();
+        lock1.unlock();
+
+        lock2.lock();
+        long token2 = lock2.fencingToken();
+        lock2.unlock();
+
+        lock1.lock();
+        long token3 = lock1.fencingToken();
+        lock1.unlock();
+
+        assertThat(token2, greaterThan(token1));
+        assertThat(token3, greaterThan(token2));
+    }
+
+    @Test
+    public void whenHolderStopsRenewingItsLease_LockExpiresAndIsAcquiredWithALaterToken() throws InterruptedException {
+        //The holder loses its connection to redis so it can no longer renew its lease, as if its engine had died
+        JedisPool holderPool = new JedisPool(
+                new JedisPoolConfig(), inMemoryRedisContext.server().getHost(), inMemoryRedisContext.port());
+        FencedLock holder = new JedisFencedLock(holderPool, lockName, 500L, 60_000L);
+        holder.lock();
+        long holderToken = holder.fencingToken();
+        holderPool.close();
+
+        FencedLock next = new JedisFencedLock(jedisPool, lockName);
+        assertTrue(next.tryLock(10, TimeUnit.SECONDS));
+        assertThat(next.fencingToken(), greaterThan(holderToken));
+        next.unlock();
+    }
+}
@@ -52,8 +52,10 @@ public class LockTest {
     @DataPoints
     public static Locks[] configValues = Locks.values();
 
+    private static final ProcessWideFencedLockProvider fencedLockProvider = new ProcessWideFencedLockProvider();
+
     private enum Locks {
-        REDIS, NONREENTRANT;
+        REDIS, NONREENTRANT, FENCED;
     }
 
     private Lock getLock(Locks lock, String lockName){
@@ -62,6 +64,8 @@ public class LockTest {
                 return new JedisLock(inMemoryRedisContext.jedisPool(), lockName);
             case NONREENTRANT:
                 return new NonReentrantLock();
+            case FENCED:
+                return fencedLockProvider.getLock(lockName);
         }
         throw new RuntimeException("Invalid lock [" + lock + "]");
     }
@@ -71,6 +75,8 @@ public class LockTest {
             return new JedisLock(inMemoryRedisContext.jedisPool(), ((JedisLock) lock).getLockName());
         } else if(lock instanceof NonReentrantLock){
             return lock;
+        } else if(lock instanceof ProcessWideFencedLockProvider.ProcessWideFencedLock){
+            return fencedLockProvider.getLock(((ProcessWideFencedLockProvider.ProcessWideFencedLock) lock).getLockName());
         }
         throw new RuntimeException("Invalid lock [" + lock + "]");
     }
@@ -0,0 +1,100 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.lock;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProcessWideFencedLockProviderTest {
+
+    private static final String LOCK_NAME = "lock";
+
+    private final ProcessWideFencedLockProvider provider = new ProcessWideFencedLockProvider();
+
+    @Test
+    public void whenLockIsAcquiredRepeatedly_FencingTokensIncrease(){
+        FencedLock lock1 = provider.getLock(LOCK_NAME);
+        FencedLock lock2 = provider.getLock(LOCK_NAME);
+
+        lock1.lock();
+        long token1 = lock1.fencingToken();
+        lock1.unlock();
+
+        lock2.lock();
+        long token2 = lock2.fencingToken();
+        lock2.unlock();
+
+        assertThat(token2, greaterThan(token1));
+    }
+
+    @Test
+    public void whenLockIsHeld_ItCanBeRenewed(){
+        FencedLock lock = provider.getLock(LOCK_NAME);
+
+        assertFalse(lock.renew());
+        lock.lock();
+        assertTrue(lock.renew());
+        lock.unlock();
+        assertFalse(lock.renew());
+    }
+
+    @Test
+    public void whenSeveralThreadsWaitForTheLock_TheyAcquireItInOrder() throws Exception {
+        FencedLock holder = provider.getLock(LOCK_NAME);
+        holder.lock();
+
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                int waiter = i;
+                Future<?> queued = executor.submit(() -> {
+                    FencedLock lock = provider.getLock(LOCK_NAME);
+                    lock.lock();
+                    order.add(waiter);
+                    lock.unlock();
+                });
+
+                //Give the waiter time to join the queue before the next one
+                assertFalse(queued.isDone());
+                Thread.sleep(100);
+            }
+
+            holder.unlock();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(order, contains(0, 1, 2));
+    }
+}
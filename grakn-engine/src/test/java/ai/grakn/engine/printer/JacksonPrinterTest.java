@@ -65,7 +65,7 @@ public class JacksonPrinterTest {
     @Test
     public void whenGraqlQueryResultsInAnswer_EnsureConceptsInAnswerAreWrappedAndReturned() throws JsonProcessingException {
         ai.grakn.graql.admin.Answer answer = rule.tx().graql().match(var("x").isa("title").val("Godfather")).iterator().next();
-        Answer answerWrapper = Answer.create(answer);
+        Answer answerWrapper = Answer.create(answer, false);
         assertWrappersMatch(answerWrapper, answer);
     }
 
@@ -73,7 +73,7 @@ public class JacksonPrinterTest {
     public void whenGraqlQueryResultsInAnswers_EnsureAnswersArwWrappedAndReturned() throws JsonProcessingException {
         Set<ai.grakn.graql.admin.Answer> answers = rule.tx().graql().
                 match(var("x").isa("title").val("Godfather")).stream().collect(Collectors.toSet());
-        Set<Answer> answersWrapper = answers.stream().map(Answer::create).collect(Collectors.toSet());
+        Set<Answer> answersWrapper = answers.stream().map(answer -> Answer.create(answer, false)).collect(Collectors.toSet());
         assertWrappersMatch(answersWrapper, answers);
     }
 
@@ -89,7 +89,7 @@ public class JacksonPrinterTest {
 
         Map<?, ?> map = ImmutableMap.of(ans, ImmutableList.of(ans));
 
-        Map<?, ?> expected = ImmutableMap.of(Answer.create(ans), ImmutableList.of(Answer.create(ans)));
+        Map<?, ?> expected = ImmutableMap.of(Answer.create(ans, false), ImmutableList.of(Answer.create(ans, false)));
 
         assertEquals(expected, printer.build(map));
     }
@@ -38,6 +38,7 @@ import ai.grakn.graql.Graql;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.analytics.CountQuery;
+import ai.grakn.graql.analytics.PathsQuery;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.grpc.ConceptMethod;
 import ai.grakn.grpc.ConceptMethods;
@@ -413,6 +414,45 @@ public class GrpcServerTest {
         }
     }
 
+    @Test
+    public void whenExecutingAPathsQueryRemotely_EachPathIsReturnedAsAnAnswer() throws InterruptedException {
+        String PATHS_QUERY = "compute paths from V123, to V456;";
+        PathsQuery pathsQuery = mock(PathsQuery.class);
+        when(tx.graql().parse(PATHS_QUERY)).thenReturn(pathsQuery);
+
+        Concept conceptX = mock(Concept.class, RETURNS_DEEP_STUBS);
+        when(conceptX.getId()).thenReturn(ConceptId.of("V123"));
+        when(conceptX.isRelationship()).thenReturn(true);
+
+        Concept conceptY = mock(Concept.class, RETURNS_DEEP_STUBS);
+        when(conceptY.getId()).thenReturn(ConceptId.of("V456"));
+        when(conceptY.isAttribute()).thenReturn(true);
+
+        when(pathsQuery.execute()).thenReturn(ImmutableList.of(ImmutableList.of(conceptX, conceptY)));
+
+        try (TxGrpcCommunicator tx = TxGrpcCommunicator.create(stub)) {
+            tx.send(openRequest(MYKS, GraknTxType.WRITE));
+            tx.receive();
+
+            tx.send(execQueryRequest(PATHS_QUERY, null));
+            IteratorId iterator = tx.receive().ok().getIteratorId();
+
+            tx.send(nextRequest(iterator));
+            TxResponse response = tx.receive().ok();
+
+            GrpcConcept.Concept rpcX =
+                    GrpcConcept.Concept.newBuilder().setId(V123).setBaseType(BaseType.Relationship).build();
+            GrpcConcept.Concept rpcY =
+                    GrpcConcept.Concept.newBuilder().setId(V456).setBaseType(BaseType.Attribute).build();
+            GrpcGrakn.Answer.Builder path = GrpcGrakn.Answer.newBuilder().putAnswer("0", rpcX).putAnswer("1", rpcY);
+            QueryResult.Builder result = QueryResult.newBuilder().setAnswer(path);
+            assertEquals(TxResponse.newBuilder().setQueryResult(result).build(), response);
+
+            tx.send(nextRequest(iterator));
+            assertEquals(doneResponse(), tx.receive().ok());
+        }
+    }
+
     @Test
     public void whenExecutingAQueryRemotelyWithNoResult_ReturnDone() throws InterruptedException {
         String DELETE_QUERY = "match $x isa person; delete $x";
@@ -25,6 +25,7 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.GraknConfig;
 import ai.grakn.engine.GraknKeyspaceStore;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.lock.FencedLock;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.task.postprocessing.redisstorage.RedisCountStorage;
 import ai.grakn.kb.admin.GraknAdmin;
@@ -53,6 +54,7 @@ public class CountPostProcessorTest {
     private static LockProvider lockProviderMock = mock(LockProvider.class);
     private static MetricRegistry metricRegistry = new MetricRegistry();
     private static CountPostProcessor countPostProcessor;
+    private static EmbeddedGraknTx txMock;
 
     private final Map<ConceptId, Long> newInstanceCounts = new HashMap<>();
     private final Keyspace keyspace = SampleKBLoader.randomKeyspace();
@@ -68,7 +70,7 @@ public class CountPostProcessorTest {
         GraknKeyspaceStore graknKeyspaceStoreMock = mock(GraknKeyspaceStore.class);
         when(graknKeyspaceStoreMock.containsKeyspace(any())).thenReturn(true);
 
-        EmbeddedGraknTx txMock = mock(EmbeddedGraknTx.class);
+        txMock = mock(EmbeddedGraknTx.class);
         when(txMock.admin()).thenReturn(mock(GraknAdmin.class));
 
         factoryMock = mock(EngineGraknTxFactory.class);
@@ -128,4 +130,25 @@ public class CountPostProcessorTest {
         verify(factoryMock, Mockito.times(1)).tx(keyspace, GraknTxType.WRITE);
         verify(countStorage, Mockito.times(1)).incrementShardCount(keyspace, id, 1);
     }
+
+    @Test
+    public void whenTheShardingLockWasTakenOverByALaterHolder_ShardingIsAbandoned(){
+        //The lock was acquired with a token older than the one a later holder recorded on the type
+        FencedLock staleLock = mock(FencedLock.class);
+        when(staleLock.fencingToken()).thenReturn(1L);
+        when(lockProviderMock.getLock(any())).thenReturn(staleLock);
+
+        ConceptId id = ConceptId.of("e");
+        newInstanceCounts.put(id, 6L);
+        when(countStorage.incrementInstanceCount(keyspace, id, 6L)).thenReturn(6L);
+        when(countStorage.incrementInstanceCount(keyspace, id, 0L)).thenReturn(6L);
+        when(txMock.fence(id, 1L)).thenReturn(false);
+
+        countPostProcessor.updateCounts(CommitLog.create(keyspace, newInstanceCounts, Collections.emptyMap()));
+
+        //Nothing is written on behalf of the stale holder
+        verify(txMock, Mockito.times(0)).commitSubmitNoLogs();
+        verify(countStorage, Mockito.times(0)).incrementShardCount(keyspace, id, 1);
+        verify(staleLock, Mockito.times(1)).unlock();
+    }
 }
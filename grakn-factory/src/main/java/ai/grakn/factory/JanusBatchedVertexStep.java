@@ -0,0 +1,153 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.factory;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.janusgraph.core.JanusGraphElement;
+import org.janusgraph.core.JanusGraphMultiVertexQuery;
+import org.janusgraph.core.JanusGraphVertex;
+import org.janusgraph.graphdb.tinkerpop.optimize.JanusGraphTraversalUtil;
+import org.janusgraph.graphdb.tinkerpop.optimize.JanusGraphVertexStep;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Collections.emptyIterator;
+
+/**
+ * Expand a window of traversers at once in Janus:
+ * <p>
+ * <code>
+ * g.V().in(a).in(b)
+ * </code>
+ * <p>
+ * Instead of reading the adjacency of each incoming vertex with its own backend query, this step collects up to
+ * {@link JanusBatchedVertexStep#windowSize} traversers and reads the adjacency of all of them with a single
+ * multi-vertex query. The query itself (direction, edge labels, folded {@code has} filters, limits) is described by
+ * the {@link JanusGraphVertexStep} that this step replaces.
+ *
+ * @param <E> the type of element returned, either {@link Vertex} or {@link org.apache.tinkerpop.gremlin.structure.Edge}
+ */
+class JanusBatchedVertexStep<E extends Element> extends AbstractStep<Vertex, E> {
+
+    private static final long serialVersionUID = 4370598742366187201L;
+    private final JanusGraphVertexStep<E> vertexStep;
+    private final int windowSize;
+    private Iterator<Traverser.Admin<E>> results = emptyIterator();
+
+    /**
+     * @param traversal the traversal that contains this step
+     * @param vertexStep the step describing the adjacency query to run for each vertex
+     * @param windowSize the maximum number of traversers to expand with a single backend query
+     */
+    JanusBatchedVertexStep(Traversal.Admin traversal, JanusGraphVertexStep<E> vertexStep, int windowSize) {
+        super(traversal);
+        this.vertexStep = Objects.requireNonNull(vertexStep);
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() {
+        while (!results.hasNext()) {
+            if (!starts.hasNext()) throw FastNoSuchElementException.instance();
+            results = expandNextWindow();
+        }
+        return results.next();
+    }
+
+    /**
+     * Take up to {@link JanusBatchedVertexStep#windowSize} traversers and look up all of their adjacent elements in a
+     * single multi-vertex query.
+     */
+    private Iterator<Traverser.Admin<E>> expandNextWindow() {
+        JanusGraphMultiVertexQuery query = JanusGraphTraversalUtil.getTx(traversal).multiQuery();
+
+        List<Traverser.Admin<Vertex>> window = new ArrayList<>(windowSize);
+        while (window.size() < windowSize && starts.hasNext()) {
+            Traverser.Admin<Vertex> traverser = starts.next();
+            window.add(traverser);
+            query.addVertex(traverser.get());
+        }
+
+        vertexStep.makeQuery(query);
+
+        @SuppressWarnings("unchecked")
+        Map<JanusGraphVertex, Iterable<? extends JanusGraphElement>> adjacency =
+                vertexStep.returnsVertex() ? query.vertices() : query.edges();
+
+        List<Traverser.Admin<E>> expanded = new ArrayList<>();
+        for (Traverser.Admin<Vertex> traverser : window) {
+            Iterable<? extends JanusGraphElement> elements = adjacency.get(traverser.get());
+            if (elements == null) continue;
+
+            for (JanusGraphElement element : elements) {
+                @SuppressWarnings("unchecked")
+                E result = (E) element;
+                expanded.add(traverser.split(result, this));
+            }
+        }
+        return expanded.iterator();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        results = emptyIterator();
+    }
+
+    @Override
+    public JanusBatchedVertexStep<E> clone() {
+        JanusBatchedVertexStep<E> clone = (JanusBatchedVertexStep<E>) super.clone();
+        clone.results = emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+
+        JanusBatchedVertexStep<?> that = (JanusBatchedVertexStep<?>) o;
+
+        return windowSize == that.windowSize && vertexStep.equals(that.vertexStep);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + vertexStep.hashCode();
+        result = 31 * result + windowSize;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, vertexStep, windowSize);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.factory;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy.ProviderOptimizationStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.janusgraph.graphdb.tinkerpop.optimize.JanusGraphLocalQueryOptimizerStrategy;
+import org.janusgraph.graphdb.tinkerpop.optimize.JanusGraphVertexStep;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Optimisation applied to read adjacent elements of many vertices at once in Janus:
+ * <p>
+ * <code>
+ * g.V().in(a).in(b)
+ * </code>
+ * <p>
+ * Each {@link JanusGraphVertexStep} is replaced with a {@link JanusBatchedVertexStep}, which expands a window of
+ * traversers with one multi-vertex backend query, rather than issuing one query per traverser.
+ * <p>
+ * Local children (e.g. the inside of {@code filter(..)}) only ever see one traverser at a time, so they are left as
+ * they are.
+ */
+public class JanusBatchedVertexStepStrategy
+        extends AbstractTraversalStrategy<ProviderOptimizationStrategy> implements ProviderOptimizationStrategy {
+
+    private static final long serialVersionUID = -2310427582465338711L;
+
+    static final int DEFAULT_WINDOW_SIZE = 100;
+
+    private final int windowSize;
+
+    public JanusBatchedVertexStepStrategy() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    JanusBatchedVertexStepStrategy(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public void apply(Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal) || !receivesManyTraversers(traversal)) return;
+
+        List<JanusGraphVertexStep> vertexSteps =
+                TraversalHelper.getStepsOfAssignableClass(JanusGraphVertexStep.class, traversal);
+
+        for (JanusGraphVertexStep<?> vertexStep : vertexSteps) {
+            JanusBatchedVertexStep<?> newStep = new JanusBatchedVertexStep<>(traversal, vertexStep, windowSize);
+            vertexStep.getLabels().forEach(newStep::addLabel);
+            TraversalHelper.replaceStep(vertexStep, newStep, traversal);
+        }
+    }
+
+    private static boolean receivesManyTraversers(Traversal.Admin<?, ?> traversal) {
+        TraversalParent parent = traversal.getParent();
+        return parent instanceof EmptyStep || parent.getGlobalChildren().contains(traversal);
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        // Janus first has to turn plain vertex steps into `JanusGraphVertexStep`s and fold filters into them
+        return Collections.singleton(JanusGraphLocalQueryOptimizerStrategy.class);
+    }
+}
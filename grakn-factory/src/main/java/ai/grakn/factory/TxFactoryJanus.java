@@ -29,28 +29,38 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.EdgeLabel;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphFactory;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.Namifiable;
 import org.janusgraph.core.PropertyKey;
 import org.janusgraph.core.RelationType;
 import org.janusgraph.core.VertexLabel;
+import org.janusgraph.core.schema.ConsistencyModifier;
 import org.janusgraph.core.schema.JanusGraphIndex;
 import org.janusgraph.core.schema.JanusGraphManagement;
+import org.janusgraph.core.schema.RelationTypeIndex;
+import org.janusgraph.core.schema.SchemaAction;
+import org.janusgraph.core.schema.SchemaStatus;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
+import org.janusgraph.graphdb.database.management.ManagementSystem;
 import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -78,6 +88,7 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
     private static final String STORAGE_KEYSPACE = GraknConfigKey.STORAGE_KEYSPACE.name();
     private static final String STORAGE_BATCH_LOADING = GraknConfigKey.STORAGE_BATCH_LOADING.name();
     private static final String STORAGE_REPLICATION_FACTOR = GraknConfigKey.STORAGE_REPLICATION_FACTOR.name();
+    private static final int BACKFILL_BATCH_SIZE = 10_000;
 
 
     //These properties are loaded in by default and can optionally be overwritten
@@ -142,7 +153,7 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
 
         if (!strategiesApplied.getAndSet(true)) {
             TraversalStrategies strategies = TraversalStrategies.GlobalCache.getStrategies(StandardJanusGraph.class);
-            strategies = strategies.clone().addStrategies(new JanusPreviousPropertyStepStrategy());
+            strategies = strategies.clone().addStrategies(new JanusPreviousPropertyStepStrategy(), new JanusBatchedVertexStepStrategy());
             //TODO: find out why Tinkerpop added these strategies. They result in many NoOpBarrier steps which slowed down our queries so we had to remove them.
             strategies.removeStrategies(PathRetractionStrategy.class, LazyBarrierStrategy.class);
             TraversalStrategies.GlobalCache.registerStrategies(StandardJanusGraph.class, strategies);
@@ -192,9 +203,12 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
         makePropertyKeys(management);
 
         makeIndicesVertexCentric(management);
+        Map<String, String> unpopulatedIndices = makeIndicesVertexCentricSorted(management);
         makeIndicesComposite(management);
 
         management.commit();
+
+        if(!unpopulatedIndices.isEmpty()) populateIndicesVertexCentricSorted(graph, unpopulatedIndices);
     }
 
     private static void makeEdgeLabels(JanusGraphManagement management){
@@ -250,12 +264,130 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
         }
     }
 
+    /**
+     * Unlike the indices above, the property keys of these indices are kept in the given order, so the edges can be
+     * looked up by the leading keys and read in the order of the last one
+     *
+     * @return The names of the indices which were added to edge labels that already existed, mapped to their labels.
+     * These indices are not used until the existing edges have been indexed.
+     */
+    private static Map<String, String> makeIndicesVertexCentricSorted(JanusGraphManagement management){
+        Map<String, String> unpopulatedIndices = new HashMap<>();
+
+        ResourceBundle indices = ResourceBundle.getBundle("indices-edges-sorted");
+        for(String indexName : indices.keySet()){
+            String[] labelAndKeys = indices.getString(indexName).split(":");
+            String edgeLabel = labelAndKeys[0];
+
+            PropertyKey[] propertyKeys = stream(labelAndKeys[1].split(",")).map(keyId -> {
+                PropertyKey key = management.getPropertyKey(keyId);
+                if (key == null) {
+                    throw new RuntimeException("Trying to create edge index on label [" + edgeLabel + "] but the property [" + keyId + "] does not exist");
+                }
+                return key;
+            }).toArray(PropertyKey[]::new);
+
+            RelationType relationType = management.getRelationType(edgeLabel);
+            if (management.getRelationIndex(relationType, indexName) == null) {
+                RelationTypeIndex index = management.buildEdgeIndex(management.getEdgeLabel(edgeLabel), indexName, Direction.BOTH, Order.decr, propertyKeys);
+                if (!index.getIndexStatus().equals(SchemaStatus.ENABLED)) unpopulatedIndices.put(indexName, edgeLabel);
+            }
+        }
+
+        return unpopulatedIndices;
+    }
+
+    /**
+     * Edges written before a sorted index was added do not carry the key it sorts by, so paging through the index
+     * would skip them. This writes the missing keys onto the existing edges and then indexes them.
+     */
+    private static void populateIndicesVertexCentricSorted(JanusGraph graph, Map<String, String> indices){
+        ResourceBundle sortKeys = ResourceBundle.getBundle("indices-edges-sorted");
+
+        indices.forEach((indexName, edgeLabel) -> {
+            String[] keys = sortKeys.getString(indexName).split(":")[1].split(",");
+            String sortKey = keys[keys.length - 1];
+
+            LOG.info("Adding {} to the existing [{}] edges for index {}", sortKey, edgeLabel, indexName);
+            long updated = backfillSortKey(graph, edgeLabel, sortKey);
+            LOG.info("Added {} to {} existing [{}] edges", sortKey, updated, edgeLabel);
+
+            try {
+                ManagementSystem.awaitRelationIndexStatus(graph, indexName, edgeLabel).status(SchemaStatus.REGISTERED).call();
+
+                JanusGraphManagement management = graph.openManagement();
+                RelationTypeIndex index = management.getRelationIndex(management.getRelationType(edgeLabel), indexName);
+                management.updateIndex(index, SchemaAction.REINDEX).get();
+                management.commit();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while indexing the existing [" + edgeLabel + "] edges for index " + indexName, e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Failed to index the existing [" + edgeLabel + "] edges for index " + indexName, e);
+            }
+        });
+    }
+
+    /**
+     * Sets the sort key on every edge of the given label which does not have it yet, to the same value as
+     * {@link ai.grakn.kb.internal.structure.Shard}, {@link ai.grakn.kb.internal.concept.RelationshipReified} and
+     * {@link ai.grakn.kb.internal.concept.ThingImpl} set on the edges they create.
+     *
+     * @return The number of edges which were updated
+     */
+    private static long backfillSortKey(JanusGraph graph, String edgeLabel, String sortKey){
+        long updated = 0;
+        JanusGraphTransaction reads = graph.newTransaction();
+        JanusGraphTransaction writes = graph.newTransaction();
+        try {
+            Iterator<Edge> edges = reads.traversal().E().hasLabel(edgeLabel).hasNot(sortKey);
+            while (edges.hasNext()) {
+                Edge edge = edges.next();
+                writes.edges(edge.id()).next().property(sortKey, sortKeyValue(edge, sortKey));
+
+                if (++updated % BACKFILL_BATCH_SIZE == 0) {
+                    writes.commit();
+                    writes = graph.newTransaction();
+                }
+            }
+            writes.commit();
+        } finally {
+            if (writes.isOpen()) writes.rollback();
+            reads.rollback();
+        }
+        return updated;
+    }
+
+    private static String sortKeyValue(Edge edge, String sortKey){
+        Schema.EdgeProperty property = Schema.EdgeProperty.valueOf(sortKey);
+        switch (property) {
+            case INSTANCE_ID:
+                return edge.outVertex().value(Schema.VertexProperty.ID.name());
+            case ROLE_PLAYER_ID:
+                return edge.inVertex().value(Schema.VertexProperty.ID.name());
+            case RELATIONSHIP_ID:
+                //An attribute edge is itself the relationship, otherwise the edge starts at the relationship
+                if (edge.label().equals(Schema.EdgeLabel.ATTRIBUTE.getLabel())) {
+                    return Schema.PREFIX_EDGE + edge.id().toString();
+                }
+                return edge.outVertex().value(Schema.VertexProperty.ID.name());
+            default:
+                throw new RuntimeException("Cannot derive the value of [" + sortKey + "] for existing edges");
+        }
+    }
+
     private static void makePropertyKeys(JanusGraphManagement management){
         stream(Schema.VertexProperty.values()).forEach(property ->
                 makePropertyKey(management, property.name(), property.getDataType()));
 
         stream(Schema.EdgeProperty.values()).forEach(property ->
                 makePropertyKey(management, property.name(), property.getDataType()));
+
+        //Janus checks the stored fencing token is unchanged when committing, so a stale lock holder cannot write
+        PropertyKey fencingToken = management.getPropertyKey(Schema.VertexProperty.FENCING_TOKEN.name());
+        if (management.getConsistency(fencingToken) != ConsistencyModifier.LOCK) {
+            management.setConsistency(fencingToken, ConsistencyModifier.LOCK);
+        }
     }
 
     private static void makePropertyKey(JanusGraphManagement management, String propertyKey, Class type){
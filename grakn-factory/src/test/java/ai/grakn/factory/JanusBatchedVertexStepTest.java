@@ -0,0 +1,88 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.factory;
+
+import ai.grakn.GraknTxType;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class JanusBatchedVertexStepTest extends JanusTestBase {
+
+    private static final int NUM_PARENTS = JanusBatchedVertexStepStrategy.DEFAULT_WINDOW_SIZE * 5 / 2;
+
+    private static final GraphTraversalSource janus = janusGraphFactory.open(GraknTxType.WRITE).getTinkerPopGraph().traversal();
+
+    @Test
+    public void whenUsingAJanusGraph_VertexStepsAreBatched() {
+        GraphTraversal<?, ?> traversal = janus.V().in("batched edge").in("batched edge");
+        traversal.asAdmin().applyStrategies();
+
+        List<Step> steps = traversal.asAdmin().getSteps();
+        assertThat(steps, hasItem(instanceOf(JanusBatchedVertexStep.class)));
+    }
+
+    @Test
+    public void whenAVertexStepIsInsideAFilter_ItIsNotBatched() {
+        GraphTraversal<?, ?> traversal = janus.V().filter(__.in("batched edge"));
+        traversal.asAdmin().applyStrategies();
+
+        TraversalFilterStep<?> filterStep =
+                TraversalHelper.getLastStepOfAssignableClass(TraversalFilterStep.class, traversal.asAdmin()).get();
+        List<Step> steps = filterStep.getLocalChildren().get(0).getSteps();
+        assertThat(steps, not(hasItem(instanceOf(JanusBatchedVertexStep.class))));
+    }
+
+    @Test
+    public void whenExpandingMoreTraversersThanFitInAWindow_AllAdjacentVerticesAreReturned() {
+        Set<Vertex> parents = new HashSet<>();
+        Set<Vertex> children = new HashSet<>();
+
+        for (int i = 0; i < NUM_PARENTS; i++) {
+            Vertex parent = janus.addV().next();
+            Vertex child = janus.addV().next();
+            Vertex otherChild = janus.addV().next();
+            parent.addEdge("batched child", child);
+            parent.addEdge("batched child", otherChild);
+            parents.add(parent);
+            children.add(child);
+            children.add(otherChild);
+        }
+
+        List<Vertex> results = janus.V(parents.toArray()).out("batched child").toList();
+
+        assertEquals(children.size(), results.size());
+        assertEquals(children, new HashSet<>(results));
+    }
+}
@@ -158,6 +158,15 @@ public class Graql {
         return withoutGraph().parse(queryString);
     }
 
+    /**
+     * @param queryString a string representing a query
+     * @return a prepared query, which can be executed many times with different values bound to its variables
+     */
+    @CheckReturnValue
+    public static <T extends Query<?>> PreparedQuery<T> prepare(String queryString) {
+        return withoutGraph().prepare(queryString);
+    }
+
     // PATTERNS AND VARS
 
     /**
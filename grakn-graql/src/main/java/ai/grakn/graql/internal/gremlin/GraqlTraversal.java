@@ -44,6 +44,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static ai.grakn.util.CommonUtil.toImmutableList;
 import static ai.grakn.util.CommonUtil.toImmutableSet;
 import static java.util.stream.Collectors.joining;
 
@@ -108,6 +109,19 @@ public abstract class GraqlTraversal {
         return new AutoValue_GraqlTraversal(ImmutableSet.of(fragments));
     }
 
+    /**
+     * @param values map defining bound values var -> new value
+     * @return graql traversal with the same plan, but with the values of the bound variables replaced
+     */
+    public GraqlTraversal bindValues(Map<Var, Object> values){
+        if (values.isEmpty()) return this;
+
+        ImmutableSet<ImmutableList<Fragment>> fragments = fragments().stream()
+                .map(list -> list.stream().map(f -> f.bindValues(values)).collect(toImmutableList()))
+                .collect(toImmutableSet());
+        return new AutoValue_GraqlTraversal(fragments);
+    }
+
     /**
      * @return a gremlin traversal that represents this inner query
      */
@@ -30,6 +30,7 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
 import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 import ai.grakn.graql.internal.gremlin.fragment.InIsaFragment;
+import ai.grakn.graql.internal.gremlin.fragment.InRolePlayerFragment;
 import ai.grakn.graql.internal.gremlin.fragment.InSubFragment;
 import ai.grakn.graql.internal.gremlin.fragment.LabelFragment;
 import ai.grakn.graql.internal.gremlin.fragment.OutRolePlayerFragment;
@@ -97,6 +98,47 @@ public class GreedyTraversalPlan {
         return GraqlTraversal.create(fragments);
     }
 
+    /**
+     * The degrees the plan for the pattern is costed by, bucketed by order of magnitude. These are the degrees of the
+     * vertices the pattern identifies by id or value and may expand to the relationships they are role-players in.
+     * The cost of expanding a vertex grows with the logarithm of its degree, so a plan suits any ids or values whose
+     * degrees fall in the same buckets.
+     *
+     * @param pattern a pattern to find a query plan for
+     * @return the degree bucket of each such vertex, which is empty if the plan does not depend on any degree
+     */
+    public static Map<Var, Integer> degreeBuckets(PatternAdmin pattern, EmbeddedGraknTx<?> tx) {
+        Map<Var, Integer> buckets = new HashMap<>();
+
+        pattern.getDisjunctiveNormalForm().getPatterns().forEach(conjunction -> {
+            Set<Fragment> fragments = new ConjunctionQuery(conjunction, tx).getEquivalentFragmentSets().stream()
+                    .flatMap(EquivalentFragmentSet::stream).collect(Collectors.toSet());
+
+            fragmentsWithDegree(fragments).forEach(fragment -> fragment.getDegree(tx).ifPresent(degree ->
+                    buckets.merge(fragment.start(), degreeBucket(degree), Math::min)
+            ));
+        });
+
+        return buckets;
+    }
+
+    // 0 for no edges, then one bucket per power of ten
+    private static int degreeBucket(long degree) {
+        return degree == 0 ? 0 : (int) Math.log10(degree) + 1;
+    }
+
+    // fragments identifying a single vertex, which the plan may expand to the relationships it is a role-player in
+    private static Set<Fragment> fragmentsWithDegree(Set<Fragment> allFragments) {
+        Set<Var> rolePlayers = allFragments.stream()
+                .filter(InRolePlayerFragment.class::isInstance)
+                .map(Fragment::start)
+                .collect(Collectors.toSet());
+
+        return allFragments.stream()
+                .filter(fragment -> fragment.end() == null && fragment.hasDegree() && rolePlayers.contains(fragment.start()))
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Create a plan using Edmonds' algorithm with greedy approach to execute a single conjunction
      *
@@ -110,6 +152,7 @@ public class GreedyTraversalPlan {
 
         final Set<Node> connectedNodes = new HashSet<>();
         final Map<Node, Double> nodesWithFixedCost = new HashMap<>();
+        final Map<Node, Long> nodesWithDegree = new HashMap<>();
 
         final Set<Fragment> allFragments = query.getEquivalentFragmentSets().stream()
                 .flatMap(EquivalentFragmentSet::stream).collect(Collectors.toSet());
@@ -119,6 +162,12 @@ public class GreedyTraversalPlan {
         Collection<Set<Fragment>> connectedFragmentSets =
                 getConnectedFragmentSets(plan, allFragments, allNodes, connectedNodes, nodesWithFixedCost, tx);
 
+        // a vertex identified by id or value may be a supernode, whose relationships should not be expanded
+        fragmentsWithDegree(allFragments).forEach(fragment -> {
+            Node start = Node.addIfAbsent(NodeId.NodeType.VAR, fragment.start(), allNodes);
+            fragment.getDegree(tx).ifPresent(degree -> nodesWithDegree.merge(start, degree, Math::min));
+        });
+
         connectedFragmentSets.forEach(fragmentSet -> {
 
             final Map<Node, Map<Node, Fragment>> edges = new HashMap<>();
@@ -130,7 +179,7 @@ public class GreedyTraversalPlan {
             fragmentSet.forEach(fragment -> {
                 if (fragment.end() != null) {
                     edgeFragmentSet.add(fragment);
-                    updateFragmentCost(allNodes, nodesWithFixedCost, fragment);
+                    updateFragmentCost(allNodes, nodesWithFixedCost, nodesWithDegree, fragment);
 
                 } else if (fragment.hasFixedFragmentCost()) {
                     Node node = Node.addIfAbsent(NodeId.NodeType.VAR, fragment.start(), allNodes);
@@ -437,8 +486,10 @@ public class GreedyTraversalPlan {
         }
     }
 
+    // if in-isa starts from an indexed type, or in-role-player starts from a known vertex, use its actual size
     private static void updateFragmentCost(Map<NodeId, Node> allNodes,
                                            Map<Node, Double> nodesWithFixedCost,
+                                           Map<Node, Long> nodesWithDegree,
                                            Fragment fragment) {
 
         if (fragment instanceof InIsaFragment) {
@@ -446,6 +497,11 @@ public class GreedyTraversalPlan {
             if (nodesWithFixedCost.containsKey(type) && nodesWithFixedCost.get(type) > 0) {
                 fragment.setAccurateFragmentCost(nodesWithFixedCost.get(type));
             }
+        } else if (fragment instanceof InRolePlayerFragment) {
+            Node rolePlayer = Node.addIfAbsent(NodeId.NodeType.VAR, fragment.start(), allNodes);
+            if (nodesWithDegree.containsKey(rolePlayer)) {
+                fragment.setAccurateFragmentCost(Math.log1p(nodesWithDegree.get(rolePlayer)));
+            }
         }
     }
 
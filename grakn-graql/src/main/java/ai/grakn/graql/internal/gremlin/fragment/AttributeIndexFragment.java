@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.gremlin.fragment;
 
+import ai.grakn.concept.Label;
 import ai.grakn.graql.Var;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import com.google.auto.value.AutoValue;
@@ -26,14 +27,26 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 
 import static ai.grakn.util.Schema.VertexProperty.INDEX;
 
 @AutoValue
 abstract class AttributeIndexFragment extends Fragment {
 
+    abstract Label label();
+
     abstract String attributeIndex();
 
+    @Override
+    public Fragment bindValues(Map<Var, Object> values) {
+        Object value = values.get(start());
+        if (value == null) return this;
+
+        return Fragments.attributeIndex(varProperty(), start(), label(), value);
+    }
+
     @Override
     public GraphTraversal<Vertex, ? extends Element> applyTraversalInner(
             GraphTraversal<Vertex, ? extends Element> traversal, EmbeddedGraknTx<?> graph, Collection<Var> vars) {
@@ -55,4 +68,14 @@ abstract class AttributeIndexFragment extends Fragment {
     public boolean hasFixedFragmentCost() {
         return true;
     }
+
+    @Override
+    public boolean hasDegree() {
+        return true;
+    }
+
+    @Override
+    public Optional<Long> getDegree(EmbeddedGraknTx<?> tx) {
+        return Optional.of(degree(tx.getTinkerTraversal().V().has(INDEX.name(), attributeIndex())));
+    }
 }
@@ -31,6 +31,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
@@ -43,6 +44,8 @@ import java.util.Optional;
 import java.util.Set;
 
 import static ai.grakn.graql.internal.gremlin.spanningtree.util.Weighted.weighted;
+import static ai.grakn.util.Schema.EdgeLabel.ATTRIBUTE;
+import static ai.grakn.util.Schema.EdgeLabel.ROLE_PLAYER;
 
 /**
  * represents a graph traversal, with one start point and optionally an end point
@@ -101,6 +104,9 @@ public abstract class Fragment {
     // By default we assume the latest shard is 25% full
     public static final double SHARD_LOAD_FACTOR = 0.25;
 
+    // Degrees are only counted up to this, so that planning reads few edges even from a supernode
+    public static final long DEGREE_PROBE_LIMIT = 100L;
+
     private Optional<Double> accurateFragmentCost = Optional.empty();
 
     /*
@@ -117,6 +123,14 @@ public abstract class Fragment {
         return this;
     }
 
+    /**
+     * @param values map defining bound values var -> new value
+     * @return transformed fragment with value predicates on the bound variables replaced by the new values
+     */
+    public Fragment bindValues(Map<Var, Object> values) {
+        return this;
+    }
+
     /**
      * Get the corresponding property
      */
@@ -256,6 +270,27 @@ public abstract class Fragment {
         return Optional.empty();
     }
 
+    /**
+     * Indicates whether the fragment identifies a single vertex, so that {@link #getDegree(EmbeddedGraknTx)} can
+     * estimate its degree.
+     */
+    public boolean hasDegree() {
+        return false;
+    }
+
+    /**
+     * If this fragment identifies a single vertex, estimate the number of relationships that vertex is a role-player
+     * in. The count stops at {@link #DEGREE_PROBE_LIMIT}.
+     */
+    public Optional<Long> getDegree(EmbeddedGraknTx<?> tx) {
+        return Optional.empty();
+    }
+
+    static long degree(GraphTraversal<Vertex, Vertex> vertex) {
+        return vertex.union(__.inE(ROLE_PLAYER.getLabel()), __.bothE(ATTRIBUTE.getLabel()))
+                .limit(DEGREE_PROBE_LIMIT).count().next();
+    }
+
     /**
      * Indicates whether the fragment can be used on an {@link org.apache.tinkerpop.gremlin.structure.Edge} as well as
      * a {@link org.apache.tinkerpop.gremlin.structure.Vertex}.
@@ -32,6 +32,7 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import static ai.grakn.graql.internal.util.StringConverter.idToString;
 
@@ -88,6 +89,17 @@ abstract class IdFragment extends Fragment {
         return true;
     }
 
+    @Override
+    public boolean hasDegree() {
+        return !canOperateOnEdges();
+    }
+
+    @Override
+    public Optional<Long> getDegree(EmbeddedGraknTx<?> tx) {
+        if (!hasDegree()) return Optional.empty();
+        return Optional.of(degree(vertexTraversal(tx.getTinkerTraversal().V())));
+    }
+
     @Override
     public boolean canOperateOnEdges() {
         return id().getValue().startsWith(Schema.PREFIX_EDGE);
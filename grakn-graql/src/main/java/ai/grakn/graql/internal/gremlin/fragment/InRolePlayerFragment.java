@@ -50,7 +50,7 @@ import static ai.grakn.util.Schema.EdgeProperty.ROLE_LABEL_ID;
  * @author Felix Chapman
  */
 @AutoValue
-abstract class InRolePlayerFragment extends AbstractRolePlayerFragment {
+public abstract class InRolePlayerFragment extends AbstractRolePlayerFragment {
 
     @Override
     public GraphTraversal<Vertex, ? extends Element> applyTraversalInner(
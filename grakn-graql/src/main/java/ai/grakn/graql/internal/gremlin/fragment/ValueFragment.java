@@ -18,9 +18,11 @@
 
 package ai.grakn.graql.internal.gremlin.fragment;
 
+import ai.grakn.graql.Graql;
 import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import com.google.auto.value.AutoValue;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -28,6 +30,7 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import static ai.grakn.util.CommonUtil.optionalToStream;
@@ -38,6 +41,15 @@ abstract class ValueFragment extends Fragment {
 
     abstract ValuePredicate predicate();
 
+    @Override
+    public Fragment bindValues(Map<Var, Object> values) {
+        Object value = values.get(start());
+        if (value == null || !predicate().equalsValue().isPresent()) return this;
+
+        ValuePredicate predicate = Graql.eq(value);
+        return new AutoValue_ValueFragment(ValueProperty.of(predicate), start(), predicate);
+    }
+
     @Override
     public GraphTraversal<Vertex, ? extends Element> applyTraversalInner(
             GraphTraversal<Vertex, ? extends Element> traversal, EmbeddedGraknTx<?> graph, Collection<Var> vars) {
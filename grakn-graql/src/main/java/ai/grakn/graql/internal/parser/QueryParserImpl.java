@@ -95,7 +95,7 @@ public class QueryParserImpl implements QueryParser {
      *  @param queryBuilder the QueryBuilderImpl to operate the query on
      *  @return a query parser that operates with the specified graph
      */
-    public static QueryParser create(QueryBuilder queryBuilder) {
+    public static QueryParserImpl create(QueryBuilder queryBuilder) {
         QueryParserImpl parser = new QueryParserImpl(queryBuilder);
         parser.registerDefaultAggregates();
         return parser;
@@ -143,6 +143,23 @@ public class QueryParserImpl implements QueryParser {
         return (T) QUERY_EOF.parse(queryString);
     }
 
+    /**
+     * Parse a query string once, so that the query can be built again by many {@link QueryBuilder}s without parsing
+     * the string again.
+     *
+     * @param queryString a string representing a query
+     * @return a function building the query using the given {@link QueryBuilder}
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Query<?>> Function<QueryBuilder, T> prepareQuery(String queryString) {
+        QueryEOFContext tree = QUERY_EOF.parseTree(queryString);
+        ImmutableMap<String, Function<List<Object>, Aggregate>> immutableAggregates =
+                ImmutableMap.copyOf(aggregateMethods);
+        boolean defineAllVars = this.defineAllVars;
+
+        return builder -> (T) QUERY_EOF.visit(new QueryVisitor(immutableAggregates, builder, defineAllVars), tree);
+    }
+
     /**
      * @param reader a reader representing several queries
      * @return a list of queries
@@ -320,6 +337,21 @@ public class QueryParserImpl implements QueryParser {
          * Parse the string into a Java object
          */
         final T parse(String queryString) {
+            return visit(getQueryVisitor(), parseTree(queryString));
+        }
+
+        /**
+         * Parse the {@link GraqlParser} into a Java object, where errors are reported to the given
+         * {@link GraqlErrorListener}.
+         */
+        final T parse(GraqlParser parser, GraqlErrorListener errorListener) {
+            return visit(getQueryVisitor(), parseTree(parser, errorListener));
+        }
+
+        /**
+         * Parse the string into a {@link ParseTree}
+         */
+        final S parseTree(String queryString) {
             ANTLRInputStream charStream = new ANTLRInputStream(queryString);
             GraqlErrorListener errorListener = GraqlErrorListener.of(queryString);
 
@@ -328,14 +360,10 @@ public class QueryParserImpl implements QueryParser {
             CommonTokenStream tokens = new CommonTokenStream(lexer);
             GraqlParser parser = createParser(tokens, errorListener);
 
-            return parse(parser, errorListener);
+            return parseTree(parser, errorListener);
         }
 
-        /**
-         * Parse the {@link GraqlParser} into a Java object, where errors are reported to the given
-         * {@link GraqlErrorListener}.
-         */
-        final T parse(GraqlParser parser, GraqlErrorListener errorListener) {
+        private S parseTree(GraqlParser parser, GraqlErrorListener errorListener) {
             S tree;
 
             try {
@@ -350,7 +378,7 @@ public class QueryParserImpl implements QueryParser {
                 throw GraqlSyntaxException.create(errorListener.toString());
             }
 
-            return visit(getQueryVisitor(), tree);
+            return tree;
         }
     }
 }
@@ -37,6 +37,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -60,16 +61,22 @@ import java.util.stream.Stream;
  */
 public class QueryAnswer implements Answer {
 
+    //Explanations are immutable so answers without one can all share the same empty explanation
+    private static final AnswerExplanation NO_EXPLANATION = new Explanation();
+
     private final ImmutableMap<Var, Concept> map;
     private final AnswerExplanation explanation;
 
+    //Answers are mostly compared while sitting in sets and maps, so the hash code is only computed once
+    private int hashCode = 0;
+
     public QueryAnswer(){
         this.map = ImmutableMap.of();
-        this.explanation = new Explanation();
+        this.explanation = NO_EXPLANATION;
     }
 
     public QueryAnswer(Answer a){
-        this.map = ImmutableMap.<Var, Concept>builder().putAll(a.entrySet()).build();
+        this.map = ImmutableMap.copyOf(a.map());
         this.explanation = a.getExplanation();
     }
 
@@ -78,13 +85,16 @@ public class QueryAnswer implements Answer {
         this.explanation = exp;
     }
 
+    /**
+     * NB: an {@link ImmutableMap} is used as is rather than copied
+     */
     public QueryAnswer(Map<Var, Concept> m, AnswerExplanation exp){
         this.map = ImmutableMap.copyOf(m);
         this.explanation = exp;
     }
 
     public QueryAnswer(Map<Var, Concept> m){
-        this(m, new Explanation());
+        this(m, NO_EXPLANATION);
     }
 
     @Override
@@ -98,12 +108,19 @@ public class QueryAnswer implements Answer {
     public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj == null || !(obj instanceof Answer)) return false;
-        QueryAnswer a2 = (QueryAnswer) obj;
-        return map.equals(a2.map);
+        if (obj instanceof QueryAnswer && hashCode() != obj.hashCode()) return false;
+        return map.equals(((Answer) obj).map());
     }
 
     @Override
-    public int hashCode(){ return map.hashCode();}
+    public int hashCode(){
+        int h = hashCode;
+        if (h == 0) {
+            h = map.hashCode();
+            hashCode = h;
+        }
+        return h;
+    }
 
     @Override
     public ImmutableMap<Var, Concept> map() { return map;}
@@ -151,44 +168,48 @@ public class QueryAnswer implements Answer {
         if(a2.isEmpty()) return this;
         if(this.isEmpty()) return a2;
 
-        Sets.SetView<Var> varUnion = Sets.union(this.vars(), a2.vars());
-        Set<Var> varIntersection = Sets.intersection(this.vars(), a2.vars());
-        Map<Var, Concept> entryMap = Sets.union(
-                this.entrySet(),
-                a2.entrySet()
-        )
-                .stream()
-                .filter(e -> !varIntersection.contains(e.getKey()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        varIntersection
-                .forEach(var -> {
-                    Concept concept = this.get(var);
-                    Concept otherConcept = a2.get(var);
-                    if (concept.equals(otherConcept)) entryMap.put(var, concept);
-                    else {
-                        if (concept.isSchemaConcept()
-                                && otherConcept.isSchemaConcept()
-                                && !ReasonerUtils.areDisjointTypes(concept.asSchemaConcept(), otherConcept.asSchemaConcept())) {
-                            entryMap.put(
-                                    var,
-                                    Iterables.getOnlyElement(ReasonerUtils.topOrMeta(
-                                            Sets.newHashSet(
-                                                    concept.asSchemaConcept(),
-                                                    otherConcept.asSchemaConcept())
-                                            )
-                                    )
-                            );
-                        }
-                    }
-                });
-        if (!entryMap.keySet().equals(varUnion)) return new QueryAnswer();
+        //build the merged map in a single pass, variables only in a2 are appended after the variables of this answer
+        ImmutableMap.Builder<Var, Concept> entryMap = ImmutableMap.builder();
+        for (Map.Entry<Var, Concept> entry : this.entrySet()) {
+            Var var = entry.getKey();
+            Concept concept = entry.getValue();
+            if (a2.containsVar(var)) {
+                Concept mergedConcept = mergeConcepts(concept, a2.get(var));
+                if (mergedConcept == null) return new QueryAnswer();
+                entryMap.put(var, mergedConcept);
+            } else {
+                entryMap.put(var, concept);
+            }
+        }
+        a2.forEach((var, concept) -> {
+            if (!this.containsVar(var)) entryMap.put(var, concept);
+        });
 
         return new QueryAnswer(
-                entryMap,
+                entryMap.build(),
                 mergeExplanation? this.mergeExplanation(a2) : this.getExplanation()
         );
     }
 
+    /**
+     * @return the concept both answers agree on for a shared variable or null if they are incompatible
+     */
+    @Nullable
+    private static Concept mergeConcepts(Concept concept, Concept otherConcept){
+        if (concept.equals(otherConcept)) return concept;
+        if (concept.isSchemaConcept()
+                && otherConcept.isSchemaConcept()
+                && !ReasonerUtils.areDisjointTypes(concept.asSchemaConcept(), otherConcept.asSchemaConcept())) {
+            return Iterables.getOnlyElement(ReasonerUtils.topOrMeta(
+                    Sets.newHashSet(
+                            concept.asSchemaConcept(),
+                            otherConcept.asSchemaConcept())
+                    )
+            );
+        }
+        return null;
+    }
+
     private AnswerExplanation mergeExplanation(Answer toMerge) {
         List<Answer> partialAnswers = new ArrayList<>();
         if (this.getExplanation().isJoinExplanation()) partialAnswers.addAll(this.getExplanation().getAnswers());
@@ -203,17 +224,18 @@ public class QueryAnswer implements Answer {
 
     @Override
     public Answer explain(AnswerExplanation exp){
-        return new QueryAnswer(this.entrySet(), exp.childOf(this));
+        return new QueryAnswer(map, exp.childOf(this));
     }
 
     @Override
     public Answer project(Set<Var> vars) {
-        return new QueryAnswer(
-                this.entrySet().stream()
-                        .filter(e -> vars.contains(e.getKey()))
-                        .collect(Collectors.toSet()),
-                this.getExplanation()
-        );
+        if (vars.containsAll(this.vars())) return this;
+
+        ImmutableMap.Builder<Var, Concept> projected = ImmutableMap.builder();
+        map.forEach((var, concept) -> {
+            if (vars.contains(var)) projected.put(var, concept);
+        });
+        return new QueryAnswer(projected.build(), this.getExplanation());
     }
 
     @Override
@@ -24,26 +24,36 @@ import ai.grakn.graql.DefineQuery;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Match;
 import ai.grakn.graql.Pattern;
+import ai.grakn.graql.PreparedQuery;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.QueryParser;
 import ai.grakn.graql.UndefineQuery;
+import ai.grakn.graql.Var;
 import ai.grakn.graql.VarPattern;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
 import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.gremlin.GraqlTraversal;
 import ai.grakn.graql.internal.parser.QueryParserImpl;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.query.analytics.ComputeQueryBuilderImpl;
 import ai.grakn.graql.internal.query.match.MatchBase;
+import ai.grakn.graql.internal.query.match.MatchBound;
 import ai.grakn.graql.internal.util.AdminConverter;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * A starting point for creating queries.
@@ -58,17 +68,27 @@ import java.util.Optional;
 public class QueryBuilderImpl implements QueryBuilder {
 
     private final Optional<GraknTx> tx;
-    private final QueryParser queryParser = QueryParserImpl.create(this);
+    private final QueryParserImpl queryParser = QueryParserImpl.create(this);
+    private final ImmutableMap<Var, Object> boundValues;
+    private final @Nullable Map<Set<Var>, Map<Map<Var, Integer>, GraqlTraversal>> plans;
     private boolean infer = true;
     private boolean materialise = false;
+    private boolean explain = true;
+    private boolean parallel = false;
 
     public QueryBuilderImpl() {
-        this.tx = Optional.empty();
+        this(Optional.empty(), ImmutableMap.of(), null);
     }
 
     @SuppressWarnings("unused") /** used by {@link EmbeddedGraknTx#graql()}*/
     public QueryBuilderImpl(GraknTx tx) {
-        this.tx = Optional.of(tx);
+        this(Optional.of(tx), ImmutableMap.of(), null);
+    }
+
+    private QueryBuilderImpl(Optional<GraknTx> tx, ImmutableMap<Var, Object> boundValues, @Nullable Map<Set<Var>, Map<Map<Var, Integer>, GraqlTraversal>> plans) {
+        this.tx = tx;
+        this.boundValues = boundValues;
+        this.plans = plans;
     }
 
     @Override
@@ -83,6 +103,18 @@ public class QueryBuilderImpl implements QueryBuilder {
         return this;
     }
 
+    @Override
+    public QueryBuilder explain(boolean explain) {
+        this.explain = explain;
+        return this;
+    }
+
+    @Override
+    public QueryBuilder parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
     /**
      * @param patterns an array of patterns to match in the knowledge base
      * @return a {@link Match} that will find matches of the given patterns
@@ -99,8 +131,8 @@ public class QueryBuilderImpl implements QueryBuilder {
     @Override
     public Match match(Collection<? extends Pattern> patterns) {
         Conjunction<PatternAdmin> conjunction = Patterns.conjunction(Sets.newHashSet(AdminConverter.getPatternAdmins(patterns)));
-        MatchBase base = new MatchBase(conjunction);
-        Match match = infer ? base.infer(materialise).admin() : base;
+        MatchBase base = plans == null ? new MatchBase(conjunction) : new MatchBound(conjunction, boundValues, plans);
+        Match match = infer ? base.infer(materialise, explain, parallel).admin() : base;
         return tx.map(match::withTx).orElse(match);
     }
 
@@ -167,4 +199,23 @@ public class QueryBuilderImpl implements QueryBuilder {
         return queryParser.parseQuery(queryString);
     }
 
+    @Override
+    public <T extends Query<?>> PreparedQuery<T> prepare(String queryString) {
+        Function<QueryBuilder, T> query = queryParser.prepareQuery(queryString);
+        Map<Set<Var>, Map<Map<Var, Integer>, GraqlTraversal>> preparedPlans = new ConcurrentHashMap<>();
+        return values -> query.apply(bind(ImmutableMap.<Var, Object>copyOf(values), preparedPlans));
+    }
+
+    /**
+     * @return a copy of this {@link QueryBuilder}, which binds the given values in every {@link Match} it creates
+     */
+    private QueryBuilder bind(ImmutableMap<Var, Object> values, Map<Set<Var>, Map<Map<Var, Integer>, GraqlTraversal>> preparedPlans) {
+        QueryBuilderImpl builder = new QueryBuilderImpl(tx, values, preparedPlans);
+        builder.infer = infer;
+        builder.materialise = materialise;
+        builder.explain = explain;
+        builder.parallel = parallel;
+        return builder;
+    }
+
 }
\ No newline at end of file
@@ -21,6 +21,11 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.NamedAggregate;
 
+import java.util.stream.Collector;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+
 /**
  * Abstract implementation of an {@link Aggregate}, providing an implementation of the {@link Aggregate#as(String)}}
  * method.
@@ -36,4 +41,25 @@ public abstract class AbstractAggregate<T, S> implements Aggregate<T, S> {
     public final NamedAggregate<T, S> as(String name) {
         return new NamedAggregateImpl<>(this, name);
     }
+
+    /**
+     * A {@link Collector} which computes this aggregate. Aggregates which can be computed in a single pass override
+     * this so that the results do not need to be held in memory and so that partial results can be combined when
+     * the aggregate is applied to a parallel stream.
+     *
+     * @param <U> The type of the results being aggregated
+     */
+    <U extends T> Collector<U, ?, S> collector() {
+        return collectingAndThen(toList(), list -> apply(list.stream()));
+    }
+
+    /**
+     * @return a {@link Collector} which computes the given {@link Aggregate}
+     */
+    static <U, S> Collector<U, ?, S> collector(Aggregate<? super U, S> aggregate) {
+        if (aggregate instanceof AbstractAggregate) {
+            return ((AbstractAggregate<? super U, S>) aggregate).<U>collector();
+        }
+        return collectingAndThen(toList(), list -> aggregate.apply(list.stream()));
+    }
 }
@@ -20,6 +20,8 @@ package ai.grakn.graql.internal.query.aggregate;
 
 import ai.grakn.graql.Match;
 
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +33,11 @@ class CountAggregate extends AbstractAggregate<Object, Long> {
         return stream.count();
     }
 
+    @Override
+    <U> Collector<U, ?, Long> collector() {
+        return Collectors.counting();
+    }
+
     @Override
     public String toString() {
         return "count";
@@ -30,9 +30,7 @@ import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Aggregate that groups results of a {@link Match} by variable name, applying an aggregate to each group.
@@ -50,10 +48,13 @@ class GroupAggregate<T> extends AbstractAggregate<Answer, Map<Concept, T>> {
 
     @Override
     public Map<Concept, T> apply(Stream<? extends Answer> stream) {
-        Collector<Answer, ?, T> applyAggregate =
-                collectingAndThen(toList(), list -> innerAggregate.apply(list.stream()));
+        return stream.collect(collector());
+    }
 
-        return stream.collect(groupingBy(this::getConcept, applyAggregate));
+    @Override
+    <U extends Answer> Collector<U, ?, Map<Concept, T>> collector() {
+        Collector<U, ?, T> applyAggregate = collector(innerAggregate);
+        return groupingBy(this::getConcept, applyAggregate);
     }
 
     private @Nonnull Concept getConcept(Answer result) {
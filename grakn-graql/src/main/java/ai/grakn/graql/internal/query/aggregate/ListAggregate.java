@@ -21,6 +21,7 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.graql.Match;
 
 import java.util.List;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,6 +36,11 @@ class ListAggregate<T> extends AbstractAggregate<T, List<T>> {
         return stream.collect(Collectors.toList());
     }
 
+    @Override
+    <U extends T> Collector<U, ?, List<T>> collector() {
+        return Collectors.toList();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
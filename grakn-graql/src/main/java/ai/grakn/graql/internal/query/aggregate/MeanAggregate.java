@@ -18,42 +18,60 @@
 
 package ai.grakn.graql.internal.query.aggregate;
 
-import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.Match;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Aggregate that finds mean of a {@link Match}.
  */
 class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> {
 
     private final Var varName;
-    private final CountAggregate countAggregate;
-    private final Aggregate<Answer, Number> sumAggregate;
 
     MeanAggregate(Var varName) {
         this.varName = varName;
-        countAggregate = new CountAggregate();
-        sumAggregate = Aggregates.sum(varName);
     }
 
     @Override
     public Optional<Double> apply(Stream<? extends Answer> stream) {
-        List<? extends Answer> list = stream.collect(toList());
+        return stream.collect(collector());
+    }
+
+    @Override
+    <U extends Answer> Collector<U, ?, Optional<Double>> collector() {
+        return Collector.of(
+                Mean::new,
+                (mean, result) -> mean.add(result.get(varName).<Number>asAttribute().getValue()),
+                Mean::combine,
+                Mean::get
+        );
+    }
 
-        long count = countAggregate.apply(list.stream());
+    /**
+     * The running count and sum of the values seen so far
+     */
+    private static class Mean {
+        private long count = 0;
+        private Number sum = 0;
+
+        void add(Number value) {
+            count += 1;
+            sum = SumAggregate.add(sum, value);
+        }
+
+        Mean combine(Mean other) {
+            count += other.count;
+            sum = SumAggregate.add(sum, other.sum);
+            return this;
+        }
 
-        if (count == 0) {
-            return Optional.empty();
-        } else {
-            Number sum = sumAggregate.apply(list.stream());
+        Optional<Double> get() {
+            if (count == 0) return Optional.empty();
             return Optional.of(sum.doubleValue() / count);
         }
     }
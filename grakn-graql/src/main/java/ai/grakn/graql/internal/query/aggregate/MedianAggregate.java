@@ -22,12 +22,14 @@ import ai.grakn.graql.Match;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Aggregate that finds median of a {@link Match}.
  */
@@ -41,24 +43,77 @@ class MedianAggregate extends AbstractAggregate<Answer, Optional<Number>> {
 
     @Override
     public Optional<Number> apply(Stream<? extends Answer> stream) {
-        List<Number> results = stream
-                .map(result -> ((Number) result.get(varName).asAttribute().getValue()))
-                .sorted()
-                .collect(toList());
+        return stream.collect(collector());
+    }
+
+    @Override
+    <U extends Answer> Collector<U, ?, Optional<Number>> collector() {
+        return Collector.<U, List<Number>, Optional<Number>>of(
+                ArrayList::new,
+                (results, result) -> results.add((Number) result.get(varName).asAttribute().getValue()),
+                (results, other) -> {
+                    results.addAll(other);
+                    return results;
+                },
+                MedianAggregate::median
+        );
+    }
 
+    private static Optional<Number> median(List<Number> results) {
         int size = results.size();
         int halveFloor = Math.floorDiv(size - 1, 2);
-        int halveCeiling = (int) Math.ceil((size - 1) / 2.0);
 
         if (size == 0) {
             return Optional.empty();
-        } else if (size % 2 == 1) {
+        }
+
+        // Select the middle result without sorting all the results
+        Number lower = select(results, halveFloor);
+        if (size % 2 == 1) {
             // Take exact middle result
-            return Optional.of(results.get(halveFloor));
+            return Optional.of(lower);
         } else {
-            // Take average of middle results
-            return Optional.of((results.get(halveFloor).doubleValue() + results.get(halveCeiling).doubleValue()) / 2);
+            // Take average of middle results. Everything after the lower middle result is at least as large as it.
+            Number upper = results.get(halveFloor + 1);
+            for (int i = halveFloor + 2; i < size; i++) {
+                if (compare(results.get(i), upper) < 0) upper = results.get(i);
+            }
+            return Optional.of((lower.doubleValue() + upper.doubleValue()) / 2);
+        }
+    }
+
+    /**
+     * Quickselect. Reorders the results so that the result at index k is the one which would be there if the results
+     * were sorted, with smaller results before it and larger results after it.
+     *
+     * @return the kth smallest result
+     */
+    private static Number select(List<Number> results, int k) {
+        int left = 0;
+        int right = results.size() - 1;
+
+        while (left < right) {
+            int pivotIndex = left + ThreadLocalRandom.current().nextInt(right - left + 1);
+            Number pivot = results.get(pivotIndex);
+            Collections.swap(results, pivotIndex, right);
+
+            int store = left;
+            for (int i = left; i < right; i++) {
+                if (compare(results.get(i), pivot) < 0) Collections.swap(results, i, store++);
+            }
+            Collections.swap(results, store, right);
+
+            if (store == k) return results.get(k);
+            else if (store < k) left = store + 1;
+            else right = store - 1;
         }
+
+        return results.get(k);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Number x, Number y) {
+        return ((Comparable<Number>) x).compareTo(y);
     }
 
     @Override
@@ -23,9 +23,12 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
 import java.util.Optional;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import static java.util.Comparator.naturalOrder;
+import static java.util.stream.Collectors.minBy;
+import static java.util.stream.Collectors.mapping;
 
 /**
  * Aggregate that finds minimum of a {@link Match}.
@@ -40,7 +43,12 @@ class MinAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Op
 
     @Override
     public Optional<T> apply(Stream<? extends Answer> stream) {
-        return stream.map(this::getValue).min(naturalOrder());
+        return stream.collect(collector());
+    }
+
+    @Override
+    <U extends Answer> Collector<U, ?, Optional<T>> collector() {
+        return mapping(this::getValue, minBy(naturalOrder()));
     }
 
     @Override
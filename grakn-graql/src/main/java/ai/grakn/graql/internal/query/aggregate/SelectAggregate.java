@@ -22,14 +22,14 @@ import ai.grakn.graql.Match;
 import com.google.common.collect.ImmutableSet;
 import ai.grakn.graql.NamedAggregate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * An aggregate that combines several aggregates together into a map (where keys are the names of the aggregates)
  * @param <S> the type of the {@link Match} results
@@ -45,15 +45,55 @@ class SelectAggregate<S, T> extends AbstractAggregate<S, Map<String, T>> {
 
     @Override
     public Map<String, T> apply(Stream<? extends S> stream) {
-        List<? extends S> list = stream.collect(toList());
+        return stream.collect(collector());
+    }
 
-        Map<String, T> map = new HashMap<>();
+    /**
+     * Feeds every result to all of the aggregates at once so the results only need to be held in memory by
+     * aggregates which cannot be computed in a single pass
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    <U extends S> Collector<U, ?, Map<String, T>> collector() {
+        List<String> names = new ArrayList<>();
+        List<Collector<U, Object, ? extends T>> collectors = new ArrayList<>();
 
         for (NamedAggregate<? super S, ? extends T> aggregate : aggregates) {
-            map.put(aggregate.getName(), aggregate.getAggregate().apply(list.stream()));
+            names.add(aggregate.getName());
+            collectors.add((Collector<U, Object, ? extends T>) namedCollector(aggregate));
         }
 
-        return map;
+        return Collector.<U, List<Object>, Map<String, T>>of(
+                () -> {
+                    List<Object> containers = new ArrayList<>();
+                    for (Collector<U, Object, ? extends T> collector : collectors) {
+                        containers.add(collector.supplier().get());
+                    }
+                    return containers;
+                },
+                (containers, result) -> {
+                    for (int i = 0; i < collectors.size(); i++) {
+                        collectors.get(i).accumulator().accept(containers.get(i), result);
+                    }
+                },
+                (containers, others) -> {
+                    for (int i = 0; i < collectors.size(); i++) {
+                        containers.set(i, collectors.get(i).combiner().apply(containers.get(i), others.get(i)));
+                    }
+                    return containers;
+                },
+                containers -> {
+                    Map<String, T> map = new HashMap<>();
+                    for (int i = 0; i < collectors.size(); i++) {
+                        map.put(names.get(i), collectors.get(i).finisher().apply(containers.get(i)));
+                    }
+                    return map;
+                }
+        );
+    }
+
+    private static <U, R> Collector<U, ?, R> namedCollector(NamedAggregate<? super U, R> aggregate) {
+        return collector(aggregate.getAggregate());
     }
 
     @Override
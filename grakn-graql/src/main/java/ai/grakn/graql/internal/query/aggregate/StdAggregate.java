@@ -23,6 +23,7 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
 import java.util.Optional;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import static java.lang.Math.sqrt;
@@ -40,17 +41,31 @@ class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
 
     @Override
     public Optional<Double> apply(Stream<? extends Answer> stream) {
-        Stream<Double> numStream = stream.map(result -> result.get(varName).<Number>asAttribute().getValue().doubleValue());
-
-        Iterable<Double> data = numStream::iterator;
+        return stream.collect(collector());
+    }
 
-        // Online algorithm to calculate unbiased sample standard deviation
-        // https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Online_algorithm
-        long n = 0;
-        double mean = 0d;
-        double M2 = 0d;
+    @Override
+    <U extends Answer> Collector<U, ?, Optional<Double>> collector() {
+        return Collector.of(
+                Variance::new,
+                (variance, result) -> variance.add(result.get(varName).<Number>asAttribute().getValue().doubleValue()),
+                Variance::combine,
+                Variance::std
+        );
+    }
 
-        for (double x : data) {
+    /**
+     * Online algorithm to calculate unbiased sample standard deviation, with the parallel variant used to combine
+     * partial results.
+     * https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Online_algorithm
+     * https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Parallel_algorithm
+     */
+    private static class Variance {
+        private long n = 0;
+        private double mean = 0d;
+        private double M2 = 0d;
+
+        void add(double x) {
             n += 1;
             double delta = x - mean;
             mean += delta / (double) n;
@@ -58,10 +73,24 @@ class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
             M2 += delta*delta2;
         }
 
-        if (n < 2) {
-            return Optional.empty();
-        } else {
-            return Optional.of(sqrt(M2 / (double) (n - 1)));
+        Variance combine(Variance other) {
+            if (other.n == 0) return this;
+            if (n == 0) return other;
+
+            long total = n + other.n;
+            double delta = other.mean - mean;
+            mean += delta * other.n / (double) total;
+            M2 += other.M2 + delta * delta * n * other.n / (double) total;
+            n = total;
+            return this;
+        }
+
+        Optional<Double> std() {
+            if (n < 2) {
+                return Optional.empty();
+            } else {
+                return Optional.of(sqrt(M2 / (double) (n - 1)));
+            }
         }
     }
 
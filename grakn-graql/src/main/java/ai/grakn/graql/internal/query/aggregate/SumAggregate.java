@@ -22,8 +22,12 @@ import ai.grakn.graql.Match;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.reducing;
+
 /**
  * Aggregate that sums results of a {@link Match}.
  */
@@ -37,10 +41,15 @@ class SumAggregate extends AbstractAggregate<Answer, Number> {
 
     @Override
     public Number apply(Stream<? extends Answer> stream) {
-        return stream.map(result -> (Number) result.get(varName).asAttribute().getValue()).reduce(0, this::add);
+        return stream.collect(collector());
+    }
+
+    @Override
+    <U extends Answer> Collector<U, ?, Number> collector() {
+        return mapping(result -> (Number) result.get(varName).asAttribute().getValue(), reducing((Number) 0, SumAggregate::add));
     }
 
-    private Number add(Number x, Number y) {
+    static Number add(Number x, Number y) {
         // This method is necessary because Number doesn't support '+' because java!
         if (x instanceof Long || y instanceof Long) {
             return x.longValue() + y.longValue();
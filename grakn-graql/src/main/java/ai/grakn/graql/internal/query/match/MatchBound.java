@@ -0,0 +1,114 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.match;
+
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.gremlin.GraqlTraversal;
+import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * {@link MatchBase} of a prepared query, where some variables are bound to values.
+ *
+ * The query plan is only computed the first time a set of variables is bound. After that the plan is reused and only
+ * the values of the bound variables are replaced. A plan costed by the degree of a vertex found by a bound value is
+ * only reused for values whose vertices have degrees in the same buckets, see
+ * {@link GreedyTraversalPlan#degreeBuckets(PatternAdmin, EmbeddedGraknTx)}.
+ */
+public class MatchBound extends MatchBase {
+
+    private final ImmutableMap<Var, Object> values;
+    private final Map<Set<Var>, Map<Map<Var, Integer>, GraqlTraversal>> plans;
+
+    /**
+     * @param pattern a pattern to match in the graph, without the bound values
+     * @param values the values of the bound variables
+     * @param plans the plans computed so far for this pattern, keyed by the set of bound variables and then by the
+     *              degree buckets they were costed with
+     */
+    public MatchBound(
+            Conjunction<PatternAdmin> pattern, Map<Var, Object> values,
+            Map<Set<Var>, Map<Map<Var, Integer>, GraqlTraversal>> plans
+    ) {
+        super(bind(pattern, values));
+        this.values = ImmutableMap.copyOf(values);
+        this.plans = plans;
+    }
+
+    private static Conjunction<PatternAdmin> bind(Conjunction<PatternAdmin> pattern, Map<Var, Object> values) {
+        Set<VarPatternAdmin> varPatterns = new HashSet<>();
+        pattern.varPatterns().forEach(varPattern -> varPatterns.addAll(varPattern.innerVarPatterns()));
+
+        Set<PatternAdmin> patterns = new HashSet<>(pattern.getPatterns());
+
+        values.forEach((var, value) -> {
+            if (varPatterns.stream().noneMatch(varPattern -> varPattern.var().equals(var))) {
+                throw GraqlQueryException.varNotInQuery(var);
+            }
+
+            // The plan is reused for other values, so it must not depend on values written in the query
+            if (varPatterns.stream().anyMatch(varPattern -> varPattern.var().equals(var) && varPattern.hasProperty(ValueProperty.class))) {
+                throw GraqlQueryException.boundVarHasValue(var);
+            }
+
+            patterns.add(var.val(value).admin());
+        });
+
+        return Patterns.conjunction(patterns);
+    }
+
+    @Override
+    public Stream<Answer> stream(Optional<EmbeddedGraknTx<?>> optionalGraph) {
+        EmbeddedGraknTx<?> tx = optionalGraph.orElseThrow(GraqlQueryException::noTx);
+
+        validatePattern(tx);
+
+        Map<Map<Var, Integer>, GraqlTraversal> plansByDegree =
+                plans.computeIfAbsent(ImmutableSet.copyOf(values.keySet()), vars -> new ConcurrentHashMap<>());
+
+        Map<Var, Integer> degreeBuckets = GreedyTraversalPlan.degreeBuckets(getPattern(), tx);
+        GraqlTraversal plan = plansByDegree.get(degreeBuckets);
+        if (plan == null) {
+            plan = GreedyTraversalPlan.createTraversal(getPattern(), tx);
+            plansByDegree.put(degreeBuckets, plan);
+            LOG.trace("Created query plan");
+        } else {
+            LOG.trace("Reused query plan");
+        }
+        GraqlTraversal graqlTraversal = plan.bindValues(values);
+        LOG.trace(graqlTraversal.toString());
+        return streamWithTraversal(getPattern().commonVars(), tx, graqlTraversal);
+    }
+}
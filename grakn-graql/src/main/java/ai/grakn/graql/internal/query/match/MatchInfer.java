@@ -29,7 +29,11 @@ import ai.grakn.graql.internal.reasoner.rule.RuleUtils;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static ai.grakn.util.CommonUtil.optionalOr;
@@ -40,10 +44,14 @@ import static ai.grakn.util.CommonUtil.optionalOr;
 class MatchInfer extends MatchModifier {
 
     private final boolean materialise;
+    private final boolean explain;
+    private final boolean parallel;
 
-    MatchInfer(AbstractMatch inner, boolean materialise) {
+    MatchInfer(AbstractMatch inner, boolean materialise, boolean explain, boolean parallel) {
         super(inner);
         this.materialise = materialise;
+        this.explain = explain;
+        this.parallel = parallel;
     }
 
     @Override
@@ -60,24 +68,43 @@ class MatchInfer extends MatchModifier {
         validatePattern(tx);
 
         try {
-            Iterator<Conjunction<VarPatternAdmin>> conjIt = getPattern().getDisjunctiveNormalForm().getPatterns().iterator();
+            Set<Conjunction<VarPatternAdmin>> conjunctions = getPattern().getDisjunctiveNormalForm().getPatterns();
+
+            // Materialising requires writing, which the read transactions of the parallel branches cannot do.
+            // Those transactions would also miss anything this one has not committed yet, so it is resolved here.
+            // Explanations refer to concepts of the transaction which built them, so they cannot be passed back either.
+            if (parallel && !materialise && !explain && conjunctions.size() > 1 && ParallelBranchStream.canRunIn(tx)) {
+                for (Conjunction<VarPatternAdmin> conj : conjunctions) ReasonerQueries.create(conj, tx).checkValid();
+
+                List<Function<EmbeddedGraknTx<?>, Stream<Answer>>> branches = conjunctions.stream()
+                        .map(conj -> (Function<EmbeddedGraknTx<?>, Stream<Answer>>) branchTx -> branchStream(conj, branchTx, false))
+                        .collect(Collectors.toList());
+                return ParallelBranchStream.create(tx, branches);
+            }
+
+            Iterator<Conjunction<VarPatternAdmin>> conjIt = conjunctions.iterator();
             Conjunction<VarPatternAdmin> conj = conjIt.next();
-            ReasonerQuery conjQuery = ReasonerQueries.create(conj, tx);
-            conjQuery.checkValid();
-            Stream<Answer> answerStream = conjQuery.isRuleResolvable() ? conjQuery.resolve(materialise) : tx.graql().infer(false).match(conj).stream();
+            ReasonerQueries.create(conj, tx).checkValid();
+            Stream<Answer> answerStream = branchStream(conj, tx, explain);
             while (conjIt.hasNext()) {
-                conj = conjIt.next();
-                conjQuery = ReasonerQueries.create(conj, tx);
-                Stream<Answer> localStream = conjQuery.isRuleResolvable() ? conjQuery.resolve(materialise) : tx.graql().infer(false).match(conj).stream();
-                answerStream = Stream.concat(answerStream, localStream);
+                answerStream = Stream.concat(answerStream, branchStream(conjIt.next(), tx, explain));
             }
-            return answerStream.map(result -> result.project(getSelectedNames()));
+            return answerStream;
         } catch (GraqlQueryException e) {
             System.err.println(e.getMessage());
             return Stream.empty();
         }
     }
 
+    /**
+     * @return the answers of a single conjunction of the disjunctive normal form of this query
+     */
+    private Stream<Answer> branchStream(Conjunction<VarPatternAdmin> conj, EmbeddedGraknTx<?> tx, boolean explain) {
+        ReasonerQuery conjQuery = ReasonerQueries.create(conj, tx);
+        Stream<Answer> answerStream = conjQuery.isRuleResolvable() ? conjQuery.resolve(materialise, explain) : tx.graql().infer(false).match(conj).stream();
+        return answerStream.map(result -> result.project(getSelectedNames()));
+    }
+
     @Override
     public final Boolean inferring() {
         return true;
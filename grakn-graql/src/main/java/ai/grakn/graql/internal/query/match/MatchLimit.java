@@ -42,6 +42,12 @@ class MatchLimit extends MatchModifier {
 
     @Override
     public Stream<Answer> stream(Optional<EmbeddedGraknTx<?>> graph) {
+        // Ordering and then limiting is a top-k query, so avoid ordering the whole stream
+        if (inner instanceof MatchOrder) {
+            return ((MatchOrder) inner).stream(graph, limit);
+        } else if (inner instanceof MatchOffset) {
+            return ((MatchOffset) inner).stream(graph, limit);
+        }
         return inner.stream(graph).limit(limit);
     }
 
@@ -45,6 +45,17 @@ class MatchOffset extends MatchModifier {
         return inner.stream(graph).skip(offset);
     }
 
+    /**
+     * @return the first {@code limit} results after the offset. When this is offsetting an ordered {@link Match}
+     * only the results up to the end of the limit are ordered.
+     */
+    Stream<Answer> stream(Optional<EmbeddedGraknTx<?>> graph, long limit) {
+        if (inner instanceof MatchOrder && offset <= Long.MAX_VALUE - limit) {
+            return ((MatchOrder) inner).stream(graph, offset + limit).skip(offset);
+        }
+        return stream(graph).limit(limit);
+    }
+
     @Override
     protected String modifierString() {
         return " offset " + offset + ";";
@@ -41,6 +41,13 @@ class MatchOrder extends MatchModifier {
         return order.orderStream(inner.stream(graph));
     }
 
+    /**
+     * @return the first {@code limit} results of the ordered stream, without ordering the whole stream
+     */
+    Stream<Answer> stream(Optional<EmbeddedGraknTx<?>> graph, long limit) {
+        return order.orderStream(inner.stream(graph), limit);
+    }
+
     @Override
     protected String modifierString() {
         return " " + order.toString() + ";";
@@ -24,8 +24,15 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import com.google.auto.value.AutoValue;
 
+import javax.annotation.Nullable;
 import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A class for handling ordering {@link Match}es.
@@ -47,12 +54,72 @@ abstract class Ordering {
      * @param stream the stream to order
      */
     Stream<Answer> orderStream(Stream<Answer> stream) {
-        return stream.sorted(comparator());
+        return ordered(stream).sorted(comparator()).map(OrderedAnswer::answer);
     }
 
-    private Comparator<Answer> comparator() {
-        Comparator<Answer> comparator = Comparator.comparing(this::getOrderValue);
-        return (order() == Order.desc) ? comparator.reversed() : comparator;
+    /**
+     * Order the stream, keeping only the first results.
+     * Only the results which are currently in the top {@code limit} are held in memory, rather than the whole stream.
+     * The stream is read when the first result is requested and results are then taken from the heap one at a time.
+     * @param stream the stream to order
+     * @param limit the number of results to keep
+     */
+    Stream<Answer> orderStream(Stream<Answer> stream, long limit) {
+        if (limit >= Integer.MAX_VALUE) return orderStream(stream).limit(limit);
+
+        Spliterator<Answer> top = new Spliterators.AbstractSpliterator<Answer>(limit, Spliterator.ORDERED) {
+            private @Nullable PriorityQueue<OrderedAnswer> heap = null;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Answer> action) {
+                if (heap == null) heap = top(stream, limit);
+
+                OrderedAnswer next = heap.poll();
+                if (next == null) return false;
+
+                action.accept(next.answer());
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(top, false).onClose(stream::close);
+    }
+
+    /**
+     * @return a heap holding the first {@code limit} results of the stream, with the first result at its head
+     */
+    private PriorityQueue<OrderedAnswer> top(Stream<Answer> stream, long limit) {
+        // The heap is ordered in reverse, so the head is the worst result seen so far
+        Comparator<OrderedAnswer> comparator = comparator();
+        PriorityQueue<OrderedAnswer> worstFirst = new PriorityQueue<>(comparator.reversed());
+
+        ordered(stream).forEach(answer -> {
+            if (worstFirst.size() < limit) {
+                worstFirst.add(answer);
+            } else if (comparator.compare(answer, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(answer);
+            }
+        });
+
+        PriorityQueue<OrderedAnswer> bestFirst = new PriorityQueue<>(Math.max(1, worstFirst.size()), comparator);
+        bestFirst.addAll(worstFirst);
+        return bestFirst;
+    }
+
+    /**
+     * Compares on the order value and then on the position in the stream, so that equal values keep the order in
+     * which they were found
+     */
+    private Comparator<OrderedAnswer> comparator() {
+        Comparator<OrderedAnswer> comparator = Comparator.comparing(OrderedAnswer::value);
+        if (order() == Order.desc) comparator = comparator.reversed();
+        return comparator.thenComparingLong(OrderedAnswer::position);
+    }
+
+    private Stream<OrderedAnswer> ordered(Stream<Answer> stream) {
+        AtomicLong position = new AtomicLong();
+        return stream.map(answer -> new OrderedAnswer(answer, getOrderValue(answer), position.getAndIncrement()));
     }
 
     // All data types are comparable, so this is safe
@@ -65,4 +132,31 @@ abstract class Ordering {
     public String toString() {
         return "order by " + var() + " ";
     }
+
+    /**
+     * An {@link Answer} alongside its order value, so that the value is only read once per answer
+     */
+    private static class OrderedAnswer {
+        private final Answer answer;
+        private final Comparable<? super Comparable> value;
+        private final long position;
+
+        OrderedAnswer(Answer answer, Comparable<? super Comparable> value, long position) {
+            this.answer = answer;
+            this.value = value;
+            this.position = position;
+        }
+
+        Answer answer() {
+            return answer;
+        }
+
+        Comparable<? super Comparable> value() {
+            return value;
+        }
+
+        long position() {
+            return position;
+        }
+    }
 }
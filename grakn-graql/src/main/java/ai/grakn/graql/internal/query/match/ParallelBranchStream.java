@@ -0,0 +1,251 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.match;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.internal.cache.TxCache;
+import com.google.common.collect.AbstractIterator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ *     Computes the branches of a disjunctive {@link ai.grakn.graql.Match} concurrently.
+ * </p>
+ *
+ * <p>
+ *     Each branch is computed on a thread of the pool of the session, which has
+ *     {@link GraknConfigKey#PARALLEL_BRANCH_THREADS} threads, in its own {@link GraknTxType#READ} transaction.
+ *     Transactions are bound to their thread, so answers are passed back as {@link ConceptId}s through a bounded queue
+ *     and the concepts are looked up again in the transaction of the consuming thread. Because of the separate
+ *     transactions, branches only see committed data and the answers carry no explanations, so a transaction which
+ *     has written anything is not allowed to use this.
+ * </p>
+ *
+ * <p>
+ *     Branches stop as soon as the consumer is done with the stream: when it is exhausted, fails or is closed, when
+ *     the consuming transaction is closed, or when the consumer has not taken an answer for a minute, which is how
+ *     streams which are dropped without being closed are detected.
+ * </p>
+ */
+class ParallelBranchStream {
+
+    private static final int QUEUE_SIZE = 1000;
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long ABANDON_TIMEOUT_MS = 60_000;
+
+    private final BlockingQueue<Result> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final List<Future<?>> branchFutures = new ArrayList<>();
+    private final TxCache consumerTxCache;
+    private volatile boolean closed = false;
+
+    private ParallelBranchStream(TxCache consumerTxCache) {
+        this.consumerTxCache = consumerTxCache;
+    }
+
+    /**
+     * @param tx the transaction of the consuming thread, the answers are built in this transaction
+     * @return true if the branches of a query can be computed by this class without missing anything visible to the
+     * given transaction
+     */
+    static boolean canRunIn(EmbeddedGraknTx<?> tx) {
+        return !tx.txCache().hasWritten();
+    }
+
+    /**
+     * @param tx the transaction of the consuming thread, the answers are built in this transaction
+     * @param branches functions computing the answers of each branch in the transaction they are given
+     * @return a stream of the answers of all branches, in the order they are found
+     */
+    static Stream<Answer> create(EmbeddedGraknTx<?> tx, List<Function<EmbeddedGraknTx<?>, Stream<Answer>>> branches) {
+        ParallelBranchStream stream = new ParallelBranchStream(tx.txCache());
+        ExecutorService executor = tx.session().queryExecutor();
+
+        try {
+            branches.forEach(branch -> stream.branchFutures.add(executor.submit(() -> stream.computeBranch(tx, branch))));
+        } catch (RejectedExecutionException e) {
+            stream.close();
+            throw e;
+        }
+
+        Iterator<Answer> iterator = stream.iterator(tx, branches.size());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(stream::close);
+    }
+
+    private void computeBranch(EmbeddedGraknTx<?> tx, Function<EmbeddedGraknTx<?>, Stream<Answer>> branch) {
+        // The branch may have been queued behind others until after the consumer was done
+        if (isAbandoned()) return;
+
+        try (EmbeddedGraknTx<?> branchTx = tx.session().open(GraknTxType.READ)) {
+            Iterator<Answer> answers = branch.apply(branchTx).iterator();
+            while (!isAbandoned() && answers.hasNext()) {
+                Map<Var, ConceptId> ids = new HashMap<>();
+                answers.next().forEach((var, concept) -> ids.put(var, concept.getId()));
+                if (!put(Result.answer(ids))) return;
+            }
+            put(Result.done());
+        } catch (Throwable e) {
+            // Errors are passed on as well, otherwise the consumer would wait for this branch until it times out
+            put(Result.error(e));
+        }
+    }
+
+    /**
+     * Waits for space in the queue, giving up if the consumer has stopped listening
+     *
+     * @return true if the result was queued
+     */
+    private boolean put(Result result) {
+        long deadline = System.currentTimeMillis() + ABANDON_TIMEOUT_MS;
+        try {
+            while (!isAbandoned()) {
+                if (queue.offer(result, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) return true;
+                if (System.currentTimeMillis() > deadline) close();
+            }
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private boolean isAbandoned() {
+        if (!closed && !consumerTxCache.isTxOpen()) close();
+        return closed;
+    }
+
+    private Iterator<Answer> iterator(GraknTx tx, int numBranches) {
+        return new AbstractIterator<Answer>() {
+            private int remainingBranches = numBranches;
+
+            @Override
+            protected Answer computeNext() {
+                while (remainingBranches > 0) {
+                    Result result = take();
+                    if (result.error != null) {
+                        close();
+                        throw propagate(result.error);
+                    } else if (result.ids == null) {
+                        remainingBranches--;
+                    } else {
+                        Answer answer = buildAnswer(tx, result.ids);
+                        if (answer != null) return answer;
+                    }
+                }
+                close();
+                return endOfData();
+            }
+        };
+    }
+
+    /**
+     * Waits for the next result, checking that the branches which should produce it are still running
+     */
+    private Result take() {
+        try {
+            while (true) {
+                Result result = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (result != null) return result;
+
+                // Branches queue their last result before they finish, so if they are all finished it is never coming
+                if (branchFutures.stream().allMatch(Future::isDone) && queue.isEmpty()) {
+                    close();
+                    throw new IllegalStateException("The branches of a parallel query stopped without completing");
+                }
+            }
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable error) {
+        if (error instanceof RuntimeException) return (RuntimeException) error;
+        if (error instanceof Error) throw (Error) error;
+        return new RuntimeException(error);
+    }
+
+    /**
+     * @return the answer with its concepts retrieved from the given transaction, or null if a concept no longer exists
+     */
+    private static Answer buildAnswer(GraknTx tx, Map<Var, ConceptId> ids) {
+        Map<Var, Concept> concepts = new HashMap<>();
+        for (Map.Entry<Var, ConceptId> entry : ids.entrySet()) {
+            Concept concept = tx.getConcept(entry.getValue());
+            if (concept == null) return null;
+            concepts.put(entry.getKey(), concept);
+        }
+        return new QueryAnswer(concepts);
+    }
+
+    private void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    /**
+     * An answer, the end of a branch or a failure of a branch
+     */
+    private static class Result {
+        private final Map<Var, ConceptId> ids;
+        private final Throwable error;
+
+        private Result(Map<Var, ConceptId> ids, Throwable error) {
+            this.ids = ids;
+            this.error = error;
+        }
+
+        static Result answer(Map<Var, ConceptId> ids) {
+            return new Result(ids, null);
+        }
+
+        static Result done() {
+            return new Result(null, null);
+        }
+
+        static Result error(Throwable error) {
+            return new Result(null, error);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.runner;
+
+import ai.grakn.GraknComputer;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.LabelId;
+import ai.grakn.graql.internal.analytics.ShortestPathVertexProgram;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.util.Schema;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Multimap;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the shortest paths between two concepts within a transaction, using a breadth-first search that expands from
+ * both ends at once.
+ *
+ * <p>
+ *     The search walks the same graph as {@link ShortestPathVertexProgram} does on a {@link GraknComputer}: things of
+ *     the selected types, connected by role-player edges and by the attribute edges of selected implicit relationship
+ *     types. It gives up once too many vertices have been visited, so that large searches can run on OLAP instead.
+ * </p>
+ */
+class BidirectionalPathSearch {
+
+    private final EmbeddedGraknTx<?> tx;
+    private final Set<Integer> labelIds;
+    private final int maxVisitedVertices;
+
+    private BidirectionalPathSearch(EmbeddedGraknTx<?> tx, Set<Integer> labelIds, int maxVisitedVertices) {
+        this.tx = tx;
+        this.labelIds = labelIds;
+        this.maxVisitedVertices = maxVisitedVertices;
+    }
+
+    static BidirectionalPathSearch create(EmbeddedGraknTx<?> tx, Set<LabelId> labelIds, int maxVisitedVertices) {
+        Set<Integer> ids = labelIds.stream().map(LabelId::getValue).collect(Collectors.toSet());
+        return new BidirectionalPathSearch(tx, ids, maxVisitedVertices);
+    }
+
+    /**
+     * Find the shortest paths from the source to the destination, which must be different concepts.
+     *
+     * @return the next concepts along the shortest paths from each concept on them, in the form used by
+     * {@link TinkerComputeQuery#getAllPaths}, which is empty if there is no path. Returns nothing if the search
+     * visited more than the maximum number of vertices before finding an answer.
+     */
+    Optional<Multimap<Concept, Concept>> successors(ConceptId sourceId, ConceptId destinationId) {
+        // Without type filters the OLAP job walks every edge in the graph, which this search does not reproduce
+        if (labelIds.isEmpty()) return Optional.empty();
+
+        Search fromSource = new Search(vertex(sourceId));
+        Search fromDestination = new Search(vertex(destinationId));
+
+        boolean met = false;
+
+        while (!met) {
+            if (fromSource.frontier.isEmpty() || fromDestination.frontier.isEmpty()) {
+                return Optional.of(ImmutableMultimap.of());
+            }
+
+            // Expanding the smaller frontier keeps the number of visited vertices down
+            if (fromSource.frontier.size() <= fromDestination.frontier.size()) {
+                met = fromSource.expand(fromDestination);
+            } else {
+                met = fromDestination.expand(fromSource);
+            }
+
+            // A level cut short may be missing some of the shortest paths, so the search cannot answer
+            if (fromSource.depths.size() + fromDestination.depths.size() > maxVisitedVertices) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(successors(fromSource, fromDestination));
+    }
+
+    private Multimap<Concept, Concept> successors(Search fromSource, Search fromDestination) {
+        // The searches only just met, so the shortest paths pass through the closest vertices visited by both
+        int length = Integer.MAX_VALUE;
+        for (Map.Entry<Vertex, Integer> entry : fromSource.depths.entrySet()) {
+            Integer depthFromDestination = fromDestination.depths.get(entry.getKey());
+            if (depthFromDestination != null) {
+                length = Math.min(length, entry.getValue() + depthFromDestination);
+            }
+        }
+
+        List<Vertex> meetingPoints = new ArrayList<>();
+        for (Map.Entry<Vertex, Integer> entry : fromSource.depths.entrySet()) {
+            Integer depthFromDestination = fromDestination.depths.get(entry.getKey());
+            if (depthFromDestination != null && entry.getValue() + depthFromDestination == length) {
+                meetingPoints.add(entry.getKey());
+            }
+        }
+
+        Multimap<Vertex, Vertex> successors = HashMultimap.create();
+
+        // Walk back to the source, linking each parent to the vertex it was reached from
+        Deque<Vertex> queue = new ArrayDeque<>(meetingPoints);
+        Set<Vertex> seen = new HashSet<>(meetingPoints);
+        while (!queue.isEmpty()) {
+            Vertex vertex = queue.pop();
+            for (Vertex parent : fromSource.parents.get(vertex)) {
+                successors.put(parent, vertex);
+                if (seen.add(parent)) queue.push(parent);
+            }
+        }
+
+        // Walk on to the destination, linking each vertex to the parents it was reached from
+        queue = new ArrayDeque<>(meetingPoints);
+        seen = new HashSet<>(meetingPoints);
+        while (!queue.isEmpty()) {
+            Vertex vertex = queue.pop();
+            for (Vertex parent : fromDestination.parents.get(vertex)) {
+                successors.put(vertex, parent);
+                if (seen.add(parent)) queue.push(parent);
+            }
+        }
+
+        Map<Vertex, Concept> concepts = new HashMap<>();
+        Multimap<Concept, Concept> result = HashMultimap.create();
+        successors.forEach((vertex, successor) -> result.put(
+                concepts.computeIfAbsent(vertex, this::concept), concepts.computeIfAbsent(successor, this::concept)
+        ));
+        return result;
+    }
+
+    private Vertex vertex(ConceptId id) {
+        return tx.getTinkerTraversal().V().has(Schema.VertexProperty.ID.name(), id.getValue()).next();
+    }
+
+    private Concept concept(Vertex vertex) {
+        return tx.getConcept(ConceptId.of(vertex.<String>value(Schema.VertexProperty.ID.name())));
+    }
+
+    /**
+     * The neighbours are read lazily, so that a search which runs out of budget stops reading the edges of a vertex
+     */
+    private Iterator<Vertex> neighbours(Vertex vertex) {
+        String rolePlayer = Schema.EdgeLabel.ROLE_PLAYER.getLabel();
+        String attribute = Schema.EdgeLabel.ATTRIBUTE.getLabel();
+
+        Iterator<Edge> edges = Iterators.filter(vertex.edges(Direction.BOTH, rolePlayer, attribute),
+                edge -> !edge.label().equals(attribute) || hasSelectedLabel(edge));
+
+        Iterator<Vertex> neighbours = Iterators.transform(edges,
+                edge -> edge.outVertex().equals(vertex) ? edge.inVertex() : edge.outVertex());
+
+        return Iterators.filter(neighbours, neighbour -> {
+            Property<Integer> typeLabelId = neighbour.property(Schema.VertexProperty.THING_TYPE_LABEL_ID.name());
+            return typeLabelId.isPresent() && labelIds.contains(typeLabelId.value());
+        });
+    }
+
+    private boolean hasSelectedLabel(Edge attributeEdge) {
+        Property<Integer> relationshipTypeLabelId =
+                attributeEdge.property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name());
+        return relationshipTypeLabelId.isPresent() && labelIds.contains(relationshipTypeLabelId.value());
+    }
+
+    /**
+     * The state of a breadth-first search from one end of the path
+     */
+    private class Search {
+        private final Map<Vertex, Integer> depths = new HashMap<>();
+        private final Multimap<Vertex, Vertex> parents = HashMultimap.create();
+        private List<Vertex> frontier;
+        private int depth = 0;
+
+        Search(Vertex start) {
+            depths.put(start, 0);
+            frontier = ImmutableList.of(start);
+        }
+
+        /**
+         * Visit the whole next level of the search, recording every parent of each newly visited vertex. Stops part
+         * way through the level once both searches together have visited more than the maximum number of vertices.
+         *
+         * @return whether this level reached a vertex visited by the other search
+         */
+        boolean expand(Search other) {
+            int budget = maxVisitedVertices - other.depths.size();
+            List<Vertex> nextFrontier = new ArrayList<>();
+            boolean met = false;
+
+            for (Vertex vertex : frontier) {
+                for (Iterator<Vertex> neighbours = neighbours(vertex); neighbours.hasNext(); ) {
+                    Vertex neighbour = neighbours.next();
+                    if (!depths.containsKey(neighbour)) {
+                        depths.put(neighbour, depth + 1);
+                        if (depths.size() > budget) return false;
+
+                        nextFrontier.add(neighbour);
+                        met |= other.depths.containsKey(neighbour);
+                    }
+
+                    if (depths.get(neighbour) == depth + 1) {
+                        parents.put(neighbour, vertex);
+                    }
+                }
+            }
+
+            frontier = nextFrontier;
+            depth++;
+            return met;
+        }
+    }
+}
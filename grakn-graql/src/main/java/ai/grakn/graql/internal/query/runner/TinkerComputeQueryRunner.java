@@ -87,6 +87,10 @@ import java.util.stream.Collectors;
  */
 public class TinkerComputeQueryRunner {
     private static final Logger LOG = LoggerFactory.getLogger(TinkerComputeQueryRunner.class);
+
+    // Path queries search within the transaction first, only starting an OLAP job if they visit more vertices than this
+    private static final int MAX_OLTP_PATH_VERTICES = 10_000;
+
     // TODO: rename this too
     private final EmbeddedGraknTx<?> tx;
 
@@ -326,16 +330,29 @@ public class TinkerComputeQueryRunner {
                 return Collections.singletonList(Collections.singletonList(tx.getConcept(sourceId)));
             }
 
-            ComputerResult result;
             Set<LabelId> subLabelIds = convertLabelsToIds(tinkerComputeQuery.subLabels());
-            try {
-                result = tinkerComputeQuery.compute(
-                        new ShortestPathVertexProgram(sourceId, destinationId), null, subLabelIds);
-            } catch (NoResultException e) {
-                return Collections.emptyList();
+
+            Optional<Multimap<Concept, Concept>> successors = BidirectionalPathSearch
+                    .create(tx, subLabelIds, MAX_OLTP_PATH_VERTICES).successors(sourceId, destinationId);
+
+            Multimap<Concept, Concept> predecessorMapFromSource;
+            if (successors.isPresent()) {
+                if (successors.get().isEmpty()) return Collections.emptyList();
+                predecessorMapFromSource = successors.get();
+            } else {
+                LOG.debug("Path search visited more than " + MAX_OLTP_PATH_VERTICES + " vertices, using OLAP");
+
+                ComputerResult result;
+                try {
+                    result = tinkerComputeQuery.compute(
+                            new ShortestPathVertexProgram(sourceId, destinationId), null, subLabelIds);
+                } catch (NoResultException e) {
+                    return Collections.emptyList();
+                }
+
+                predecessorMapFromSource = tinkerComputeQuery.getPredecessorMap(result);
             }
 
-            Multimap<Concept, Concept> predecessorMapFromSource = tinkerComputeQuery.getPredecessorMap(result);
             List<List<Concept>> allPaths = tinkerComputeQuery.getAllPaths(predecessorMapFromSource, sourceId);
             if (tinkerComputeQuery.isAttributeIncluded()) { // this can be slow
                 return tinkerComputeQuery.getExtendedPaths(allPaths);
@@ -49,7 +49,7 @@ public class ResolutionIterator extends ReasonerQueryIterator {
     private final ReasonerQueryImpl query;
     private final Set<Answer> answers = new HashSet<>();
 
-    private final QueryCache<ReasonerAtomicQuery> cache = new QueryCache<>();
+    private final QueryCache<ReasonerAtomicQuery> cache;
     private final Stack<ResolutionState> states = new Stack<>();
 
     private Answer nextAnswer = null;
@@ -58,7 +58,16 @@ public class ResolutionIterator extends ReasonerQueryIterator {
     private static final Logger LOG = LoggerFactory.getLogger(ReasonerQueryImpl.class);
 
     public ResolutionIterator(ReasonerQueryImpl q){
+        this(q, true);
+    }
+
+    /**
+     * @param q query to resolve
+     * @param explain whether the answers should carry explanations of how they were inferred
+     */
+    public ResolutionIterator(ReasonerQueryImpl q, boolean explain){
         this.query = q;
+        this.cache = new QueryCache<>(explain);
         this.reiterationRequired = q.requiresReiteration();
         states.push(query.subGoal(new QueryAnswer(), new UnifierImpl(), null, new HashSet<>(), cache));
     }
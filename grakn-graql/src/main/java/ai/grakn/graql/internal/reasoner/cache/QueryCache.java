@@ -45,10 +45,25 @@ import java.util.stream.Stream;
  */
 public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswers> {
 
+    private final boolean explains;
+
     public QueryCache(){
+        this(true);
+    }
+
+    /**
+     * @param explains whether the answers resolved using this cache should carry explanations
+     */
+    public QueryCache(boolean explains){
         super();
+        this.explains = explains;
     }
 
+    /**
+     * @return true if the answers resolved using this cache should carry explanations
+     */
+    public boolean explains(){ return explains;}
+
     @Override
     public QueryAnswers record(Q query, QueryAnswers answers) {
         CacheEntry<Q, QueryAnswers> match =  this.getEntry(query);
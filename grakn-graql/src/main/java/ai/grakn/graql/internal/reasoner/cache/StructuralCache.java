@@ -46,6 +46,9 @@ import java.util.stream.Stream;
  * id predicates of the cached query are transformed.
  *
  * The returned stream is a stream of the transformed cached query unified with the provided query.
+ *
+ * A traversal costed by the degrees of the vertices the query starts from is planned again when the degrees of the
+ * new vertices fall in other buckets, see {@link GreedyTraversalPlan#degreeBuckets}.
  * </p>
  *
  * @param <Q> the type of query that is being cached
@@ -57,9 +60,11 @@ class StructuralCache<Q extends ReasonerQueryImpl>{
 
     private final Equivalence<ReasonerQuery> equivalence = ReasonerQueryEquivalence.StructuralEquivalence;
     private final Map<Equivalence.Wrapper<Q>, CacheEntry<Q, GraqlTraversal>> structCache;
+    private final Map<Equivalence.Wrapper<Q>, Map<Var, Integer>> degreeBuckets;
 
     StructuralCache(){
         this.structCache = new HashMap<>();
+        this.degreeBuckets = new HashMap<>();
     }
 
     /**
@@ -79,13 +84,24 @@ class StructuralCache<Q extends ReasonerQueryImpl>{
 
             ReasonerQueryImpl transformedQuery = equivalentQuery.transformIds(idTransform);
 
-            return MatchBase.streamWithTraversal(transformedQuery.getPattern().commonVars(), tx, traversal.transform(idTransform))
+            // the transformed query keeps the variables of the cached one, so their degree buckets can be compared
+            Map<Var, Integer> transformedBuckets = GreedyTraversalPlan.degreeBuckets(transformedQuery.getPattern(), tx);
+            if (transformedBuckets.equals(degreeBuckets.get(structQuery))) {
+                traversal = traversal.transform(idTransform);
+            } else {
+                traversal = GreedyTraversalPlan.createTraversal(transformedQuery.getPattern(), tx);
+                structCache.put(structQuery, new CacheEntry<>(equivalentQuery, traversal));
+                degreeBuckets.put(structQuery, transformedBuckets);
+            }
+
+            return MatchBase.streamWithTraversal(transformedQuery.getPattern().commonVars(), tx, traversal)
                     .map(ans -> ans.unify(unifier))
                     .map(a -> a.explain(new LookupExplanation(query)));
         }
 
         GraqlTraversal traversal = GreedyTraversalPlan.createTraversal(query.getPattern(), tx);
         structCache.put(structQuery, new CacheEntry<>(query, traversal));
+        degreeBuckets.put(structQuery, GreedyTraversalPlan.degreeBuckets(query.getPattern(), tx));
 
         return MatchBase.streamWithTraversal(query.getPattern().commonVars(), tx, traversal)
                 .map(a -> a.explain(new LookupExplanation(query)));
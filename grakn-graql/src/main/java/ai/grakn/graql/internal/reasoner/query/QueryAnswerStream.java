@@ -19,6 +19,7 @@
 package ai.grakn.graql.internal.reasoner.query;
 
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
@@ -26,11 +27,17 @@ import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.iterator.LazyAnswerIterator;
 import ai.grakn.graql.internal.reasoner.utils.Pair;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -89,59 +96,42 @@ public class QueryAnswerStream {
         return inverseMap.containsKey(key)? inverseMap.get(key) : new HashSet<>();
     }
 
-    private static Set<Answer> findMatchingAnswers(Answer answer, Map<Pair<Var, Concept>, Set<Answer>> inverseMap, Var joinVar){
-        Pair<Var, Concept> key = new Pair<>(joinVar, answer.get(joinVar));
-        return inverseMap.containsKey(key)? inverseMap.get(key) : new HashSet<>();
-    }
-
     /**
-     * lazy stream join with quasi- sideways information propagation
+     * lazy hash join, the right operand is indexed on the concept ids of the join variables on first use
+     * and the left operand is streamed against the index
      * @param stream left stream operand
      * @param stream2 right stream operand
      * @param joinVars intersection on variables of two streams
      * @return joined stream
      */
     public static Stream<Answer> join(Stream<Answer> stream, Stream<Answer> stream2, ImmutableSet<Var> joinVars) {
-        LazyAnswerIterator l2 = new LazyAnswerIterator(stream2);
-        return stream.flatMap(a1 -> {
-            Stream<Answer> answerStream = l2.stream();
-            answerStream = answerStream.filter(ans -> {
-                for(Var v: joinVars) {
-                    if (!ans.get(v).equals(a1.get(v))) {
-                        return false;
-                    }
-                }
-                return true;
-            });
-            return answerStream.map(a -> a.merge(a1));
-        });
-    }
-
-    /**
-     * lazy stream join with fast lookup from inverse answer map
-     * @param stream left stream operand
-     * @param stream2 right stream operand
-     * @param stream2InverseMap inverse map of right operand from cache
-     * @param joinVars intersection on variables of two streams
-     * @return joined stream
-     */
-    static Stream<Answer> joinWithInverse(Stream<Answer> stream,
-                                          Stream<Answer> stream2,
-                                          Map<Pair<Var, Concept>, Set<Answer>> stream2InverseMap,
-                                          ImmutableSet<Var> joinVars) {
         if (joinVars.isEmpty()){
             LazyAnswerIterator l2 = new LazyAnswerIterator(stream2);
             return stream.flatMap(a1 -> l2.stream().map(a -> a.merge(a1)));
         }
+        Supplier<Map<List<ConceptId>, List<Answer>>> index = Suppliers.memoize(() -> joinIndex(stream2, joinVars));
         return stream.flatMap(a1 -> {
-            Iterator<Var> vit = joinVars.iterator();
-            Set<Answer> matchAnswers = findMatchingAnswers(a1, stream2InverseMap, vit.next());
-            while(vit.hasNext()){
-                matchAnswers = Sets.intersection(matchAnswers, findMatchingAnswers(a1, stream2InverseMap, vit.next()));
-            }
+            List<Answer> matchAnswers = index.get().get(joinKey(a1, joinVars));
+            if (matchAnswers == null) return Stream.empty();
             return matchAnswers.stream().map(a -> a.merge(a1));
         });
     }
-}
 
+    /**
+     * @param answers answers to be indexed
+     * @param joinVars variables to index the answers on
+     * @return map from the concept ids of the join variables to the answers having them
+     */
+    private static Map<List<ConceptId>, List<Answer>> joinIndex(Stream<Answer> answers, ImmutableSet<Var> joinVars){
+        Map<List<ConceptId>, List<Answer>> index = new HashMap<>();
+        answers.forEach(ans -> index.computeIfAbsent(joinKey(ans, joinVars), k -> new ArrayList<>()).add(ans));
+        return index;
+    }
 
+    private static List<ConceptId> joinKey(Answer answer, ImmutableSet<Var> joinVars){
+        ConceptId[] key = new ConceptId[joinVars.size()];
+        int i = 0;
+        for(Var var : joinVars) key[i++] = answer.get(var).getId();
+        return Arrays.asList(key);
+    }
+}
@@ -317,8 +317,9 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
     public Pair<Iterator<ResolutionState>, MultiUnifier> queryStateIterator(QueryStateBase parent, Set<ReasonerAtomicQuery> visitedSubGoals, QueryCache<ReasonerAtomicQuery> cache) {
         Pair<Stream<Answer>, MultiUnifier> cacheEntry = cache.getAnswerStreamWithUnifier(this);
         MultiUnifier cacheUnifier = cacheEntry.getValue().inverse();
-        Iterator<AnswerState> dbIterator = cacheEntry.getKey()
-                .map(a -> a.explain(a.getExplanation().setQuery(this)))
+        Stream<Answer> answers = cacheEntry.getKey();
+        if (cache.explains()) answers = answers.map(a -> a.explain(a.getExplanation().setQuery(this)));
+        Iterator<AnswerState> dbIterator = answers
                 .map(ans -> new AnswerState(ans, parent.getUnifier(), parent))
                 .iterator();
 
@@ -86,7 +86,6 @@ import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.var;
 import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.join;
-import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.joinWithInverse;
 import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.nonEqualsFilter;
 
 /**
@@ -500,11 +499,7 @@ public class ReasonerQueryImpl implements ReasonerQuery {
             for(ReasonerAtomicQuery qj : queries){
                 if ( qj != qi ){
                     Set<Var> joinVars = Sets.intersection(joinedVars, qj.getVarNames());
-                    subs = joinWithInverse(
-                            subs,
-                            cache.getAnswerStream(qj),
-                            cache.getInverseAnswerMap(qj, joinVars),
-                            ImmutableSet.copyOf(joinVars));
+                    subs = join(subs, cache.getAnswerStream(qj), ImmutableSet.copyOf(joinVars));
                     joinedVars.addAll(qj.getVarNames());
                 }
             }
@@ -531,10 +526,15 @@ public class ReasonerQueryImpl implements ReasonerQuery {
 
     @Override
     public Stream<Answer> resolve(boolean materialise) {
+        return resolve(materialise, true);
+    }
+
+    @Override
+    public Stream<Answer> resolve(boolean materialise, boolean explain) {
         if (materialise) {
             return resolveAndMaterialise(new LazyQueryCache<>(), new LazyQueryCache<>());
         } else {
-            return new ResolutionIterator(this).hasStream();
+            return new ResolutionIterator(this, explain).hasStream();
         }
     }
 
@@ -611,8 +611,9 @@ public class ReasonerQueryImpl implements ReasonerQuery {
         Iterator<QueryStateBase> subGoalIterator;
 
         if(!this.isRuleResolvable()) {
-            dbIterator = this.getQuery().stream()
-                    .map(ans -> ans.explain(new JoinExplanation(this, ans)))
+            Stream<Answer> answers = this.getQuery().stream();
+            if (cache.explains()) answers = answers.map(ans -> ans.explain(new JoinExplanation(this, ans)));
+            dbIterator = answers
                     .map(ans -> new AnswerState(ans, parent.getUnifier(), parent))
                     .iterator();
             subGoalIterator = Collections.emptyIterator();
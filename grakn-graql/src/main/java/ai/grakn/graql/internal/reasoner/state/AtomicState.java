@@ -87,10 +87,10 @@ public class AtomicState extends QueryState<ReasonerAtomicQuery>{
                 .unify(unifier);
         if (answer.isEmpty()) return answer;
 
-        return answer
+        answer = answer
                 .merge(query.getSubstitution())
-                .project(query.getVarNames())
-                .explain(new RuleExplanation(query, rule));
+                .project(query.getVarNames());
+        return getCache().explains()? answer.explain(new RuleExplanation(query, rule)) : answer;
     }
 
     private Answer materialisedAnswer(Answer baseAnswer, InferenceRule rule, Unifier unifier){
@@ -132,8 +132,7 @@ public class AtomicState extends QueryState<ReasonerAtomicQuery>{
 
         if (answer.isEmpty()) return answer;
 
-        return answer
-                .merge(query.getSubstitution())
-                .explain(new RuleExplanation(query, rule));
+        answer = answer.merge(query.getSubstitution());
+        return cache.explains()? answer.explain(new RuleExplanation(query, rule)) : answer;
     }
 }
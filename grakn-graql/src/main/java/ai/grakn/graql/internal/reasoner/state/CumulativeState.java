@@ -59,7 +59,7 @@ public class CumulativeState extends QueryStateBase{
 
     @Override
     public ResolutionState propagateAnswer(AnswerState state) {
-        Answer answer = getSubstitution().merge(state.getSubstitution(), true);
+        Answer answer = getSubstitution().merge(state.getSubstitution(), getCache().explains());
         if (subQueries.isEmpty()){
             return new AnswerState(answer, getUnifier(), getParentState());
         }
@@ -25,10 +25,13 @@ import ai.grakn.graql.GetQuery;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Match;
+import ai.grakn.graql.PreparedQuery;
 import ai.grakn.graql.UndefineQuery;
 import ai.grakn.graql.Var;
 import ai.grakn.test.rule.SampleKBContext;
 import ai.grakn.test.kbs.MovieKB;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import org.junit.After;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -44,6 +47,7 @@ import static ai.grakn.matcher.GraknMatchers.variable;
 import static ai.grakn.matcher.MovieMatchers.containsAllMovies;
 import static ai.grakn.util.GraqlTestUtil.assertExists;
 import static ai.grakn.util.GraqlTestUtil.assertNotExists;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
 public class QueryBuilderTest {
@@ -152,4 +156,40 @@ public class QueryBuilderTest {
         //noinspection ResultOfMethodCallIgnored
         movieKB.tx().graql().match(x.isa("movie")).withTx(movieKB.tx()).stream();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenBindingAPreparedQuery_TheResultsAreTheSameAsWritingTheValueInTheQuery() {
+        PreparedQuery<GetQuery> prepared = movieKB.tx().graql().prepare("match $x has title $t; get $x;");
+
+        for (String title : ImmutableList.of("Godfather", "Heat", "not-a-title")) {
+            GetQuery expected = movieKB.tx().graql().parse("match $x has title \"" + title + "\"; get $x;");
+            assertEquals(ImmutableSet.copyOf(expected.execute()), ImmutableSet.copyOf(prepared.bind(var("t"), title).execute()));
+        }
+    }
+
+    @Test
+    public void whenBindingAPreparedQueryWithoutAGraph_ItExecutesWithTheGraphLater() {
+        PreparedQuery<GetQuery> prepared = Graql.prepare("match $x has title $t; get $x;");
+
+        GetQuery expected = movieKB.tx().graql().parse("match $x has title \"Heat\"; get $x;");
+        assertEquals(ImmutableSet.copyOf(expected.execute()), ImmutableSet.copyOf(prepared.bind(var("t"), "Heat").withTx(movieKB.tx()).execute()));
+    }
+
+    @Test
+    public void whenBindingAVariableNotInAPreparedQuery_Throw() {
+        PreparedQuery<GetQuery> prepared = movieKB.tx().graql().prepare("match $x has title $t; get $x;");
+
+        exception.expect(GraqlQueryException.class);
+        exception.expectMessage(GraqlQueryException.varNotInQuery(var("y")).getMessage());
+        prepared.bind(var("y"), "Heat");
+    }
+
+    @Test
+    public void whenBindingAVariableWhichAlreadyHasAValue_Throw() {
+        PreparedQuery<GetQuery> prepared = movieKB.tx().graql().prepare("match $x has title $t; $t val \"Heat\"; get $x;");
+
+        exception.expect(GraqlQueryException.class);
+        exception.expectMessage(GraqlQueryException.boundVarHasValue(var("t")).getMessage());
+        prepared.bind(var("t"), "Godfather");
+    }
+}
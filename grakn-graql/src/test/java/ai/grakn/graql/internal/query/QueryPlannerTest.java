@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query;
 
+import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
@@ -25,23 +26,39 @@ import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.internal.gremlin.GraqlTraversal;
 import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
 import ai.grakn.graql.internal.gremlin.fragment.InIsaFragment;
+import ai.grakn.graql.internal.gremlin.fragment.InRolePlayerFragment;
 import ai.grakn.graql.internal.gremlin.fragment.LabelFragment;
 import ai.grakn.graql.internal.gremlin.fragment.NeqFragment;
 import ai.grakn.graql.internal.gremlin.fragment.OutIsaFragment;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.query.match.MatchBound;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.test.rule.SampleKBContext;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import static ai.grakn.graql.Graql.and;
 import static ai.grakn.graql.Graql.var;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class QueryPlannerTest {
@@ -423,6 +440,67 @@ public class QueryPlannerTest {
         assertEquals(y, plan.get(3).end());
     }
 
+    @Test
+    public void whenARolePlayerIsASupernode_DoNotExpandItsRelationships() {
+        Role role1 = tx.getRole("role1");
+        Role role2 = tx.getRole("role2");
+        RelationshipType relationshipType = tx.getRelationshipType(related);
+
+        Entity hub = tx.getEntityType(thingy2).addEntity();
+        Entity leaf = tx.getEntityType(thingy1).addEntity();
+        relationshipType.addRelationship().addRolePlayer(role1, leaf).addRolePlayer(role2, hub);
+        for (int i = 0; i < 50; i++) {
+            Entity other = tx.getEntityType(thingy3).addEntity();
+            relationshipType.addRelationship().addRolePlayer(role1, other).addRolePlayer(role2, hub);
+        }
+
+        Pattern pattern = and(
+                x.id(hub.getId()),
+                y.id(leaf.getId()),
+                var().rel(x).rel(y));
+        ImmutableList<Fragment> plan = getPlan(pattern);
+
+        // The relationship is found from the leaf, and only checked against the hub
+        List<Fragment> inRolePlayers =
+                plan.stream().filter(InRolePlayerFragment.class::isInstance).collect(Collectors.toList());
+        assertEquals(1, inRolePlayers.size());
+        assertEquals(y, inRolePlayers.get(0).start());
+    }
+
+    @Test
+    public void whenAVertexFoundById_IsARolePlayer_ThePlanDependsOnItsDegree() {
+        Entity entity = tx.getEntityType(thingy1).addEntity();
+
+        Pattern rolePlayer = and(x.id(entity.getId()), var().rel(x).rel(y));
+        Pattern notRolePlayer = and(x.id(entity.getId()), x.isa(thingy1));
+
+        assertEquals(ImmutableMap.of(x, 0), GreedyTraversalPlan.degreeBuckets(rolePlayer.admin(), tx));
+        assertTrue(GreedyTraversalPlan.degreeBuckets(notRolePlayer.admin(), tx).isEmpty());
+    }
+
+    @Test
+    public void whenBoundValuesHaveDegreesInTheSameBucket_ThePlanIsReused() {
+        AttributeType<String> attributeType = tx.getAttributeType(resourceType);
+        EntityType entityType = tx.getEntityType(thingy4);
+        entityType.addEntity().attribute(attributeType.putAttribute("rare"));
+        entityType.addEntity().attribute(attributeType.putAttribute("also rare"));
+        Attribute<String> common = attributeType.putAttribute("common");
+        for (int i = 0; i < 20; i++) entityType.addEntity().attribute(common);
+
+        Conjunction<PatternAdmin> pattern = Patterns.conjunction(ImmutableSet.of(x.has(resourceType, y).admin()));
+        Map<Set<Var>, Map<Map<Var, Integer>, GraqlTraversal>> plans = new HashMap<>();
+
+        assertEquals(1, new MatchBound(pattern, ImmutableMap.of(y, "rare"), plans).withTx(tx).stream().count());
+        Map<Map<Var, Integer>, GraqlTraversal> plansByDegree = plans.get(ImmutableSet.of(y));
+        GraqlTraversal plan = Iterables.getOnlyElement(plansByDegree.values());
+
+        assertEquals(1, new MatchBound(pattern, ImmutableMap.of(y, "also rare"), plans).withTx(tx).stream().count());
+        assertSame(plan, Iterables.getOnlyElement(plansByDegree.values()));
+
+        assertEquals(20, new MatchBound(pattern, ImmutableMap.of(y, "common"), plans).withTx(tx).stream().count());
+        assertEquals(2, plansByDegree.size());
+    }
+
     private ImmutableList<Fragment> getPlan(Pattern pattern) {
         return GreedyTraversalPlan.createTraversal(pattern.admin(), tx).fragments().iterator().next();
     }
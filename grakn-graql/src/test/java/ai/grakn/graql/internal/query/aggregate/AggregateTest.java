@@ -21,6 +21,7 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.Thing;
 import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.QueryBuilder;
@@ -35,9 +36,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collector;
 
 import static ai.grakn.graql.Graql.count;
 import static ai.grakn.graql.Graql.group;
@@ -52,6 +55,7 @@ import static ai.grakn.graql.Graql.var;
 import static ai.grakn.util.ErrorMessage.VARIABLE_NOT_IN_QUERY;
 import static java.lang.Math.pow;
 import static java.lang.Math.sqrt;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 
 public class AggregateTest {
@@ -234,6 +238,32 @@ public class AggregateTest {
         assertEquals(expected, query.execute().get().doubleValue(), 0.01d);
     }
 
+    @Test
+    public void whenCombiningPartialAggregates_TheResultIsTheSameAsAggregatingAllResults() {
+        List<Answer> answers = qb.match(var("x").isa("movie").has("tmdb-vote-count", var("y"))).stream().collect(toList());
+
+        List<Aggregate<Answer, ?>> aggregates = Arrays.asList(mean("y"), median("y"), sum("y"), group("x", count()));
+        for (Aggregate<Answer, ?> aggregate : aggregates) {
+            assertEquals(aggregate.apply(answers.stream()), applyInTwoParts(aggregate, answers));
+        }
+
+        //noinspection OptionalGetWithoutIsPresent
+        assertEquals(std("y").apply(answers.stream()).get(), applyInTwoParts(std("y"), answers).get(), 0.0001d);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> S applyInTwoParts(Aggregate<Answer, S> aggregate, List<Answer> answers) {
+        Collector<Answer, Object, S> collector = (Collector<Answer, Object, S>) AbstractAggregate.collector(aggregate);
+        int split = answers.size() / 2;
+
+        Object first = collector.supplier().get();
+        answers.subList(0, split).forEach(answer -> collector.accumulator().accept(first, answer));
+        Object second = collector.supplier().get();
+        answers.subList(split, answers.size()).forEach(answer -> collector.accumulator().accept(second, answer));
+
+        return collector.finisher().apply(collector.combiner().apply(first, second));
+    }
+
     @Test
     public void testEmptyMatchCount() {
         assertEquals(0L, rule.tx().graql().match(var().isa("runtime")).aggregate(count()).execute().longValue());
@@ -25,6 +25,7 @@ import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.Streamable;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.matcher.MatchableConcept;
 import ai.grakn.test.rule.SampleKBContext;
 import ai.grakn.test.kbs.MovieKB;
 import com.google.common.collect.ImmutableSet;
@@ -34,6 +35,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,6 +57,7 @@ import static ai.grakn.matcher.MovieMatchers.theMuppets;
 import static ai.grakn.util.ErrorMessage.VARIABLE_NOT_IN_QUERY;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -140,6 +145,39 @@ public class MatchModifierTest {
         assertThat(match, variable(z, contains(godfather, hocusPocus, apocalypseNow, theMuppets, chineseCoffee)));
     }
 
+    @Test
+    public void whenLimitingAnOrderedQuery_ReturnTheFirstResultsOfTheOrder() {
+        Var z = var("z");
+        Match match = qb.match(z.isa("movie").has("tmdb-vote-count", var("v"))).orderBy("v", desc).limit(3);
+
+        assertThat(match, variable(z, contains(godfather, hocusPocus, apocalypseNow)));
+    }
+
+    @Test
+    public void whenOrderingWithALimit_TheStreamIsOnlyReadWhenAResultIsRequested() {
+        Var z = var("z");
+        List<Answer> answers = qb.match(z.isa("movie").has("tmdb-vote-count", var("v"))).get().execute();
+        AtomicInteger read = new AtomicInteger();
+
+        Stream<Answer> top = Ordering.of(var("v"), desc).orderStream(answers.stream().peek(answer -> read.incrementAndGet()), 3);
+        assertEquals(0, read.get());
+
+        Iterator<Answer> iterator = top.iterator();
+        assertThat(MatchableConcept.of(iterator.next().get(z)), godfather);
+        assertEquals(answers.size(), read.get());
+        assertThat(MatchableConcept.of(iterator.next().get(z)), hocusPocus);
+        assertThat(MatchableConcept.of(iterator.next().get(z)), apocalypseNow);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void whenLimitingAnOrderedAndOffsetQuery_ReturnTheResultsOfTheOrderAfterTheOffset() {
+        Var z = var("z");
+        Match match = qb.match(z.isa("movie").has("tmdb-vote-count", var("v"))).orderBy("v", desc).offset(1).limit(3);
+
+        assertThat(match, variable(z, contains(hocusPocus, apocalypseNow, theMuppets)));
+    }
+
     @Test
     public void testOrPatternDistinct() {
         Match match = qb.match(
@@ -0,0 +1,120 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.graql.internal.query.match;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.kbs.MovieKB;
+import ai.grakn.test.rule.SampleKBContext;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelBranchStreamTest {
+
+    private static final Var x = Graql.var("x");
+
+    @ClassRule
+    public static final SampleKBContext rule = MovieKB.context();
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private ConceptId godfather;
+    private final AtomicLong produced = new AtomicLong();
+
+    @Before
+    public void setUp() {
+        godfather = rule.tx().graql().match(x.has("title", "Godfather")).get().execute().get(0).get(x).getId();
+    }
+
+    @Test
+    public void whenOneBranchFails_TheErrorReachesTheConsumer() {
+        List<Function<EmbeddedGraknTx<?>, Stream<Answer>>> branches = ImmutableList.of(
+                tx -> Stream.of(answer(tx)),
+                tx -> { throw new IllegalArgumentException("branch failed"); }
+        );
+
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("branch failed");
+
+        ParallelBranchStream.create(rule.tx(), branches).forEach(answer -> {});
+    }
+
+    @Test
+    public void whenTheStreamIsClosedEarly_TheBranchesStop() throws InterruptedException {
+        try (Stream<Answer> answers = ParallelBranchStream.create(rule.tx(), endlessBranches())) {
+            assertEquals(godfather, answers.findFirst().get().get(x).getId());
+        }
+
+        assertBranchesStop();
+    }
+
+    @Test
+    public void whenTheStreamIsAbandoned_TheBranchesStopWhenTheConsumingTransactionCloses() throws InterruptedException {
+        Iterator<Answer> answers = ParallelBranchStream.create(rule.tx(), endlessBranches()).iterator();
+        assertEquals(godfather, answers.next().get(x).getId());
+
+        rule.tx().close();
+
+        assertBranchesStop();
+    }
+
+    private List<Function<EmbeddedGraknTx<?>, Stream<Answer>>> endlessBranches() {
+        Function<EmbeddedGraknTx<?>, Stream<Answer>> branch = tx -> Stream.generate(() -> {
+            produced.incrementAndGet();
+            return answer(tx);
+        });
+        return ImmutableList.of(branch, branch);
+    }
+
+    private Answer answer(EmbeddedGraknTx<?> tx) {
+        return new QueryAnswer(ImmutableMap.of(x, tx.getConcept(godfather)));
+    }
+
+    /**
+     * The branches check whether they are still needed at least every 100 milliseconds, so once they have had time
+     * to notice no more answers are produced
+     */
+    private void assertBranchesStop() throws InterruptedException {
+        Thread.sleep(500);
+        long stopped = produced.get();
+        Thread.sleep(500);
+        assertEquals(stopped, produced.get());
+        assertTrue(stopped > 0);
+    }
+}
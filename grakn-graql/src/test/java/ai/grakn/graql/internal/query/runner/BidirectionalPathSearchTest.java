@@ -0,0 +1,118 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.runner;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.Entity;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.rule.SessionContext;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class BidirectionalPathSearchTest {
+
+    @ClassRule
+    public static final SessionContext sessionContext = SessionContext.create();
+
+    private EmbeddedGraknTx<?> tx;
+    private Set<LabelId> labelIds;
+
+    private Entity entity1;
+    private Entity entity2;
+    private Entity entity3;
+    private Entity entity4;
+    private Relationship relationship12;
+    private Relationship relationship23;
+
+    @Before
+    public void setUp() {
+        GraknSession session = sessionContext.newSession();
+        tx = (EmbeddedGraknTx<?>) session.open(GraknTxType.WRITE);
+
+        EntityType thing = tx.putEntityType("thingy");
+        Role role1 = tx.putRole("role1");
+        Role role2 = tx.putRole("role2");
+        thing.plays(role1).plays(role2);
+        RelationshipType related = tx.putRelationshipType("related").relates(role1).relates(role2);
+
+        entity1 = thing.addEntity();
+        entity2 = thing.addEntity();
+        entity3 = thing.addEntity();
+        entity4 = thing.addEntity();
+
+        relationship12 = related.addRelationship().addRolePlayer(role1, entity1).addRolePlayer(role2, entity2);
+        relationship23 = related.addRelationship().addRolePlayer(role1, entity2).addRolePlayer(role2, entity3);
+
+        labelIds = ImmutableSet.of(tx.convertToId(thing.getLabel()), tx.convertToId(related.getLabel()));
+    }
+
+    @After
+    public void closeTx() {
+        tx.close();
+    }
+
+    @Test
+    public void whenConceptsAreConnected_ReturnTheNextConceptsAlongTheShortestPath() {
+        Optional<Multimap<Concept, Concept>> successors =
+                BidirectionalPathSearch.create(tx, labelIds, 100).successors(entity1.getId(), entity3.getId());
+
+        Multimap<Concept, Concept> expected = ImmutableMultimap.of(
+                entity1, relationship12,
+                relationship12, entity2,
+                entity2, relationship23,
+                relationship23, entity3
+        );
+
+        assertEquals(Optional.of(expected), successors.map(ImmutableMultimap::copyOf));
+    }
+
+    @Test
+    public void whenConceptsAreNotConnected_ReturnNoSuccessors() {
+        Optional<Multimap<Concept, Concept>> successors =
+                BidirectionalPathSearch.create(tx, labelIds, 100).successors(entity1.getId(), entity4.getId());
+
+        assertEquals(Optional.of(ImmutableMultimap.of()), successors);
+    }
+
+    @Test
+    public void whenTheSearchVisitsTooManyVertices_GiveUp() {
+        Optional<Multimap<Concept, Concept>> successors =
+                BidirectionalPathSearch.create(tx, labelIds, 2).successors(entity1.getId(), entity3.getId());
+
+        assertFalse(successors.isPresent());
+    }
+}
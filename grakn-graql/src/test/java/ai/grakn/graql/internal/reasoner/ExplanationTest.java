@@ -318,6 +318,18 @@ public class ExplanationTest {
         });
     }
 
+    @Test
+    public void whenExplanationsAreDisabled_TheSameAnswersAreFoundWithoutExplanations(){
+        GraknTx genealogyGraph = genealogyKB.tx();
+        String queryString = "match ($x, $y) isa cousins; get;";
+
+        List<Answer> explained = genealogyGraph.graql().infer(true).<GetQuery>parse(queryString).execute();
+        List<Answer> unexplained = genealogyGraph.graql().infer(true).explain(false).<GetQuery>parse(queryString).execute();
+
+        assertEquals(Sets.newHashSet(explained), Sets.newHashSet(unexplained));
+        unexplained.forEach(answer -> assertTrue(answer.getExplanation().isEmpty()));
+    }
+
     private void testExplanation(Collection<Answer> answers){
         answers.forEach(this::testExplanation);
     }
@@ -881,6 +881,32 @@ public class ReasoningTests {
         assertTrue(answers2.containsAll(answers));
     }
 
+    @Test //Expected result: Resolving the branches of a disjunction concurrently returns the same answers as resolving them one by one
+    public void disjunctiveQueryResolvedInParallel_sameAnswersAsSequentialResolution(){
+        String queryString = "match " +
+                "(role1: $x, role2: $y) isa binary-base;" +
+                "$y has name 'c';" +
+                "{$x has name 'a';} or {$x has name 'b';}; get;";
+
+        List<Answer> answers = testSet29.tx().graql().infer(true).<GetQuery>parse(queryString).execute();
+        List<Answer> parallelAnswers = testSet29.tx().graql().infer(true).explain(false).parallel(true).<GetQuery>parse(queryString).execute();
+        assertFalse(answers.isEmpty());
+        assertEquals(Sets.newHashSet(answers), Sets.newHashSet(parallelAnswers));
+    }
+
+    @Test //Expected result: Explained answers of a disjunction resolved in parallel keep their explanations
+    public void disjunctiveQueryResolvedInParallelWithExplanations_answersAreExplained(){
+        String queryString = "match " +
+                "(role1: $x, role2: $y) isa binary-base;" +
+                "$y has name 'c';" +
+                "{$x has name 'a';} or {$x has name 'b';}; get;";
+
+        List<Answer> answers = testSet29.tx().graql().infer(true).explain(true).<GetQuery>parse(queryString).execute();
+        List<Answer> parallelAnswers = testSet29.tx().graql().infer(true).explain(true).parallel(true).<GetQuery>parse(queryString).execute();
+        assertEquals(Sets.newHashSet(answers), Sets.newHashSet(parallelAnswers));
+        assertTrue(parallelAnswers.stream().anyMatch(answer -> answer.getExplanation().getQuery() != null));
+    }
+
     /**
      * Tests a scenario in which the neq predicate binds free variables of two recursive equivalent relations.
      * Corresponds to the following pattern:
@@ -36,16 +36,26 @@ import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
 import ai.grakn.rpc.generated.GrpcIterator.IteratorId;
 import ai.grakn.util.CommonUtil;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Table;
 import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import mjson.Json;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -61,9 +71,28 @@ import java.util.stream.StreamSupport;
  */
 public class GrpcClient implements AutoCloseable {
 
+    /**
+     * {@link ConceptMethod}s that only read from the graph and so may be answered from the {@link #prefetch} cache.
+     */
+    private static final ImmutableSet<ConceptMethod<?>> CACHEABLE_METHODS = ImmutableSet.of(
+            ConceptMethods.GET_VALUE, ConceptMethods.GET_DATA_TYPE_OF_TYPE, ConceptMethods.GET_DATA_TYPE_OF_ATTRIBUTE,
+            ConceptMethods.GET_LABEL, ConceptMethods.IS_IMPLICIT, ConceptMethods.IS_INFERRED,
+            ConceptMethods.IS_ABSTRACT, ConceptMethods.GET_WHEN, ConceptMethods.GET_THEN, ConceptMethods.GET_REGEX,
+            ConceptMethods.GET_ROLE_PLAYERS, ConceptMethods.GET_ATTRIBUTE_TYPES, ConceptMethods.GET_KEY_TYPES,
+            ConceptMethods.GET_DIRECT_TYPE, ConceptMethods.GET_DIRECT_SUPER, ConceptMethods.GET_SUPER_CONCEPTS,
+            ConceptMethods.GET_SUB_CONCEPTS, ConceptMethods.GET_ATTRIBUTES, ConceptMethods.GET_KEYS,
+            ConceptMethods.GET_ROLES_PLAYED_BY_TYPE, ConceptMethods.GET_INSTANCES,
+            ConceptMethods.GET_ROLES_PLAYED_BY_THING, ConceptMethods.GET_RELATIONSHIPS,
+            ConceptMethods.GET_RELATIONSHIP_TYPES_THAT_RELATE_ROLE, ConceptMethods.GET_TYPES_THAT_PLAY_ROLE,
+            ConceptMethods.GET_RELATED_ROLES, ConceptMethods.GET_OWNERS
+    );
+
     private final GrpcConceptConverter conceptConverter;
     private final TxGrpcCommunicator communicator;
 
+    // Results of prefetched concept methods, valid until something is written in this transaction
+    private final Table<ConceptId, ConceptMethod<?>, Supplier<?>> conceptCache = HashBasedTable.create();
+
     private GrpcClient(GrpcConceptConverter conceptConverter, TxGrpcCommunicator communicator) {
         this.conceptConverter = conceptConverter;
         this.communicator = communicator;
@@ -80,6 +109,10 @@ public class GrpcClient implements AutoCloseable {
     }
 
     public Iterator<Object> execQuery(Query<?> query) {
+        if (!query.isReadOnly()) {
+            conceptCache.clear();
+        }
+
         communicator.send(GrpcUtil.execQueryRequest(query.toString(), query.inferring()));
 
         TxResponse txResponse = responseOrThrow();
@@ -115,10 +148,77 @@ public class GrpcClient implements AutoCloseable {
 
     @Nullable
     public <T> T runConceptMethod(ConceptId id, ConceptMethod<T> conceptMethod) {
+        Supplier<?> cached = conceptCache.get(id, conceptMethod);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        if (!CACHEABLE_METHODS.contains(conceptMethod)) {
+            conceptCache.clear();
+        }
+
         communicator.send(GrpcUtil.runConceptMethodRequest(id, conceptMethod));
         return conceptMethod.get(conceptConverter, this, responseOrThrow());
     }
 
+    /**
+     * Run the given read-only {@link ConceptMethod}s on every given concept and cache the results, so that later calls
+     * to {@link #runConceptMethod(ConceptId, ConceptMethod)} do not go to the server.
+     *
+     * <p>
+     *     All the requests are sent before any response is read, so the whole batch costs a single round trip. Stream
+     *     results are read in full once every response has arrived. The cache is cleared by any write in this
+     *     transaction. If any request fails, every response is still read before the first error is thrown, and
+     *     nothing is cached.
+     * </p>
+     */
+    public void prefetch(Collection<ConceptId> ids, Collection<? extends ConceptMethod<?>> conceptMethods) {
+        for (ConceptMethod<?> conceptMethod : conceptMethods) {
+            Preconditions.checkArgument(
+                    CACHEABLE_METHODS.contains(conceptMethod), "Cannot prefetch concept method %s", conceptMethod
+            );
+        }
+
+        List<Map.Entry<ConceptId, ConceptMethod<?>>> requests = new ArrayList<>();
+
+        for (ConceptId id : ids) {
+            for (ConceptMethod<?> conceptMethod : conceptMethods) {
+                if (!conceptCache.contains(id, conceptMethod)) {
+                    communicator.send(GrpcUtil.runConceptMethodRequest(id, conceptMethod));
+                    requests.add(Maps.immutableEntry(id, conceptMethod));
+                }
+            }
+        }
+
+        // Every response is read even if one fails, so that none is left behind to be mistaken for the response of
+        // a later request
+        List<TxResponse> responses = new ArrayList<>(requests.size());
+        RuntimeException error = null;
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                responses.add(responseOrThrow());
+            } catch (RuntimeException e) {
+                if (error == null) error = e;
+            }
+        }
+        if (error != null) throw error;
+
+        for (int i = 0; i < requests.size(); i++) {
+            Map.Entry<ConceptId, ConceptMethod<?>> request = requests.get(i);
+            Object value = request.getValue().get(conceptConverter, this, responses.get(i));
+
+            Supplier<?> cached;
+            if (value instanceof Stream) {
+                List<?> values = ((Stream<?>) value).collect(CommonUtil.toImmutableList());
+                cached = values::stream;
+            } else {
+                cached = () -> value;
+            }
+
+            conceptCache.put(request.getKey(), request.getValue(), cached);
+        }
+    }
+
     public Optional<Concept> getConcept(ConceptId id) {
         communicator.send(GrpcUtil.getConceptRequest(id));
         return conceptConverter.convert(responseOrThrow().getOptionalConcept());
@@ -145,26 +245,31 @@ public class GrpcClient implements AutoCloseable {
     }
 
     public Concept putEntityType(Label label) {
+        conceptCache.clear();
         communicator.send(GrpcUtil.putEntityTypeRequest(label));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putRelationshipType(Label label) {
+        conceptCache.clear();
         communicator.send(GrpcUtil.putRelationshipTypeRequest(label));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putAttributeType(Label label, AttributeType.DataType<?> dataType) {
+        conceptCache.clear();
         communicator.send(GrpcUtil.putAttributeTypeRequest(label, dataType));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putRole(Label label) {
+        conceptCache.clear();
         communicator.send(GrpcUtil.putRoleRequest(label));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putRule(Label label, Pattern when, Pattern then) {
+        conceptCache.clear();
         communicator.send(GrpcUtil.putRuleRequest(label, when, then));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
@@ -46,9 +46,12 @@ import java.net.URI;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static ai.grakn.util.EngineCommunicator.contactEngine;
@@ -78,6 +81,7 @@ public class EmbeddedGraknSession implements GraknSession {
     private final boolean remoteSubmissionNeeded;
     private final CommitLogHandler commitLogHandler;
     private ScheduledExecutorService commitLogSubmitter;
+    private @Nullable ExecutorService queryExecutor = null;
 
     private final TxFactory<?> txFactory;
     private final TxFactory<?> computerTxFactory;
@@ -132,6 +136,23 @@ public class EmbeddedGraknSession implements GraknSession {
         return commitLogHandler;
     }
 
+    /**
+     * The threads shared by the queries of this session which compute parts of a query in parallel.
+     * It is created when first needed and sized by {@link GraknConfigKey#PARALLEL_BRANCH_THREADS}.
+     */
+    public synchronized ExecutorService queryExecutor(){
+        if(queryExecutor == null) {
+            int threads = config.getProperty(GraknConfigKey.PARALLEL_BRANCH_THREADS);
+            ThreadFactory namedThreadFactory = new ThreadFactoryBuilder()
+                    .setNameFormat("graql-parallel-branch-%d").setDaemon(true).build();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), namedThreadFactory);
+            pool.allowCoreThreadTimeOut(true);
+            queryExecutor = pool;
+        }
+        return queryExecutor;
+    }
+
     /**
      * This methods creates a {@link EmbeddedGraknSession} object for the remote API.
      * A user should not call this method directly.
@@ -190,6 +211,7 @@ public class EmbeddedGraknSession implements GraknSession {
         config.setConfigProperty(GraknConfigKey.SESSION_CACHE_TIMEOUT_MS, 30_000);
         config.setConfigProperty(GraknConfigKey.KB_MODE, GraknTxFactoryBuilder.IN_MEMORY);
         config.setConfigProperty(GraknConfigKey.KB_ANALYTICS, GraknTxFactoryBuilder.IN_MEMORY);
+        config.setConfigProperty(GraknConfigKey.PARALLEL_BRANCH_THREADS, 4);
         return config;
     }
 
@@ -230,6 +252,11 @@ public class EmbeddedGraknSession implements GraknSession {
         //Stop submitting commit logs automatically
         if(remoteSubmissionNeeded) commitLogSubmitter.shutdown();
 
+        //Stop computing the parts of queries in parallel
+        synchronized (this) {
+            if(queryExecutor != null) queryExecutor.shutdownNow();
+        }
+
         //Close the main tx connections
         submitLogs();
         if(tx != null) tx.closeSession();
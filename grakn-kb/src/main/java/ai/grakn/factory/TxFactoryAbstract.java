@@ -55,6 +55,10 @@ public abstract class TxFactoryAbstract<Tx extends EmbeddedGraknTx<G>, G extends
 
     protected abstract G buildTinkerPopGraph(boolean batchLoading);
 
+    /**
+     * Opens the transaction of the calling thread. Every thread shares the same {@link EmbeddedGraknTx}, whose
+     * transaction state is bound to the thread, so opening is serialised on this factory.
+     */
     @Override
     final public synchronized Tx open(GraknTxType txType) {
         if (GraknTxType.BATCH.equals(txType)) {
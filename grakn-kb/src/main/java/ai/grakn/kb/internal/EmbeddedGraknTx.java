@@ -79,6 +79,7 @@ import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -750,7 +751,8 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
 
         Map<ConceptId, Long> newInstances = txCache().getShardingCount();
         Map<String, ConceptId> newAttributes = txCache().getNewAttributes();
-        boolean logsExist = !newInstances.isEmpty() || !newAttributes.isEmpty();
+        Map<ConceptId, Long> removedInstances = txCache().getRemovedCount();
+        boolean logsExist = !newInstances.isEmpty() || !newAttributes.isEmpty() || !removedInstances.isEmpty();
 
         LOG.trace("Graph is valid. Committing graph . . . ");
         commitTransactionInternal();
@@ -762,10 +764,12 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
             if(trackingNeeded) {
                 session().commitLogHandler().addNewInstances(newInstances);
                 session().commitLogHandler().addNewAttributes(newAttributes);
+                session().commitLogHandler().addRemovedInstances(removedInstances);
             } else {
                 Map<String, Set<ConceptId>> attributes = newAttributes.entrySet().stream().
                         collect(Collectors.toMap(Map.Entry::getKey, e -> Collections.singleton(e.getValue())));
-                return Optional.of(CommitLog.create(keyspace(), newInstances, attributes));
+                //The counts are copied because the cache is cleared when the transaction closes
+                return Optional.of(CommitLog.create(keyspace(), new HashMap<>(newInstances), attributes, new HashMap<>(removedInstances)));
             }
         }
 
@@ -922,7 +926,27 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
         }
 
         EdgeElement edge = newOwner.vertex().putEdge(newValue.vertex(), Schema.EdgeLabel.ATTRIBUTE);
-        factory().buildRelation(edge, relationEdge.type(), relationEdge.ownerRole(), relationEdge.valueRole());
+        Relationship relationship = factory().buildRelation(edge, relationEdge.type(), relationEdge.ownerRole(), relationEdge.valueRole());
+        edge.property(Schema.EdgeProperty.RELATIONSHIP_ID, relationship.getId().getValue());
+    }
+
+    /**
+         * Records the fencing token of the lock guarding a change to the concept. The token is checked and written
+         * in this transaction, so the change only commits if no later lock holder has fenced the concept meanwhile.
+         * @param conceptId the id of the concept being changed
+         * @param fencingToken the fencing token of the lock held while changing the concept
+         * @return false if a later lock holder has already fenced the concept and the change must be abandoned
+         */
+    public boolean fence(ConceptId conceptId, long fencingToken) {
+        ConceptImpl concept = getConcept(conceptId);
+        if (concept == null) return true;
+
+        VertexElement vertex = concept.vertex();
+        Long fenced = vertex.property(Schema.VertexProperty.FENCING_TOKEN);
+        if (fenced != null && fenced > fencingToken) return false;
+
+        vertex.property(Schema.VertexProperty.FENCING_TOKEN, fencingToken);
+        return true;
     }
 
     /**
@@ -35,6 +35,7 @@ import ai.grakn.kb.internal.structure.Casting;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -48,6 +49,10 @@ import java.util.Set;
  *     <ol>
  *         <li>Validation Concepts - Concepts which need to undergo validation.</li>
  *         <li>Built Concepts -  Prevents rebuilding when the same vertex is encountered</li>
+ *         <li>
+ *             Read Only Built Things - Same as above but bounded so that long {@link GraknTxType#READ} scans
+ *             do not keep every {@link Thing} they have touched alive.
+ *         </li>
  *         <li>The Schema - Optimises validation checks by preventing db read. </li>
  *         <li> {@link Label} - Allows mapping type labels to type Ids</li>
  *         <li>Transaction meta Data - Allows transactions to function in different ways</li>
@@ -58,11 +63,26 @@ import java.util.Set;
  *
  */
 public class TxCache{
+    //The maximum number of non-schema concepts which are cached during a read only transaction
+    static final int READ_TX_THING_CACHE_SIZE = 10000;
+
     //Cache which is shared across multiple transactions
     private final GlobalCache globalCache;
 
     //Caches any concept which has been touched before
     private final Map<ConceptId, Concept> conceptCache = new HashMap<>();
+
+    //Caches the least recently used non-schema concepts of a read only transaction. Schema concepts are never put here.
+    private final Map<ConceptId, Concept> readOnlyThingCache = new LinkedHashMap<ConceptId, Concept>(16, 0.75f, true){
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ConceptId, Concept> eldest) {
+            if(size() > READ_TX_THING_CACHE_SIZE){
+                CacheOwner.from(eldest.getValue()).txCacheClear();
+                return true;
+            }
+            return false;
+        }
+    };
     private final Map<Label, SchemaConcept> schemaConceptCache = new HashMap<>();
     private final Map<Label, LabelId> labelCache = new HashMap<>();
 
@@ -80,13 +100,16 @@ public class TxCache{
     //We Track the number of concept connections which have been made which may result in a new shard
     private final Map<ConceptId, Long> shardingCount = new HashMap<>();
 
+    //Removals are also tracked on their own because additions to the same type cancel them out in the sharding count
+    private final Map<ConceptId, Long> removedCount = new HashMap<>();
+
     //New attributes are tracked so that we can merge any duplicate attributes in post.
     // This is a map of attribute indices to concept ids
     // The index and id are directly cached to prevent unneeded reads
     private Map<String, ConceptId> newAttributes = new HashMap<>();
 
     //Transaction Specific Meta Data
-    private boolean isTxOpen = false;
+    private volatile boolean isTxOpen = false;
     private boolean writeOccurred = false;
     private GraknTxType txType;
     private String closedReason = null;
@@ -116,6 +139,13 @@ public class TxCache{
         writeOccurred = true;
     }
 
+    /**
+     * @return true if this transaction has written to the graph since it was opened
+     */
+    public boolean hasWritten(){
+        return writeOccurred;
+    }
+
     /**
      *
      * @return true if ths schema labels have been cached. The graph cannot operate if this is false.
@@ -167,6 +197,14 @@ public class TxCache{
         return shardingCount;
     }
 
+    /**
+     *
+     * @return All the types that have lost instances and how many they lost
+     */
+    public Map<ConceptId, Long> getRemovedCount(){
+        return removedCount;
+    }
+
     /**
      *
      * @return All the types currently cached in the transaction. Used for
@@ -191,6 +229,14 @@ public class TxCache{
         return conceptCache;
     }
 
+    /**
+     *
+     * @return The bounded set of non-schema concepts which have been accessed in this read only transaction
+     */
+    Map<ConceptId, Concept> getReadOnlyThingCache() {
+        return readOnlyThingCache;
+    }
+
     /**
      *
      * @param concept The concept to no longer track
@@ -211,6 +257,7 @@ public class TxCache{
         }
 
         conceptCache.remove(concept.getId());
+        readOnlyThingCache.remove(concept.getId());
         if (concept.isSchemaConcept()) {
             Label label = concept.asSchemaConcept().getLabel();
             schemaConceptCache.remove(label);
@@ -224,10 +271,17 @@ public class TxCache{
 
     /**
      * Caches a concept so it does not have to be rebuilt later.
+     * Non-schema concepts built during a {@link GraknTxType#READ} transaction are placed in a bounded cache as they
+     * cannot be mutated and so are safe to rebuild if evicted.
      *
      * @param concept The concept to be cached.
      */
     public void cacheConcept(Concept concept){
+        if(GraknTxType.READ.equals(txType) && !concept.isSchemaConcept()){
+            readOnlyThingCache.put(concept.getId(), concept);
+            return;
+        }
+
         conceptCache.put(concept.getId(), concept);
         if(concept.isSchemaConcept()){
             SchemaConcept schemaConcept = concept.asSchemaConcept();
@@ -254,7 +308,7 @@ public class TxCache{
      * @return true if the concept is cached
      */
     public boolean isConceptCached(ConceptId id){
-        return conceptCache.containsKey(id);
+        return conceptCache.containsKey(id) || readOnlyThingCache.containsKey(id);
     }
 
     /**
@@ -283,8 +337,10 @@ public class TxCache{
      * @return The cached concept
      */
     public <X extends Concept> X getCachedConcept(ConceptId id){
+        Concept concept = conceptCache.get(id);
+        if(concept == null) concept = readOnlyThingCache.get(id);
         //noinspection unchecked
-        return (X) conceptCache.get(id);
+        return (X) concept;
     }
 
     /**
@@ -309,6 +365,7 @@ public class TxCache{
     }
     public void removedInstance(ConceptId conceptId){
         shardingCount.compute(conceptId, (key, value) -> value == null ? -1 : value - 1);
+        removedCount.merge(conceptId, 1L, Long::sum);
         cleanupShardingCount(conceptId);
     }
     private void cleanupShardingCount(ConceptId conceptId){
@@ -358,6 +415,7 @@ public class TxCache{
 
         //Clear Concept Caches
         conceptCache.values().forEach(concept -> CacheOwner.from(concept).txCacheClear());
+        readOnlyThingCache.values().forEach(concept -> CacheOwner.from(concept).txCacheClear());
 
         //Clear Collection Caches
         modifiedThings.clear();
@@ -368,12 +426,15 @@ public class TxCache{
         newAttributes.clear();
         newRelationships.clear();
         shardingCount.clear();
+        removedCount.clear();
         conceptCache.clear();
+        readOnlyThingCache.clear();
         schemaConceptCache.clear();
         labelCache.clear();
     }
     public void openTx(GraknTxType txType){
         isTxOpen = true;
+        writeOccurred = false;
         this.txType = txType;
         closedReason = null;
     }
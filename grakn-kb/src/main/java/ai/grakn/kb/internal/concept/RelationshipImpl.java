@@ -31,7 +31,9 @@ import ai.grakn.kb.internal.cache.CacheOwner;
 import ai.grakn.kb.internal.structure.VertexElement;
 import com.google.common.collect.Iterables;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -162,6 +164,23 @@ public class RelationshipImpl implements Relationship, ConceptVertex, CacheOwner
         return structure().rolePlayers(roles);
     }
 
+    /**
+     * Pages through the {@link Thing}s playing a {@link Role} in this {@link Relationship}, in descending order of
+     * their {@link ConceptId}s.
+     *
+     * @see RelationshipReified#rolePlayersAfter(Role, ConceptId, long)
+     */
+    public Stream<Thing> rolePlayersAfter(Role role, @Nullable ConceptId last, long limit) {
+        Optional<RelationshipReified> reified = reified();
+        if(reified.isPresent()) return reified.get().rolePlayersAfter(role, last, limit);
+
+        //An edge relationship has at most two role players, so they are sorted in memory
+        return rolePlayers(role).
+                filter(thing -> last == null || thing.getId().getValue().compareTo(last.getValue()) < 0).
+                sorted(Comparator.comparing((Thing thing) -> thing.getId().getValue()).reversed()).
+                limit(limit);
+    }
+
     /**
      * Expands this {@link Relationship} to include a new role player which is playing a specific {@link Role}.
      * @param role The role of the new role player.
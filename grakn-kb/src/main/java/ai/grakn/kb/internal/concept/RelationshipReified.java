@@ -18,6 +18,7 @@
 
 package ai.grakn.kb.internal.concept;
 
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
@@ -27,6 +28,7 @@ import ai.grakn.kb.internal.structure.Casting;
 import ai.grakn.kb.internal.structure.EdgeElement;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Direction;
@@ -93,6 +95,33 @@ public class RelationshipReified extends ThingImpl<Relationship, RelationshipTyp
         return castingsRelation(roles).map(Casting::getRolePlayer);
     }
 
+    /**
+     * Pages through the {@link Thing}s playing a {@link Role} in this {@link Relationship}, in descending order of
+     * their {@link ConceptId}s. The edges to the role players are indexed by those ids, so resuming after a role
+     * player does not read the ones before it.
+     *
+     * @param role The {@link Role} played by the {@link Thing}s
+     * @param last The {@link ConceptId} of the last role player which has already been seen, or null to start from
+     *             the first one
+     * @param limit The maximum number of {@link Thing}s to read
+     * @return The role players which follow the last seen one
+     */
+    public Stream<Thing> rolePlayersAfter(Role role, @Nullable ConceptId last, long limit) {
+        GraphTraversal<Vertex, Edge> edges = vertex().tx().getTinkerTraversal().V(vertex().element()).
+                outE(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).
+                has(Schema.EdgeProperty.ROLE_LABEL_ID.name(), role.getLabelId().getValue());
+
+        if(last == null){
+            edges = edges.has(Schema.EdgeProperty.ROLE_PLAYER_ID.name());
+        } else {
+            edges = edges.has(Schema.EdgeProperty.ROLE_PLAYER_ID.name(), P.lt(last.getValue()));
+        }
+
+        return edges.order().by(Schema.EdgeProperty.ROLE_PLAYER_ID.name(), Order.decr).limit(limit).
+                inV().toStream().
+                map(rolePlayer -> vertex().tx().<Thing>buildConcept(rolePlayer));
+    }
+
     void removeRolePlayer(Role role, Thing thing) {
         castingsRelation().filter(casting -> casting.getRole().equals(role) && casting.getRolePlayer().equals(thing)).
                 findAny().
@@ -141,6 +170,8 @@ public class RelationshipReified extends ThingImpl<Relationship, RelationshipTyp
         EdgeElement edge = this.addEdge(ConceptVertex.from(toThing), Schema.EdgeLabel.ROLE_PLAYER);
         edge.property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID, this.type().getLabelId().getValue());
         edge.property(Schema.EdgeProperty.ROLE_LABEL_ID, role.getLabelId().getValue());
+        edge.property(Schema.EdgeProperty.RELATIONSHIP_ID, this.getId().getValue());
+        edge.property(Schema.EdgeProperty.ROLE_PLAYER_ID, toThing.getId().getValue());
         Casting casting = Casting.create(edge, owner, role, toThing);
         vertex().tx().txCache().trackForValidation(casting);
     }
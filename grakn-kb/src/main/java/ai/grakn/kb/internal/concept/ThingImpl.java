@@ -23,7 +23,6 @@ import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
-import ai.grakn.concept.LabelId;
 import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
@@ -34,17 +33,25 @@ import ai.grakn.kb.internal.cache.Cache;
 import ai.grakn.kb.internal.cache.Cacheable;
 import ai.grakn.kb.internal.structure.Casting;
 import ai.grakn.kb.internal.structure.EdgeElement;
+import ai.grakn.kb.internal.structure.Shard;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
-import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -106,6 +113,19 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
         }
     }
 
+    /**
+     *
+     * @return The {@link Shard} of the {@link Type} which this {@link Thing} is linked to
+     */
+    public Shard shard(){
+        Optional<Shard> shard = vertex().getEdgesOfType(Direction.OUT, Schema.EdgeLabel.ISA).
+                map(EdgeElement::target).
+                map(target -> vertex().tx().factory().buildShard(target)).
+                findAny();
+
+        return shard.orElseThrow(() -> GraknTxOperationException.noType(this));
+    }
+
     public boolean isInferred(){
         return vertex().propertyBoolean(Schema.VertexProperty.IS_INFERRED);
     }
@@ -146,22 +166,62 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
 
     @Override
     public Stream<Attribute<?>> attributes(AttributeType... attributeTypes) {
-        Set<ConceptId> attributeTypesIds = Arrays.stream(attributeTypes).map(Concept::getId).collect(Collectors.toSet());
-        return attributes(getShortcutNeighbours(), attributeTypesIds);
+        return attributes(Arrays.asList(attributeTypes));
     }
 
     @Override
     public Stream<Attribute<?>> keys(AttributeType... attributeTypes){
         Set<ConceptId> attributeTypesIds = Arrays.stream(attributeTypes).map(Concept::getId).collect(Collectors.toSet());
-        Set<ConceptId> keyTypeIds = type().keys().map(Concept::getId).collect(Collectors.toSet());
+        Set<AttributeType> keyTypes = type().keys().
+                filter(keyType -> attributeTypesIds.isEmpty() || attributeTypesIds.contains(keyType.getId())).
+                collect(Collectors.toSet());
 
-        if(!attributeTypesIds.isEmpty()){
-            keyTypeIds = Sets.intersection(attributeTypesIds, keyTypeIds);
+        if(keyTypes.isEmpty()) return Stream.empty();
+
+        return attributes(keyTypes);
+    }
+
+    /**
+     * Retrieves the {@link ConceptId}s of the {@link Attribute}s of this {@link Thing} without building the
+     * {@link Attribute}s themselves.
+     *
+     * @param attributeTypes the {@link AttributeType}s of the {@link Attribute}s to retrieve, or all if none are given
+     * @return the {@link ConceptId}s of the {@link Attribute}s attached to this {@link Thing}
+     */
+    public Stream<ConceptId> attributeIds(AttributeType... attributeTypes){
+        Optional<Set<Integer>> relationshipTypeIds = implicitRelationshipTypeIds(Arrays.asList(attributeTypes));
+        if(!relationshipTypeIds.isPresent()) return Stream.empty();
+
+        GraphTraversal<Vertex, Vertex> traversal = shortcutNeighbourVertices(relationshipTypeIds.get()).
+                hasLabel(Schema.BaseType.ATTRIBUTE.name());
+
+        if(attributeTypes.length > 0){
+            Set<Integer> typeLabelIds = Arrays.stream(attributeTypes).
+                    map(type -> type.getLabelId().getValue()).collect(Collectors.toSet());
+            traversal = traversal.has(Schema.VertexProperty.THING_TYPE_LABEL_ID.name(), P.within(typeLabelIds));
         }
 
-        if(keyTypeIds.isEmpty()) return Stream.empty();
+        return traversal.toStream().
+                filter(vertex -> !vertex.equals(vertex().element())).
+                map(vertex -> ConceptId.of(vertex.<String>value(Schema.VertexProperty.ID.name())));
+    }
+
+    /**
+     * Retrieves the {@link Attribute}s of specific {@link AttributeType}s, only following the edges of their implicit
+     * {@link RelationshipType}s.
+     *
+     * @param attributeTypes The {@link AttributeType}s to filter to, or all if empty
+     * @return the {@link Attribute}s of this {@link Thing}
+     */
+    private Stream<Attribute<?>> attributes(Collection<AttributeType> attributeTypes){
+        Optional<Set<Integer>> relationshipTypeIds = implicitRelationshipTypeIds(attributeTypes);
+        if(!relationshipTypeIds.isPresent()) return Stream.empty();
 
-        return attributes(getShortcutNeighbours(), keyTypeIds);
+        Set<ConceptId> attributeTypesIds = attributeTypes.stream().map(Concept::getId).collect(Collectors.toSet());
+        Stream<Concept> neighbours = shortcutNeighbourVertices(relationshipTypeIds.get()).toStream().
+                map(vertex -> vertex().tx().buildConcept(vertex));
+
+        return attributes(neighbours, attributeTypesIds);
     }
 
     /**
@@ -183,6 +243,24 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
         return attributeStream;
     }
 
+    /**
+     * @param attributeTypes The {@link AttributeType}s to look up, or all if empty
+     * @return The label ids of the implicit {@link RelationshipType}s which attach the {@link AttributeType}s, which
+     * is empty if all {@link AttributeType}s are wanted. Nothing is returned if none of them can be attached.
+     */
+    private Optional<Set<Integer>> implicitRelationshipTypeIds(Collection<AttributeType> attributeTypes){
+        Set<Integer> relationshipTypeIds = new HashSet<>();
+        for(AttributeType attributeType : attributeTypes){
+            for(Schema.ImplicitType has : Arrays.asList(Schema.ImplicitType.HAS, Schema.ImplicitType.KEY)){
+                RelationshipType relationshipType = vertex().tx().getSchemaConcept(has.getLabel(attributeType.getLabel()));
+                if(relationshipType != null) relationshipTypeIds.add(relationshipType.getLabelId().getValue());
+            }
+        }
+
+        if(!attributeTypes.isEmpty() && relationshipTypeIds.isEmpty()) return Optional.empty();
+        return Optional.of(relationshipTypeIds);
+    }
+
     /**
      * Castings are retrieved from the perspective of the {@link Thing} which is a role player in a {@link Relationship}
      *
@@ -194,20 +272,44 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
     }
 
     <X extends Thing> Stream<X> getShortcutNeighbours(){
-        GraphTraversal<Object, Vertex> shortcutTraversal = __.inE(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).
+        return shortcutNeighbourVertices(Collections.emptySet()).toStream().
+                map(vertex -> vertex().tx().<X>buildConcept(vertex));
+    }
+
+    /**
+     * The things sharing a reified implicit {@link Relationship} with this {@link Thing}, or attached to it by an
+     * attribute edge.
+     *
+     * @param relationshipTypeIds The label ids of the {@link RelationshipType}s to follow, or all if empty. These are
+     *                            looked up in the vertex-centric indices of the edges.
+     */
+    private GraphTraversal<Vertex, Vertex> shortcutNeighbourVertices(Set<Integer> relationshipTypeIds){
+        GraphTraversal<Object, Edge> rolePlayerIn = __.inE(Schema.EdgeLabel.ROLE_PLAYER.getLabel());
+        GraphTraversal<Object, Edge> attributeOut = __.outE(Schema.EdgeLabel.ATTRIBUTE.getLabel());
+
+        if(!relationshipTypeIds.isEmpty()){
+            rolePlayerIn = rolePlayerIn.has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), P.within(relationshipTypeIds));
+            attributeOut = attributeOut.has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), P.within(relationshipTypeIds));
+        }
+
+        GraphTraversal<Object, Vertex> shortcutTraversal = rolePlayerIn.
                 as("edge").
                 outV().
                 outE(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).
                 where(P.neq("edge")).
                 inV();
 
-        GraphTraversal<Object, Vertex> attributeEdgeTraversal = __.outE(Schema.EdgeLabel.ATTRIBUTE.getLabel()).inV();
+        GraphTraversal<Object, Vertex> attributeEdgeTraversal = attributeOut.inV();
 
-        //noinspection unchecked
-        return vertex().tx().getTinkerTraversal().V().
-                has(Schema.VertexProperty.ID.name(), getId().getValue()).
-                union(shortcutTraversal, attributeEdgeTraversal).toStream().
-                map(vertex -> vertex().tx().<X>buildConcept(vertex));
+        return traversal().union(shortcutTraversal, attributeEdgeTraversal);
+    }
+
+    /**
+     * @return A traversal starting at the vertex of this {@link Thing}, which is already held so does not need to be
+     * looked up by its {@link ConceptId}
+     */
+    private GraphTraversal<Vertex, Vertex> traversal(){
+        return vertex().tx().getTinkerTraversal().V(vertex().element());
     }
 
     /**
@@ -221,8 +323,7 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
     }
 
     private Stream<Relationship> reifiedRelations(Role... roles){
-        GraphTraversal<Vertex, Vertex> traversal = vertex().tx().getTinkerTraversal().V().
-                has(Schema.VertexProperty.ID.name(), getId().getValue());
+        GraphTraversal<Vertex, Vertex> traversal = traversal();
 
         if(roles.length == 0){
             traversal.in(Schema.EdgeLabel.ROLE_PLAYER.getLabel());
@@ -236,17 +337,79 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
     }
 
     private Stream<Relationship> edgeRelations(Role... roles){
-        Set<Role> roleSet = new HashSet<>(Arrays.asList(roles));
-        Stream<EdgeElement> stream = vertex().getEdgesOfType(Direction.BOTH, Schema.EdgeLabel.ATTRIBUTE);
-
-        if(!roleSet.isEmpty()){
-            stream = stream.filter(edge -> {
-                Role roleOwner = vertex().tx().getSchemaConcept(LabelId.of(edge.property(Schema.EdgeProperty.RELATIONSHIP_ROLE_OWNER_LABEL_ID)));
-                return roleSet.contains(roleOwner);
-            });
+        GraphTraversal<Vertex, Edge> traversal = traversal().bothE(Schema.EdgeLabel.ATTRIBUTE.getLabel());
+
+        if(roles.length > 0){
+            // The relationship types come first so that they are looked up in the vertex-centric index
+            Set<Integer> relationshipTypeIds = Arrays.stream(roles).
+                    flatMap(Role::relationshipTypes).
+                    map(relationshipType -> relationshipType.getLabelId().getValue()).
+                    collect(Collectors.toSet());
+            Set<Integer> roleIds = Arrays.stream(roles).map(r -> r.getLabelId().getValue()).collect(Collectors.toSet());
+
+            if(relationshipTypeIds.isEmpty()) return Stream.empty();
+
+            traversal = traversal.
+                    has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), P.within(relationshipTypeIds)).
+                    has(Schema.EdgeProperty.RELATIONSHIP_ROLE_OWNER_LABEL_ID.name(), P.within(roleIds));
+        }
+
+        return traversal.toStream().
+                map(edge -> vertex().tx().factory().buildRelation(vertex().tx().factory().buildEdgeElement(edge)));
+    }
+
+    /**
+     * Pages through the {@link Relationship}s in which this {@link Thing} plays a {@link Role}, in descending order
+     * of their {@link ConceptId}s. The edges to the {@link Relationship}s are indexed by those ids, so resuming after
+     * a {@link Relationship} does not read the ones before it.
+     *
+     * @param role The {@link Role} played in the {@link Relationship}s
+     * @param last The {@link ConceptId} of the last {@link Relationship} which has already been seen, or null to
+     *             start from the first one
+     * @param limit The maximum number of {@link Relationship}s to read
+     * @return The {@link Relationship}s which follow the last seen one
+     */
+    public Stream<Relationship> relationshipsAfter(Role role, @Nullable ConceptId last, long limit){
+        Integer roleId = role.getLabelId().getValue();
+        List<GraphTraversal<Vertex, Edge>> traversals = new ArrayList<>();
+
+        traversals.add(traversal().inE(Schema.EdgeLabel.ROLE_PLAYER.getLabel()).
+                has(Schema.EdgeProperty.ROLE_LABEL_ID.name(), roleId));
+
+        Set<Integer> relationshipTypeIds = role.relationshipTypes().
+                map(relationshipType -> relationshipType.getLabelId().getValue()).
+                collect(Collectors.toSet());
+
+        if(!relationshipTypeIds.isEmpty()){
+            traversals.add(traversal().outE(Schema.EdgeLabel.ATTRIBUTE.getLabel()).
+                    has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), P.within(relationshipTypeIds)).
+                    has(Schema.EdgeProperty.RELATIONSHIP_ROLE_OWNER_LABEL_ID.name(), roleId));
+            traversals.add(traversal().inE(Schema.EdgeLabel.ATTRIBUTE.getLabel()).
+                    has(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name(), P.within(relationshipTypeIds)).
+                    has(Schema.EdgeProperty.RELATIONSHIP_ROLE_VALUE_LABEL_ID.name(), roleId));
         }
 
-        return stream.map(edge -> vertex().tx().factory().buildRelation(edge));
+        // Each traversal reads at most a page of edges, so merging them only sorts a few pages in memory
+        return traversals.stream().
+                flatMap(edges -> edgesAfter(edges, last, limit)).
+                sorted(Comparator.comparing((Edge edge) -> edge.<String>value(Schema.EdgeProperty.RELATIONSHIP_ID.name())).reversed()).
+                limit(limit).
+                map(edge -> {
+                    if(edge.label().equals(Schema.EdgeLabel.ROLE_PLAYER.getLabel())){
+                        return vertex().tx().<Relationship>buildConcept(edge.outVertex());
+                    } else {
+                        return vertex().tx().factory().buildRelation(vertex().tx().factory().buildEdgeElement(edge));
+                    }
+                });
+    }
+
+    private static Stream<Edge> edgesAfter(GraphTraversal<Vertex, Edge> edges, @Nullable ConceptId last, long limit){
+        if(last == null){
+            edges = edges.has(Schema.EdgeProperty.RELATIONSHIP_ID.name());
+        } else {
+            edges = edges.has(Schema.EdgeProperty.RELATIONSHIP_ID.name(), P.lt(last.getValue()));
+        }
+        return edges.order().by(Schema.EdgeProperty.RELATIONSHIP_ID.name(), Order.decr).limit(limit).toStream();
     }
 
     @Override
@@ -293,7 +456,9 @@ public abstract class ThingImpl<T extends Thing, V extends Type> extends Concept
 
         EdgeElement attributeEdge = addEdge(AttributeImpl.from(attribute), Schema.EdgeLabel.ATTRIBUTE);
         if(isInferred) attributeEdge.property(Schema.EdgeProperty.IS_INFERRED, true);
-        return vertex().tx().factory().buildRelation(attributeEdge, hasAttribute, hasAttributeOwner, hasAttributeValue);
+        Relationship relationship = vertex().tx().factory().buildRelation(attributeEdge, hasAttribute, hasAttributeOwner, hasAttributeValue);
+        attributeEdge.property(Schema.EdgeProperty.RELATIONSHIP_ID, relationship.getId().getValue());
+        return relationship;
     }
 
     @Override
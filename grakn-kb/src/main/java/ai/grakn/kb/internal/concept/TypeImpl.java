@@ -20,6 +20,7 @@ package ai.grakn.kb.internal.concept;
 
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
@@ -35,9 +36,13 @@ import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
+import javax.annotation.Nullable;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -220,6 +225,33 @@ public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl
         return subs().flatMap(sub -> TypeImpl.<T, V>from(sub).instancesDirect());
     }
 
+    /**
+     * Pages through the instances of this type, {@link Shard} by {@link Shard}, in an order which stays the same
+     * between transactions. Resuming from a previously seen instance seeks the index of its {@link Shard}, so neither
+     * the preceding {@link Shard}s nor the preceding instances of its own {@link Shard} are read.
+     *
+     * @param shardId The id of the {@link Shard} the last seen instance is linked to, or null to start from the first instance
+     * @param lastInstance The {@link ConceptId} of the last seen instance, or null to start from the first instance
+     * @param limit The maximum number of instances to read
+     * @return The instances of this type which follow the last seen instance,
+     * or nothing if the {@link Shard} does not belong to this type or its subs.
+     */
+    public Optional<Stream<V>> instancesAfter(@Nullable String shardId, @Nullable ConceptId lastInstance, long limit){
+        List<Shard> shards = subs().flatMap(sub -> TypeImpl.<T, V>from(sub).shards()).
+                sorted(Comparator.comparing(Shard::id)).collect(Collectors.toList());
+
+        int start = 0;
+        if(shardId != null){
+            while(start < shards.size() && !shards.get(start).id().equals(shardId)) start++;
+            if(start == shards.size()) return Optional.empty();
+        }
+
+        Shard first = shards.isEmpty() ? null : shards.get(start);
+        return Optional.of(shards.subList(start, shards.size()).stream().
+                flatMap(shard -> shard.<V>linksAfter(shard == first ? lastInstance : null, limit)).
+                limit(limit));
+    }
+
     Stream<V> instancesDirect(){
         return vertex().getEdgesOfType(Direction.IN, Schema.EdgeLabel.SHARD).
                 map(EdgeElement::source).
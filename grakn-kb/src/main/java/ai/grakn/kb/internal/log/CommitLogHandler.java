@@ -69,6 +69,10 @@ public class CommitLogHandler {
         lockDataAddition(() -> instances.forEach((key, value) -> commitLog().instanceCount().merge(key, value, (v1, v2) -> v1 + v2)));
     }
 
+    public void addRemovedInstances(Map<ConceptId, Long> removed){
+        lockDataAddition(() -> removed.forEach((key, value) -> commitLog().removedCount().merge(key, value, (v1, v2) -> v1 + v2)));
+    }
+
     /**
      * Read locks are used when acquiring the data.
      * This is to ensure we are not busy clearing the data during a commit log submission.
@@ -85,26 +89,72 @@ public class CommitLogHandler {
     }
 
     /**
-     * Submits the commit logs to the provided server address and under the provided {@link Keyspace}
+     * Submits the commit logs to the provided server address and under the provided {@link Keyspace}.
+     *
+     * The write lock is only held while the pending logs are swapped out for an empty log. The logs are sent to the
+     * server afterwards so that transactions committing in the meantime are never blocked by the network.
+     * If the logs cannot be sent they are merged back so that they are included in the next submission.
      */
     public Optional<String> submit(String engineUri, Keyspace keyspace){
-        if(commitLog().instanceCount().isEmpty() && commitLog().attributes().isEmpty()){
-            return Optional.empty();
-        }
+        Optional<CommitLog> pending = takePending();
+        if(!pending.isPresent()) return Optional.empty();
 
         Optional<URI> endPoint = getCommitLogEndPoint(engineUri, keyspace);
         try{
-            lock.writeLock().lock();
-            String response = EngineCommunicator.contactEngine(endPoint, REST.HttpConn.POST_METHOD, mapper.writeValueAsString(commitLog()));
-            commitLog().clear();
+            String response = EngineCommunicator.contactEngine(endPoint, REST.HttpConn.POST_METHOD, mapper.writeValueAsString(pending.get()));
             return Optional.of("Response from engine [" + response + "]");
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            restore(pending.get());
+            throw e;
+        }
+    }
+
+    /**
+     * Moves the current contents of the commit log into a new {@link CommitLog} and clears the commit log.
+     *
+     * @return The logs which were pending or nothing if there were none
+     */
+    private Optional<CommitLog> takePending(){
+        try{
+            lock.writeLock().lock();
+            if(!hasPendingLogs()){
+                return Optional.empty();
+            }
+
+            CommitLog pending = CommitLog.createDefault(commitLog().keyspace());
+            pending.instanceCount().putAll(commitLog().instanceCount());
+            pending.attributes().putAll(commitLog().attributes());
+            pending.removedCount().putAll(commitLog().removedCount());
+            commitLog().clear();
+            return Optional.of(pending);
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * Merges logs which could not be submitted back into the commit log
+     */
+    private void restore(CommitLog pending){
+        addNewInstances(pending.instanceCount());
+        addRemovedInstances(pending.removedCount());
+        lockDataAddition(() -> pending.attributes().forEach((key, value) -> {
+            commitLog().attributes().merge(key, value, (v1, v2) -> {
+                v1.addAll(v2);
+                return v1;
+            });
+        }));
+    }
+
+    /**
+     * @return true if there are logs which have not yet been submitted
+     */
+    boolean hasPendingLogs(){
+        return !commitLog().instanceCount().isEmpty() || !commitLog().attributes().isEmpty() || !commitLog().removedCount().isEmpty();
+    }
+
     static Optional<URI> getCommitLogEndPoint(String engineUri, Keyspace keyspace) {
         if (Grakn.IN_MEMORY.equals(engineUri)) {
             return Optional.empty();
@@ -18,11 +18,18 @@
 
 package ai.grakn.kb.internal.structure;
 
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Thing;
 import ai.grakn.kb.internal.concept.ConceptImpl;
 import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import javax.annotation.Nullable;
 import java.util.stream.Stream;
 
 /**
@@ -76,7 +83,8 @@ public class Shard {
      * @param concept The concept to link to this shard
      */
     public void link(ConceptImpl concept){
-        concept.vertex().addEdge(vertex(), Schema.EdgeLabel.ISA);
+        EdgeElement edge = concept.vertex().addEdge(vertex(), Schema.EdgeLabel.ISA);
+        edge.property(Schema.EdgeProperty.INSTANCE_ID, concept.getId().getValue());
     }
 
     /**
@@ -89,6 +97,28 @@ public class Shard {
                 map(vertexElement ->  vertex().tx().factory().<V>buildConcept(vertexElement));
     }
 
+    /**
+     * Pages through the concepts linked to this shard in descending order of their ids. The isa edges are indexed by
+     * that id, so resuming after a concept does not read the concepts before it.
+     *
+     * @param conceptId The id of the last concept which has already been seen, or null to start from the first one
+     * @param limit The maximum number of concepts to read
+     * @return The concepts linked to this shard after the provided concept
+     */
+    public <V extends Thing> Stream<V> linksAfter(@Nullable ConceptId conceptId, long limit){
+        GraphTraversal<Vertex, Edge> edges = vertex().tx().getTinkerTraversal().V(vertex().element()).
+                inE(Schema.EdgeLabel.ISA.getLabel());
+
+        if(conceptId == null){
+            edges = edges.has(Schema.EdgeProperty.INSTANCE_ID.name());
+        } else {
+            edges = edges.has(Schema.EdgeProperty.INSTANCE_ID.name(), P.lt(conceptId.getValue()));
+        }
+
+        return edges.order().by(Schema.EdgeProperty.INSTANCE_ID.name(), Order.decr).limit(limit).outV().toStream().
+                map(linked -> vertex().tx().factory().<V>buildConcept(linked));
+    }
+
     /**
      *
      * @return The hash code of the underlying vertex
@@ -31,14 +31,17 @@ import ai.grakn.kb.internal.concept.AttributeTypeImpl;
 import ai.grakn.kb.internal.concept.ThingImpl;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
+import com.google.common.collect.Iterables;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
@@ -154,6 +157,36 @@ public class PostProcessingTest extends TxTestBase {
         assertEquals(6, tx.admin().getMetaRelationType().instances().count());
     }
 
+    @Test
+    public void whenMergingDuplicateResourcesWithEdgeRelations_EnsureTheCopiedRelationshipsCanBePaged(){
+        AttributeTypeImpl<String> resourceType = (AttributeTypeImpl<String>) tx.putAttributeType("Paged Attribute Type", AttributeType.DataType.STRING);
+        EntityType entityType = tx.putEntityType("Paged Entity Type").attribute(resourceType);
+
+        Set<ConceptId> resourceIds = new HashSet<>();
+        for(int i = 0; i < 3; i++){
+            AttributeImpl<String> resource = createFakeResource(resourceType, "1");
+            addEdgeRelation(entityType.addEntity(), resource);
+            resourceIds.add(resource.getId());
+        }
+
+        tx.fixDuplicateResources(Schema.generateAttributeIndex(resourceType.getLabel(), "1"), resourceIds);
+
+        AttributeImpl<?> mainResource = AttributeImpl.from(Iterables.getOnlyElement(resourceType.instances().collect(toSet())));
+        Role value = tx.getSchemaConcept(Schema.ImplicitType.HAS_VALUE.getLabel(resourceType.getLabel()));
+
+        //Read the relationships one page at a time, each page continuing from the last relationship of the previous one
+        Set<Relationship> paged = new HashSet<>();
+        ConceptId last = null;
+        List<Relationship> page;
+        while(!(page = mainResource.relationshipsAfter(value, last, 1).collect(toList())).isEmpty()){
+            paged.addAll(page);
+            last = page.get(0).getId();
+        }
+
+        assertEquals(3, paged.size());
+        assertEquals(mainResource.relationships(value).collect(toSet()), paged);
+    }
+
     private void addEdgeRelation(Entity entity, Attribute<?> attribute) {
         entity.attribute(attribute);
     }
@@ -22,6 +22,7 @@ import ai.grakn.Grakn;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Concept;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
@@ -204,6 +205,28 @@ public class TxCacheTest extends TxTestBase {
         assertThat(cache.getModifiedCastings(), empty());
     }
 
+    @Test
+    public void whenScanningInstancesInReadTransaction_EnsureOnlyABoundedNumberOfThingsAreCached(){
+        String label = "My Type";
+        EntityType entityType = tx.putEntityType(label);
+        for(int i = 0; i < TxCache.READ_TX_THING_CACHE_SIZE + 10; i ++){
+            entityType.addEntity();
+        }
+        tx.commit();
+
+        tx = session.open(GraknTxType.READ);
+        TxCache cache = tx.txCache();
+        assertEquals(TxCache.READ_TX_THING_CACHE_SIZE + 10, tx.getEntityType(label).instances().count());
+
+        //Things are bounded while the schema stays pinned
+        assertEquals(TxCache.READ_TX_THING_CACHE_SIZE, cache.getReadOnlyThingCache().size());
+        assertTrue(cache.getConceptCache().values().stream().noneMatch(Concept::isThing));
+        assertTrue(cache.isTypeCached(Label.of(label)));
+
+        tx.close();
+        assertThat(cache.getReadOnlyThingCache().keySet(), empty());
+    }
+
     @Test
     public void whenMutatingSuperTypeOfConceptCreatedInAnotherTransaction_EnsureTransactionBoundConceptIsMutated(){
         EntityType e1 = tx.putEntityType("e1");
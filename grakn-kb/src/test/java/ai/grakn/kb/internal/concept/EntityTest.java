@@ -256,6 +256,24 @@ public class EntityTest extends TxTestBase {
         assertThat(aPerson.attributes().collect(toSet()), containsInAnyOrder(fim, pim));
     }
 
+    @Test
+    public void whenGettingAttributeIdsOfAnEntity_EnsureOnlyTheIdsOfTheGivenTypesAreReturned(){
+        AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        AttributeType<Long> age = tx.putAttributeType("age", AttributeType.DataType.LONG);
+        AttributeType<String> nickname = tx.putAttributeType("nickname", AttributeType.DataType.STRING);
+        Attribute<String> fim = name.putAttribute("Fim");
+        Attribute<String> tim = name.putAttribute("Tim");
+        Attribute<Long> twenty = age.putAttribute(20L);
+
+        EntityType person = tx.putEntityType("person").attribute(name).attribute(age).attribute(nickname);
+        ThingImpl<?, ?> aPerson = (ThingImpl<?, ?>) person.addEntity().attribute(fim).attribute(tim).attribute(twenty);
+
+        assertThat(aPerson.attributeIds().collect(toSet()), containsInAnyOrder(fim.getId(), tim.getId(), twenty.getId()));
+        assertThat(aPerson.attributeIds(name).collect(toSet()), containsInAnyOrder(fim.getId(), tim.getId()));
+        assertThat(aPerson.attributeIds(age).collect(toSet()), containsInAnyOrder(twenty.getId()));
+        assertThat(aPerson.attributeIds(nickname).collect(toSet()), empty());
+    }
+
 
     @Test
     public void whenCreatingInferredAttributeLink_EnsureMarkedAsInferred(){
@@ -20,12 +20,18 @@ package ai.grakn.kb.internal.log;
 
 import ai.grakn.Grakn;
 import ai.grakn.Keyspace;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.GraknBackendException;
+import com.google.common.collect.ImmutableMap;
 import org.junit.Test;
 
 import java.net.URI;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author Felix Chapman
@@ -49,4 +55,29 @@ public class CommitLogHandlerTest {
         Optional<URI> endpoint = CommitLogHandler.getCommitLogEndPoint("validuri.com:342", Keyspace.of("whatever"));
         assertEquals(Optional.of(URI.create("http://validuri.com:342/kb/whatever/commit_log")), endpoint);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenSubmittingLogs_TheLogsAreCleared() {
+        Keyspace keyspace = Keyspace.of("whatever");
+        CommitLogHandler handler = new CommitLogHandler(keyspace);
+        handler.addNewInstances(ImmutableMap.of(ConceptId.of("a"), 1L));
+
+        assertTrue(handler.submit(Grakn.IN_MEMORY, keyspace).isPresent());
+        assertFalse(handler.hasPendingLogs());
+        assertEquals(Optional.empty(), handler.submit(Grakn.IN_MEMORY, keyspace));
+    }
+
+    @Test
+    public void whenSubmittingLogsToUnreachableEngine_TheLogsAreKeptForTheNextSubmission() {
+        Keyspace keyspace = Keyspace.of("whatever");
+        CommitLogHandler handler = new CommitLogHandler(keyspace);
+        handler.addNewInstances(ImmutableMap.of(ConceptId.of("a"), 1L));
+
+        try {
+            handler.submit("http://localhost:1", keyspace);
+            fail("Expected engine to be unreachable");
+        } catch (GraknBackendException e) {
+            assertTrue(handler.hasPendingLogs());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.EntityType;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswerStream;
+import ai.grakn.test.rule.SessionContext;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static ai.grakn.graql.Graql.var;
+
+/**
+ * Measures the intermediate answer operations performed while joining answers during resolution.
+ * Run with the gc profiler (-prof gc) to see the allocation rate.
+ */
+public class AnswerBenchmark extends BenchmarkTest {
+
+    private static final String BENCHMARK_ENTITY_TYPE = "benchmarkEntityType";
+    private static final int NUM_CONCEPTS = 1000;
+
+    private static final Var x = var("x");
+    private static final Var y = var("y");
+    private static final Var z = var("z");
+
+    @Rule
+    public final SessionContext sessionContext = SessionContext.create();
+
+    private GraknTx graph;
+    private final List<Answer> left = new ArrayList<>();
+    private final List<Answer> right = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Throwable {
+        GraknSession session = sessionContext.newSession();
+        graph = session.open(GraknTxType.WRITE);
+        EntityType entityType = graph.putEntityType(BENCHMARK_ENTITY_TYPE);
+
+        List<Concept> concepts = new ArrayList<>();
+        for (int i = 0; i < NUM_CONCEPTS; i++) {
+            concepts.add(entityType.addEntity());
+        }
+
+        //chain answers ($x, $y) with ($y, $z) so that every left answer joins with one right answer
+        for (int i = 0; i < NUM_CONCEPTS - 1; i++) {
+            left.add(new QueryAnswer(ImmutableMap.of(x, concepts.get(i), y, concepts.get(i + 1))));
+            right.add(new QueryAnswer(ImmutableMap.of(y, concepts.get(i + 1), z, concepts.get(i))));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        graph.close();
+    }
+
+    @Benchmark
+    public long join() {
+        return QueryAnswerStream.join(left.stream(), right.stream(), ImmutableSet.of(y)).count();
+    }
+
+    @Benchmark
+    public Set<Answer> mergeAndProject() {
+        Set<Var> projection = ImmutableSet.of(x, z);
+        Set<Answer> answers = new HashSet<>();
+        for (int i = 0; i < left.size(); i++) {
+            answers.add(left.get(i).merge(right.get(i)).project(projection));
+        }
+        return answers;
+    }
+}
@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
@@ -80,6 +81,10 @@ public abstract class BenchmarkTest {
             runnerOptions.measurementIterations(getMeasureIterations());
         }
 
+        if (profileAllocations()) {
+            runnerOptions.addProfiler(GCProfiler.class);
+        }
+
         if (getReportDir() != null) {
             String filePath = getReportDir() + className + ".json";
             File file = new File(filePath);
@@ -102,6 +107,13 @@ public abstract class BenchmarkTest {
         new Runner(newOptionsBuilder().build()).run();
     }
 
+    /**
+     * Whether to run with the gc profiler, which reports the allocation rate alongside the timings
+     */
+    protected boolean profileAllocations() {
+        return false;
+    }
+
     private int getWarmupIterations() {
         return SystemPropertyUtil.getInt("warmupIterations", -1);
     }
@@ -0,0 +1,230 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Entity;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.internal.gremlin.GraqlTraversal;
+import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.rule.SessionContext;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures query planning and the compilation of the resulting plan into a Gremlin traversal separately from
+ * executing it, over conjunctions of increasing size.
+ */
+public class QueryPlanningBenchmark extends BenchmarkTest {
+
+    private static final int NUM_PEOPLE = 100;
+    private static final int NUM_COMPANIES = 10;
+
+    /**
+     * The shape of the conjunction being planned
+     */
+    public enum Shape {
+        /**
+         * People linked one after the other by friendships, with some ages restricted
+         */
+        CHAIN,
+
+        /**
+         * People employed by a single company, each with a given name
+         */
+        STAR,
+
+        /**
+         * A chain whose first person is matched by one of two alternatives
+         */
+        DISJUNCTION
+    }
+
+    @Param({"2", "5", "10", "20", "30"})
+    public int numVars;
+
+    @Param({"CHAIN", "STAR", "DISJUNCTION"})
+    public Shape shape;
+
+    @Rule
+    public final SessionContext sessionContext = SessionContext.create();
+
+    private EmbeddedGraknTx<?> tx;
+    private PatternAdmin pattern;
+    private Set<Var> vars;
+    private GraqlTraversal plan;
+
+    @Setup
+    public void setup() throws Throwable {
+        GraknSession session = sessionContext.newSession();
+        try (GraknTx graph = session.open(GraknTxType.WRITE)) {
+            buildKB(graph);
+            graph.commit();
+        }
+        tx = (EmbeddedGraknTx<?>) session.open(GraknTxType.READ);
+
+        pattern = tx.graql().parser().parsePattern("{" + pattern(shape, numVars) + "}").admin();
+        vars = Sets.filter(pattern.commonVars(), Var::isUserDefinedName);
+        plan = GreedyTraversalPlan.createTraversal(pattern, tx);
+    }
+
+    @TearDown
+    public void tearDown() {
+        tx.close();
+    }
+
+    @Override
+    protected boolean profileAllocations() {
+        return true;
+    }
+
+    @Benchmark
+    public GraqlTraversal plan() {
+        return GreedyTraversalPlan.createTraversal(pattern, tx);
+    }
+
+    @Benchmark
+    public GraphTraversal<Vertex, Map<String, Element>> compile() {
+        return plan.getGraphTraversal(tx, vars);
+    }
+
+    /**
+     * Execution of an already planned query, which also has to compile the plan as traversals cannot be reused
+     */
+    @Benchmark
+    public long execute() {
+        return plan.getGraphTraversal(tx, vars).toStream().count();
+    }
+
+    private static void buildKB(GraknTx graph) {
+        AttributeType<String> name = graph.putAttributeType("name", AttributeType.DataType.STRING);
+        AttributeType<Long> age = graph.putAttributeType("age", AttributeType.DataType.LONG);
+
+        Role friend = graph.putRole("friend");
+        Role employee = graph.putRole("employee");
+        Role employer = graph.putRole("employer");
+        RelationshipType friendship = graph.putRelationshipType("friendship").relates(friend);
+        RelationshipType employment = graph.putRelationshipType("employment").relates(employee).relates(employer);
+
+        EntityType person = graph.putEntityType("person").plays(friend).plays(employee).attribute(name).attribute(age);
+        EntityType company = graph.putEntityType("company").plays(employer).attribute(name);
+
+        Entity[] companies = new Entity[NUM_COMPANIES];
+        for (int i = 0; i < NUM_COMPANIES; i++) {
+            companies[i] = company.addEntity().attribute(name.putAttribute("company-" + i));
+        }
+
+        Entity previous = null;
+        for (int i = 0; i < NUM_PEOPLE; i++) {
+            Attribute<Long> personAge = age.putAttribute((long) (i % 80));
+            Entity current = person.addEntity().attribute(name.putAttribute("person-" + i)).attribute(personAge);
+
+            employment.addRelationship()
+                    .addRolePlayer(employee, current)
+                    .addRolePlayer(employer, companies[i % NUM_COMPANIES]);
+
+            // Friendships come in disjoint pairs, so that long chains have few answers
+            if (i % 2 == 1) {
+                friendship.addRelationship().addRolePlayer(friend, previous).addRolePlayer(friend, current);
+            }
+            previous = current;
+        }
+    }
+
+    private static String pattern(Shape shape, int numVars) {
+        switch (shape) {
+            case CHAIN:
+                return chain(numVars);
+            case STAR:
+                return star(numVars);
+            case DISJUNCTION:
+                return chain(numVars - 1) + "{$x0 has name 'person-0';} or {$x0 has age $d; $d val > 30;};";
+            default:
+                throw new IllegalArgumentException("Unexpected shape " + shape);
+        }
+    }
+
+    private static String chain(int numVars) {
+        StringBuilder pattern = new StringBuilder("$x0 isa person;");
+        int vars = 1;
+        int people = 1;
+
+        while (vars < numVars) {
+            if (numVars - vars >= 2) {
+                pattern.append("$r").append(people)
+                        .append(" (friend: $x").append(people - 1).append(", friend: $x").append(people)
+                        .append(") isa friendship;");
+                pattern.append("$x").append(people).append(" isa person;");
+                people++;
+                vars += 2;
+
+                if (vars < numVars && people % 3 == 0) {
+                    pattern.append("$x").append(people - 1).append(" has age $a").append(people).append(";");
+                    pattern.append("$a").append(people).append(" val > 20;");
+                    vars++;
+                }
+            } else {
+                pattern.append("$x0 has name $n0;");
+                vars++;
+            }
+        }
+
+        return pattern.toString();
+    }
+
+    private static String star(int numVars) {
+        StringBuilder pattern = new StringBuilder("$c isa company;");
+        int vars = 1;
+        int employees = 0;
+
+        while (numVars - vars >= 2) {
+            pattern.append("(employee: $p").append(employees).append(", employer: $c) isa employment;");
+            pattern.append("$p").append(employees).append(" has name $n").append(employees).append(";");
+            pattern.append("$n").append(employees).append(" val 'person-").append(employees * NUM_COMPANIES)
+                    .append("';");
+            employees++;
+            vars += 2;
+        }
+
+        if (vars < numVars) {
+            pattern.append("$c has name $cn;");
+        }
+
+        return pattern.toString();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MultiUnifier;
+import ai.grakn.graql.internal.reasoner.UnifierType;
+import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswerStream;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.kbs.TransitivityChainKB;
+import ai.grakn.test.rule.SessionContext;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+import static ai.grakn.graql.Graql.var;
+import static ai.grakn.test.benchmark.ResolutionBenchmark.conjunction;
+
+/**
+ * Measures the building blocks of resolution on their own: unifier construction between atomic queries, lookups in
+ * the {@link QueryCache} and joins of answers retrieved from the graph.
+ */
+public class ReasonerComponentsBenchmark extends BenchmarkTest {
+
+    private static final int TRANSITIVITY_CHAIN_LENGTH = 100;
+
+    @Rule
+    public final SessionContext sessionContext = SessionContext.create();
+
+    private EmbeddedGraknTx<?> tx;
+
+    private ReasonerAtomicQuery parent;
+    private ReasonerAtomicQuery child;
+    private ReasonerAtomicQuery rolelessParent;
+    private ReasonerAtomicQuery nextHop;
+
+    private QueryCache<ReasonerAtomicQuery> cache;
+    private Answer cachedAnswer;
+    private List<Answer> hops;
+    private List<Answer> nextHops;
+
+    @Setup
+    public void setup() throws Throwable {
+        GraknSession session = sessionContext.newSession();
+        try (GraknTx graph = session.open(GraknTxType.WRITE)) {
+            new TransitivityChainKB(TRANSITIVITY_CHAIN_LENGTH).build().accept(graph);
+            graph.commit();
+        }
+        tx = (EmbeddedGraknTx<?>) session.open(GraknTxType.READ);
+
+        parent = atomic("{(Q-from: $x, Q-to: $y) isa Q;}");
+        child = atomic("{(Q-from: $a, Q-to: $b) isa Q;}");
+        rolelessParent = atomic("{($x, $y) isa Q;}");
+        nextHop = atomic("{(Q-from: $y, Q-to: $z) isa Q;}");
+
+        hops = parent.getQuery().execute();
+        nextHops = nextHop.getQuery().execute();
+
+        cache = new QueryCache<>();
+        cache.record(parent, new QueryAnswers(hops));
+        cachedAnswer = hops.get(hops.size() / 2).unify(child.getMultiUnifier(parent)).findFirst().get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        tx.close();
+    }
+
+    @Benchmark
+    public MultiUnifier exactUnifier() {
+        return child.getMultiUnifier(parent, UnifierType.EXACT);
+    }
+
+    @Benchmark
+    public MultiUnifier ruleUnifier() {
+        return child.getMultiUnifier(rolelessParent, UnifierType.RULE);
+    }
+
+    @Benchmark
+    public QueryAnswers cacheLookup() {
+        return cache.getAnswers(child);
+    }
+
+    @Benchmark
+    public Answer cacheAnswerLookup() {
+        return cache.getAnswer(child, cachedAnswer);
+    }
+
+    @Benchmark
+    public long joinRetrievedAnswers() {
+        ImmutableSet<Var> joinVars = ImmutableSet.of(var("y"));
+        return QueryAnswerStream.join(hops.stream(), nextHops.stream(), joinVars).count();
+    }
+
+    private ReasonerAtomicQuery atomic(String patternString) {
+        return ReasonerQueries.atomic(conjunction(patternString, tx), tx);
+    }
+}
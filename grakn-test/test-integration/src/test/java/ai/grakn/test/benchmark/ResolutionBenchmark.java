@@ -0,0 +1,116 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.reasoner.ResolutionIterator;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.kbs.GenealogyKB;
+import ai.grakn.test.kbs.TransitivityChainKB;
+import ai.grakn.test.rule.SessionContext;
+import ai.grakn.util.SampleKBLoader;
+import org.junit.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Measures full resolution through the {@link ResolutionIterator} on the recursive and rule-heavy knowledge bases
+ * used by the reasoner tests. Every invocation starts from an empty query cache.
+ */
+public class ResolutionBenchmark extends BenchmarkTest {
+
+    private static final int TRANSITIVITY_CHAIN_LENGTH = 20;
+
+    @Rule
+    public final SessionContext sessionContext = SessionContext.create();
+
+    private EmbeddedGraknTx<?> transitivityTx;
+    private EmbeddedGraknTx<?> sameGenerationTx;
+    private EmbeddedGraknTx<?> genealogyTx;
+
+    @Setup
+    public void setup() throws Throwable {
+        transitivityTx = load(new TransitivityChainKB(TRANSITIVITY_CHAIN_LENGTH).build());
+        sameGenerationTx = load(tx -> SampleKBLoader.loadFromFile(tx, "same-generation-test.gql"));
+        genealogyTx = load(GenealogyKB.get());
+    }
+
+    @TearDown
+    public void tearDown() {
+        transitivityTx.close();
+        sameGenerationTx.close();
+        genealogyTx.close();
+    }
+
+    @Benchmark
+    public long transitiveClosure() {
+        return resolve(transitivityTx, "{(Q-from: $x, Q-to: $y) isa Q;$x has index 'a';}");
+    }
+
+    @Benchmark
+    public long sameGeneration() {
+        return resolve(sameGenerationTx, "{($x, $y) isa SameGen;$x has name 'ann';}");
+    }
+
+    @Benchmark
+    public long ruleFanOut() {
+        return resolve(genealogyTx, "{(parent-in-law: $x, child-in-law: $y) isa in-laws;}");
+    }
+
+    private EmbeddedGraknTx<?> load(Consumer<GraknTx> build) {
+        GraknSession session = sessionContext.newSession();
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            build.accept(tx);
+            tx.commit();
+        }
+        return (EmbeddedGraknTx<?>) session.open(GraknTxType.READ);
+    }
+
+    private static long resolve(EmbeddedGraknTx<?> tx, String patternString) {
+        ReasonerQueryImpl query = ReasonerQueries.create(conjunction(patternString, tx), tx);
+        ResolutionIterator iterator = new ResolutionIterator(query);
+
+        long answers = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            answers++;
+        }
+        return answers;
+    }
+
+    static Conjunction<VarPatternAdmin> conjunction(String patternString, GraknTx tx) {
+        Set<VarPatternAdmin> vars = tx.graql().parser().parsePattern(patternString).admin()
+                .getDisjunctiveNormalForm().getPatterns()
+                .stream().flatMap(p -> p.getPatterns().stream()).collect(toSet());
+        return Patterns.conjunction(vars);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.graql.internal.gremlin.spanningtree.Arborescence;
+import ai.grakn.graql.internal.gremlin.spanningtree.ChuLiuEdmonds;
+import ai.grakn.graql.internal.gremlin.spanningtree.datastructure.FibonacciHeap;
+import ai.grakn.graql.internal.gremlin.spanningtree.graph.DirectedEdge;
+import ai.grakn.graql.internal.gremlin.spanningtree.graph.SparseWeightedGraph;
+import ai.grakn.graql.internal.gremlin.spanningtree.graph.WeightedGraph;
+import ai.grakn.graql.internal.gremlin.spanningtree.util.Weighted;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static ai.grakn.graql.internal.gremlin.spanningtree.util.Weighted.weighted;
+
+/**
+ * Measures the spanning tree algorithm used by the query planner, and the heap it is built on, on graphs of the
+ * size the planner produces.
+ */
+public class SpanningTreeBenchmark extends BenchmarkTest {
+
+    private static final long SEED = 42;
+
+    @Param({"2", "5", "10", "20", "30"})
+    public int numNodes;
+
+    private WeightedGraph<Integer> graph;
+    private double[] priorities;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+
+        // The planner connects most pairs of nodes in both directions, so the graph is dense
+        List<Weighted<DirectedEdge<Integer>>> edges = new ArrayList<>();
+        for (int i = 0; i < numNodes; i++) {
+            for (int j = 0; j < numNodes; j++) {
+                if (i != j) edges.add(weighted(DirectedEdge.from(i).to(j), -random.nextDouble()));
+            }
+        }
+        graph = SparseWeightedGraph.from(edges);
+
+        priorities = new double[numNodes * numNodes];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = random.nextDouble();
+        }
+    }
+
+    @Override
+    protected boolean profileAllocations() {
+        return true;
+    }
+
+    @Benchmark
+    public Weighted<Arborescence<Integer>> maxArborescence() {
+        return ChuLiuEdmonds.getMaxArborescence(graph, 0);
+    }
+
+    @Benchmark
+    public long fibonacciHeap() {
+        FibonacciHeap<Integer, Double> heap = FibonacciHeap.create();
+        for (int i = 0; i < priorities.length; i++) {
+            heap.add(i, priorities[i]);
+        }
+
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.pollOption().get();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.client.BatchExecutorClient;
+import ai.grakn.client.GraknClient;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.EntityType;
+import ai.grakn.remote.RemoteGrakn;
+import ai.grakn.test.rule.EngineContext;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import io.netty.util.internal.SystemPropertyUtil;
+import mjson.Json;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static ai.grakn.graql.Graql.insert;
+import static ai.grakn.graql.Graql.var;
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Load harness for the transport layer, driving concurrent clients against an engine started in this JVM.
+ *
+ * <p>
+ *     Reads and small writes go over gRPC through {@link RemoteGrakn} sessions, bulk loads go over REST through the
+ *     {@link BatchExecutorClient}. Each scenario reports p50/p99 latency, throughput and the allocation rate of every
+ *     thread apart from the ones driving the load, which is mostly the engine. Results are logged and written as JSON
+ *     to {@code perfReportDir}.
+ * </p>
+ *
+ * <p>
+ *     Uses the backend of the test profile, so run with {@code -Dgrakn.test-profile=tinker} for an in-memory graph.
+ *     The number of clients and the operations each one performs are set with {@code benchmarkClients} and
+ *     {@code benchmarkOperations}.
+ * </p>
+ */
+public class TransportBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransportBenchmark.class);
+
+    private static final String PERSON = "person";
+    private static final String NAME = "name";
+    private static final int NUM_PEOPLE = 1000;
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.create();
+
+    private final int clients = SystemPropertyUtil.getInt("benchmarkClients", 4);
+    private final int operations = SystemPropertyUtil.getInt("benchmarkOperations", 500);
+    private final String reportDir = SystemPropertyUtil.get("perfReportDir", "./benchmarks/");
+
+    private GraknSession localSession;
+    private GraknSession remoteSession;
+
+    @Before
+    public void setUp() {
+        localSession = engine.sessionWithNewKeyspace();
+
+        try (GraknTx tx = localSession.open(GraknTxType.WRITE)) {
+            AttributeType<String> name = tx.putAttributeType(NAME, AttributeType.DataType.STRING);
+            EntityType person = tx.putEntityType(PERSON).attribute(name);
+            for (int i = 0; i < NUM_PEOPLE; i++) {
+                person.addEntity().attribute(name.putAttribute(personName(i)));
+            }
+            tx.commit();
+        }
+
+        remoteSession = RemoteGrakn.session(engine.grpcUri(), localSession.keyspace());
+    }
+
+    @After
+    public void tearDown() {
+        remoteSession.close();
+        localSession.close();
+    }
+
+    @Test
+    public void reads() throws Exception {
+        LoadReport report = runClients(() -> {
+            long[] latencies = new long[operations];
+            try (GraknTx tx = remoteSession.open(GraknTxType.READ)) {
+                for (int i = 0; i < operations; i++) {
+                    String name = personName(ThreadLocalRandom.current().nextInt(NUM_PEOPLE));
+                    long start = System.nanoTime();
+                    tx.graql().match(var("x").isa(PERSON).has(NAME, name)).get().execute();
+                    latencies[i] = System.nanoTime() - start;
+                }
+            }
+            return latencies;
+        });
+
+        report.write("reads");
+    }
+
+    @Test
+    public void smallWrites() throws Exception {
+        LoadReport report = runClients(() -> {
+            long[] latencies = new long[operations];
+            for (int i = 0; i < operations; i++) {
+                long start = System.nanoTime();
+                try (GraknTx tx = remoteSession.open(GraknTxType.WRITE)) {
+                    tx.graql().insert(var().isa(PERSON).has(NAME, "new-person")).execute();
+                    tx.commit();
+                }
+                latencies[i] = System.nanoTime() - start;
+            }
+            return latencies;
+        });
+
+        report.write("smallWrites");
+    }
+
+    @Test
+    public void bulkLoad() throws Exception {
+        GraknClient graknClient = GraknClient.of(engine.uri());
+        Keyspace keyspace = localSession.keyspace();
+        MetricRegistry metricRegistry = new MetricRegistry();
+
+        LoadReport report = runClients(() -> {
+            try (BatchExecutorClient loader =
+                         BatchExecutorClient.newBuilder().taskClient(graknClient).metricRegistry(metricRegistry).build()) {
+                for (int i = 0; i < operations; i++) {
+                    loader.add(insert(var().isa(PERSON).has(NAME, "loaded-person")), keyspace);
+                }
+            }
+            // Queries complete asynchronously, so their latencies are taken from the loader's timer instead
+            return new long[0];
+        });
+
+        Snapshot snapshot = metricRegistry.timer(name(BatchExecutorClient.class, "add")).getSnapshot();
+        report.withLatencies((long) snapshot.getMedian(), (long) snapshot.get99thPercentile()).write("bulkLoad");
+    }
+
+    /**
+     * Run the given operation on every client at once and measure the latencies it returns, the time taken until the
+     * last client finishes and what the other threads allocated meanwhile
+     */
+    private LoadReport runClients(Callable<long[]> client) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        Set<Long> clientThreads = ConcurrentHashMap.newKeySet();
+
+        try {
+            Map<Long, Long> allocatedBefore = allocatedBytesPerThread();
+            long start = System.nanoTime();
+
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    clientThreads.add(Thread.currentThread().getId());
+                    return client.call();
+                }));
+            }
+
+            List<long[]> latencies = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get());
+            }
+
+            long duration = System.nanoTime() - start;
+            Map<Long, Long> allocatedAfter = allocatedBytesPerThread();
+
+            long allocated = 0;
+            for (Map.Entry<Long, Long> entry : allocatedAfter.entrySet()) {
+                if (!clientThreads.contains(entry.getKey())) {
+                    allocated += entry.getValue() - allocatedBefore.getOrDefault(entry.getKey(), 0L);
+                }
+            }
+
+            return new LoadReport(latencies, duration, allocated, clients * operations);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Threads that finish before the measurement ends are not counted
+     */
+    private static Map<Long, Long> allocatedBytesPerThread() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long[] ids = threads.getAllThreadIds();
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+
+        Map<Long, Long> allocatedPerThread = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (allocated[i] >= 0) allocatedPerThread.put(ids[i], allocated[i]);
+        }
+        return allocatedPerThread;
+    }
+
+    private static String personName(int i) {
+        return "person-" + i;
+    }
+
+    /**
+     * The results of one scenario
+     */
+    private class LoadReport {
+        private final long durationNanos;
+        private final long allocatedBytes;
+        private final int numOperations;
+        private long p50Nanos;
+        private long p99Nanos;
+
+        LoadReport(List<long[]> latencies, long durationNanos, long allocatedBytes, int numOperations) {
+            this.durationNanos = durationNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.numOperations = numOperations;
+
+            long[] sorted = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            if (sorted.length > 0) {
+                p50Nanos = sorted[(int) (sorted.length * 0.50)];
+                p99Nanos = sorted[Math.min(sorted.length - 1, (int) (sorted.length * 0.99))];
+            }
+        }
+
+        LoadReport withLatencies(long p50Nanos, long p99Nanos) {
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            return this;
+        }
+
+        void write(String scenario) throws IOException {
+            double seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+
+            Json json = Json.object(
+                    "scenario", scenario,
+                    "clients", clients,
+                    "operations", numOperations,
+                    "p50Millis", p50Nanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    "p99Millis", p99Nanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    "throughputPerSecond", numOperations / seconds,
+                    "serverAllocationMbPerSecond", allocatedBytes / (1024.0 * 1024.0) / seconds
+            );
+
+            LOG.info("{}", json);
+
+            File file = new File(reportDir + TransportBenchmark.class.getSimpleName() + "-" + scenario + ".json");
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import ai.grakn.Keyspace;
 import ai.grakn.client.BatchExecutorClient;
 import ai.grakn.client.GraknClient;
 import ai.grakn.client.GraknClientException;
+import ai.grakn.client.QueryResponse;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Query;
@@ -29,10 +30,13 @@ import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 
 import javax.annotation.Nullable;
+import javax.ws.rs.core.Response.Status;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static ai.grakn.graql.Graql.insert;
@@ -40,6 +44,7 @@ import static ai.grakn.graql.Graql.var;
 import static ai.grakn.util.CommonUtil.toImmutableSet;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
 
 public class BatchExecutorClientTest {
 
@@ -94,6 +99,80 @@ public class BatchExecutorClientTest {
         assertThat(graknClient.queriesExecuted(), containsInAnyOrder(queriesToExecute.toArray()));
     }
 
+    @Test
+    public void whenOneQueryInABatchFails_OnlyThatQueryFails() throws GraknClientException {
+        Keyspace keyspace = Keyspace.of("yes");
+
+        GraknClientFake graknClient = new GraknClientFake();
+        Query<?> badQuery = createInsertQuery(42);
+        graknClient.shouldReject(badQuery);
+
+        int numQueries = 100;
+        AtomicInteger numLoaded = new AtomicInteger(0);
+        AtomicInteger numFailed = new AtomicInteger(0);
+
+        BatchExecutorClient.Builder clientBuilder = BatchExecutorClient.newBuilder().taskClient(graknClient);
+
+        try (BatchExecutorClient client = clientBuilder.build()) {
+            client.onNext(response -> numLoaded.incrementAndGet());
+            client.onError(exception -> numFailed.incrementAndGet());
+
+            IntStream.range(0, numQueries).mapToObj(this::createInsertQuery).forEach(query -> client.add(query, keyspace));
+        }
+
+        assertEquals(numQueries - 1, numLoaded.get());
+        assertEquals(1, numFailed.get());
+    }
+
+    @Test
+    public void whenTheEngineRejectsTheRequestRatherThanAQuery_TheBatchIsNotSplit() throws GraknClientException {
+        Keyspace keyspace = Keyspace.of("yes");
+
+        GraknClientFake graknClient = new GraknClientFake();
+        graknClient.shouldThrow(new GraknClientException("Keyspace unavailable", Status.FORBIDDEN));
+
+        int numQueries = 100;
+        AtomicInteger numLoaded = new AtomicInteger(0);
+        AtomicInteger numFailed = new AtomicInteger(0);
+
+        BatchExecutorClient.Builder clientBuilder = BatchExecutorClient.newBuilder().taskClient(graknClient);
+
+        try (BatchExecutorClient client = clientBuilder.build()) {
+            client.onNext(response -> numLoaded.incrementAndGet());
+            client.onError(exception -> numFailed.incrementAndGet());
+
+            IntStream.range(0, numQueries).mapToObj(this::createInsertQuery).forEach(query -> client.add(query, keyspace));
+        }
+
+        // Every batch is sent once and reported once
+        assertEquals(0, numLoaded.get());
+        assertEquals(graknClient.requests(), numFailed.get());
+    }
+
+    @Test
+    public void whenTheServerIsOverloaded_TheBatchExecutorClientBacksOffAndStillLoadsEverything() throws GraknClientException {
+        Keyspace keyspace = Keyspace.of("yes");
+
+        // The engine can only take this many queries at once and rejects everything beyond that
+        int capacity = 20;
+        GraknClientFake graknClient = new GraknClientFake();
+        graknClient.overloadedAbove(capacity);
+
+        int numQueries = 1000;
+        AtomicInteger numLoaded = new AtomicInteger(0);
+
+        BatchExecutorClient.Builder clientBuilder =
+                BatchExecutorClient.newBuilder().taskClient(graknClient).maxRetries(10);
+
+        try (BatchExecutorClient client = clientBuilder.build()) {
+            client.onNext(response -> numLoaded.incrementAndGet());
+
+            IntStream.range(0, numQueries).mapToObj(this::createInsertQuery).forEach(query -> client.add(query, keyspace));
+        }
+
+        assertEquals(numQueries, numLoaded.get());
+    }
+
     private InsertQuery createInsertQuery(int i) {
         return insert(var("x").id(ConceptId.of("V" + i)));
     }
@@ -103,26 +182,65 @@ public class BatchExecutorClientTest {
 class GraknClientFake implements GraknClient {
 
     private final Set<Query<?>> queriesExecuted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requests = new AtomicInteger(0);
     private @Nullable GraknClientException exceptionToThrow = null;
+    private @Nullable Query<?> queryToReject = null;
+    private int capacity = Integer.MAX_VALUE;
+    private final AtomicInteger queriesInFlight = new AtomicInteger(0);
 
     Set<Query<?>> queriesExecuted() {
         return ImmutableSet.copyOf(queriesExecuted);
     }
 
+    int requests() {
+        return requests.get();
+    }
+
     void shouldThrow(@Nullable GraknClientException exceptionToThrow) {
         this.exceptionToThrow = exceptionToThrow;
     }
 
+    /**
+     * Fail every batch containing the given query, the way the engine fails a transaction containing an invalid query
+     */
+    void shouldReject(@Nullable Query<?> queryToReject) {
+        this.queryToReject = queryToReject;
+    }
+
+    /**
+     * Fail batches with a retriable error while more than the given number of queries are being executed
+     */
+    void overloadedAbove(int capacity) {
+        this.capacity = capacity;
+    }
+
     @Override
-    public List graqlExecute(List<Query<?>> queryList, Keyspace keyspace) throws GraknClientException {
+    public List<QueryResponse> graqlExecute(List<Query<?>> queryList, Keyspace keyspace) throws GraknClientException {
         queriesExecuted.addAll(queryList);
+        requests.incrementAndGet();
 
         if (exceptionToThrow != null) {
             throw exceptionToThrow;
         }
 
+        if (queryToReject != null && queryList.contains(queryToReject)) {
+            throw new GraknClientException("Invalid query " + queryToReject, Status.BAD_REQUEST);
+        }
+
+        int inFlight = queriesInFlight.addAndGet(queryList.size());
+        try {
+            if (inFlight > capacity) {
+                throw new GraknClientException("Overloaded", true);
+            }
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queriesInFlight.addAndGet(-queryList.size());
+        }
+
         queryList.stream().forEach(query -> {assert query != null;});
-        return queryList;
+        return queryList.stream().map(query -> QueryResponse.INSTANCE).collect(Collectors.toList());
     }
 
     @Override
@@ -0,0 +1,226 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.postprocessing;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.engine.GraknConfig;
+import ai.grakn.engine.task.postprocessing.CountPostProcessor;
+import ai.grakn.engine.task.postprocessing.IndexPostProcessor;
+import ai.grakn.engine.task.postprocessing.RulePostProcessor;
+import ai.grakn.factory.EmbeddedGraknSession;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.log.CommitLog;
+import ai.grakn.test.rule.EngineContext;
+import ai.grakn.util.GraknTestUtil;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class RulePostProcessingTest {
+    private RulePostProcessor rulePostProcessor;
+    private CountPostProcessor countPostProcessor;
+    private EmbeddedGraknSession session;
+
+    private static GraknConfig config;
+    static {
+        config = EngineContext.createTestConfig();
+        config.setConfigProperty(GraknConfigKey.MATERIALISED_RULES, ImmutableList.of("parent-is-ancestor", "ancestor-is-transitive", "ancestor-is-relative"));
+    }
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.create(config);
+
+    @BeforeClass
+    public static void onlyRunOnTinker() {
+        assumeTrue(GraknTestUtil.usingTinker());
+    }
+
+    @Before
+    public void setupSchema() {
+        countPostProcessor = mock(CountPostProcessor.class);
+        rulePostProcessor = RulePostProcessor.create(engine.config(), engine.factory(), engine.server().lockProvider(), mock(IndexPostProcessor.class), countPostProcessor, new MetricRegistry());
+        session = engine.sessionWithNewKeyspace();
+
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("define " +
+                    "person sub entity, plays parent, plays child, plays ancestor, plays descendant;" +
+                    "parentship sub relationship, relates parent, relates child;" +
+                    "ancestorship sub relationship, relates ancestor, relates descendant;" +
+                    "parent-is-ancestor sub rule " +
+                    "when {(parent: $x, child: $y) isa parentship;} " +
+                    "then {(ancestor: $x, descendant: $y) isa ancestorship;};").execute();
+            tx.commit();
+        }
+    }
+
+    @After
+    public void takeDown() {
+        session.close();
+    }
+
+    @Test
+    public void whenInstancesUsedByAMaterialisedRuleAreAdded_TheConclusionIsPersisted() {
+        ConceptId parentshipType = insertParentship();
+
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, 1, 0));
+
+        List<Relationship> ancestorships = ancestorships();
+        assertEquals(1, ancestorships.size());
+        assertTrue(ancestorships.get(0).isInferred());
+    }
+
+    @Test
+    public void whenTheConclusionIsPersisted_TheNewInstancesAreCounted() {
+        ConceptId parentshipType = insertParentship();
+
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, 1, 0));
+
+        ArgumentCaptor<CommitLog> materialised = ArgumentCaptor.forClass(CommitLog.class);
+        verify(countPostProcessor).updateCounts(materialised.capture());
+        assertEquals(1L, (long) materialised.getValue().instanceCount().get(ancestorshipType()));
+    }
+
+    @Test
+    public void whenInstancesUsedByAMaterialisedRuleAreDeleted_TheConclusionIsDeleted() {
+        ConceptId parentshipType = insertParentship();
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, 1, 0));
+
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("match $r isa parentship; delete $r;").execute();
+            tx.commit();
+        }
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, -1, 1));
+
+        assertEquals(0, ancestorships().size());
+    }
+
+    @Test
+    public void whenAnInstanceUsedByAMaterialisedRuleIsReplaced_OnlyTheNewConclusionIsKept() {
+        ConceptId parentshipType = insertParentship();
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, 1, 0));
+
+        // One parentship is deleted and one inserted, so the number of parentships does not change
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("match $r isa parentship; delete $r;").execute();
+            tx.graql().parse("insert $x isa person; $y isa person; (parent: $x, child: $y) isa parentship;").execute();
+            tx.commit();
+        }
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, 0, 1));
+
+        assertEquals(1, ancestorships().size());
+    }
+
+    @Test
+    public void whenInstancesUsedByARecursiveMaterialisedRuleAreDeleted_ConclusionsSupportingEachOtherAreDeleted() {
+        ConceptId parentshipType;
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("define ancestor-is-transitive sub rule " +
+                    "when {(ancestor: $x, descendant: $y) isa ancestorship; (ancestor: $y, descendant: $z) isa ancestorship;} " +
+                    "then {(ancestor: $x, descendant: $z) isa ancestorship;};").execute();
+            tx.graql().parse("insert $x isa person; $y isa person; " +
+                    "(parent: $x, child: $y) isa parentship; (parent: $y, child: $x) isa parentship;").execute();
+            parentshipType = tx.getRelationshipType("parentship").getId();
+            tx.commit();
+        }
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, 2, 0));
+
+        // Both people are ancestors of each other and of themselves
+        assertEquals(4, ancestorships().size());
+
+        // Once one parentship is gone the remaining conclusions would still derive each other through the
+        // transitive rule, but only the ancestorship of the remaining parentship holds
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("match $r isa parentship; limit 1; delete $r;").execute();
+            tx.commit();
+        }
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, -1, 1));
+
+        assertEquals(1, ancestorships().size());
+    }
+
+    @Test
+    public void whenAConclusionIsUsedByAnotherMaterialisedRule_ThatRuleIsMaterialisedToo() {
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("define " +
+                    "person plays relative;" +
+                    "relativeship sub relationship, relates relative;" +
+                    "ancestor-is-relative sub rule " +
+                    "when {(ancestor: $x, descendant: $y) isa ancestorship;} " +
+                    "then {(relative: $x, relative: $y) isa relativeship;};").execute();
+            tx.commit();
+        }
+        ConceptId parentshipType = insertParentship();
+
+        // The commit log only mentions the parentship, the relativeship follows from the materialised ancestorship
+        rulePostProcessor.updateConclusions(commitLog(parentshipType, 1, 0));
+
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.READ)) {
+            List<Relationship> relativeships = tx.getRelationshipType("relativeship").instances().collect(toList());
+            assertEquals(1, relativeships.size());
+            assertTrue(relativeships.get(0).isInferred());
+        }
+    }
+
+    private ConceptId insertParentship() {
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("insert $x isa person; $y isa person; (parent: $x, child: $y) isa parentship;").execute();
+            ConceptId typeId = tx.getRelationshipType("parentship").getId();
+            tx.commit();
+            return typeId;
+        }
+    }
+
+    private CommitLog commitLog(ConceptId type, long change, long removed) {
+        CommitLog commitLog = CommitLog.createDefault(session.keyspace());
+        if (change != 0) commitLog.instanceCount().put(type, change);
+        if (removed != 0) commitLog.removedCount().put(type, removed);
+        return commitLog;
+    }
+
+    private ConceptId ancestorshipType() {
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.READ)) {
+            return tx.getRelationshipType("ancestorship").getId();
+        }
+    }
+
+    private List<Relationship> ancestorships() {
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.READ)) {
+            RelationshipType ancestorship = tx.getRelationshipType("ancestorship");
+            return ancestorship.instances().collect(toList());
+        }
+    }
+}
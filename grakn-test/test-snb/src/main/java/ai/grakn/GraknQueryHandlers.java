@@ -19,8 +19,9 @@ package ai.grakn;
 
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.Concept;
-import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Thing;
 import ai.grakn.graql.Match;
 import ai.grakn.graql.Order;
 import ai.grakn.graql.Var;
@@ -42,7 +43,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -62,6 +65,7 @@ import static ai.grakn.SNB.CONTENT;
 import static ai.grakn.SNB.CREATION_DATE;
 import static ai.grakn.SNB.EMAIL;
 import static ai.grakn.SNB.FIRST_NAME;
+import static ai.grakn.SNB.FRIEND;
 import static ai.grakn.SNB.GENDER;
 import static ai.grakn.SNB.HAS_CREATOR;
 import static ai.grakn.SNB.IMAGE_FILE;
@@ -204,83 +208,73 @@ public class GraknQueryHandlers {
      * Complex Query 1
      */
     public static class LdbcQuery1Handler implements OperationHandler<LdbcQuery1, GraknDbConnectionState> {
+
+        private static final int MAX_DISTANCE = 3;
+
         @Override
         public void executeOperation(LdbcQuery1 ldbcQuery1, GraknDbConnectionState dbConnectionState, ResultReporter resultReporter) throws DbException {
             GraknSession session = dbConnectionState.session();
             try (GraknTx graknTx = session.open(GraknTxType.READ)) {
-                Var anyone = var("anyone");
-                Var anyoneElse = var("anyoneElse");
-
-                // for speed fetch the Grakn id first
-                ConceptId graknPersonId = match($person.has(PERSON_ID, ldbcQuery1.personId())).withTx(graknTx).
-                        get().execute().iterator().next().get($person).getId();
+                Thing person = match($person.has(PERSON_ID, ldbcQuery1.personId())).withTx(graknTx).
+                        get().execute().iterator().next().get($person).asThing();
+                Role friend = graknTx.getSchemaConcept(FRIEND.admin().getTypeLabel().get());
 
                 // sort by lastname and then id
-                Comparator<Answer> byLastNameAndId = Comparator.comparing(by($lastName)).thenComparing(by($friendId));
-
-                // This query has to be split into 3 parts, each fetching people a further distance away
-                // The longer queries only need be executed if there are not enough shorter queries
-                // The last ordering by id must be done after each query has been executed
-                Match match = match($person.id(graknPersonId),
-                        var().rel($person).rel($friend).isa(KNOWS),
-                        $friend.has(FIRST_NAME, ldbcQuery1.firstName()).
-                                has(LAST_NAME, $lastName).
-                                has(PERSON_ID, $friendId),
-                        $person.neq($friend));
-                List<Answer> distance1Result = match.withTx(graknTx).get().execute();
-                List<LdbcQuery1Result> distance1LdbcResult = populateResults(distance1Result.stream().sorted(byLastNameAndId), ldbcQuery1, graknTx, 1);
-                if (distance1Result.size() < ldbcQuery1.limit()) {
-                    match = match($person.id(graknPersonId),
-                            var().rel($person).rel(anyone).isa(KNOWS),
-                            var().rel(anyone).rel($friend).isa(KNOWS),
-                            $friend.has(FIRST_NAME, ldbcQuery1.firstName()).
-                                    has(LAST_NAME, $lastName).
-                                    has(PERSON_ID, $friendId),
-                            $person.neq($friend)
-                    );
-                    List<Answer> distance2Result = match.withTx(graknTx).get().execute();
-                    distance1LdbcResult.addAll(populateResults(distance2Result.stream().sorted(byLastNameAndId), ldbcQuery1, graknTx, 2));
-                    if (distance1Result.size() + distance2Result.size() < ldbcQuery1.limit()) {
-                        match = match($person.id(graknPersonId),
-                                var().rel($person).rel(anyone).isa(KNOWS),
-                                var().rel(anyone).rel(anyoneElse).isa(KNOWS),
-                                var().rel(anyoneElse).rel($friend).isa(KNOWS),
-                                $friend.has(FIRST_NAME, ldbcQuery1.firstName()).
-                                        has(LAST_NAME, $lastName).
-                                        has(PERSON_ID, $friendId),
-                                $person.neq($friend),
-                                $friend.neq(anyone)
-                        );
-                        List<Answer> distance3Result = match.withTx(graknTx).get().execute();
-                        distance1LdbcResult.addAll(populateResults(distance3Result.stream().sorted(byLastNameAndId), ldbcQuery1, graknTx, 3));
+                Comparator<Entity> byLastNameAndId = Comparator
+                        .comparing((Entity entity) -> LdbcQuery1Handler.<String>getSingleResource(entity, LAST_NAME, graknTx))
+                        .thenComparing(entity -> LdbcQuery1Handler.<Long>getSingleResource(entity, PERSON_ID, graknTx));
+
+                // Walk out from the person one distance at a time, visiting each person once so that people are only
+                // found at their shortest distance. Further distances are only visited if there are not enough results.
+                Set<Thing> visited = new HashSet<>();
+                visited.add(person);
+                Set<Thing> frontier = Collections.singleton(person);
+
+                List<LdbcQuery1Result> result = new ArrayList<>();
+                for (int distance = 1; distance <= MAX_DISTANCE && result.size() < ldbcQuery1.limit(); distance++) {
+                    Set<Thing> nextFrontier = new HashSet<>();
+                    for (Thing thing : frontier) {
+                        thing.relationships(friend)
+                                .flatMap(knows -> knows.rolePlayers(friend))
+                                .filter(visited::add)
+                                .forEach(nextFrontier::add);
                     }
+
+                    Stream<Entity> friends = nextFrontier.stream()
+                            .map(Concept::asEntity)
+                            .filter(entity -> getListResources(entity, FIRST_NAME, graknTx).contains(ldbcQuery1.firstName()))
+                            .sorted(byLastNameAndId);
+                    result.addAll(populateResults(friends, ldbcQuery1.limit() - result.size(), graknTx, distance));
+
+                    frontier = nextFrontier;
                 }
-                resultReporter.report(0, distance1LdbcResult, ldbcQuery1);
+
+                resultReporter.report(0, result, ldbcQuery1);
             }
         }
 
         /**
-         * Populate the LdbcQuery1Result object from graql results. As part of this extra queries are executed to fetch related information.
+         * Populate the LdbcQuery1Result object from the people found. As part of this extra queries are executed to fetch related information.
          *
-         * @param graqlResults the graql results used to populate the ldbc results
-         * @param ldbcQuery1   the ldbc query parameters
-         * @param graknTx      the graph for additional queries
-         * @param distance     the number of knows relations between initial person and these results
+         * @param friends  the people found with the given first name, in the order they should be reported
+         * @param limit    the maximum number of results to populate
+         * @param graknTx  the graph for additional queries
+         * @param distance the number of knows relations between initial person and these results
          * @return the ldbc results
          */
-        private static List<LdbcQuery1Result> populateResults(Stream<Answer> graqlResults, LdbcQuery1 ldbcQuery1, GraknTx graknTx, int distance) {
-            return graqlResults.limit(ldbcQuery1.limit()).map(map -> {
+        private static List<LdbcQuery1Result> populateResults(Stream<Entity> friends, long limit, GraknTx graknTx, int distance) {
+            return friends.limit(limit).map(friend -> {
                 // these queries get all of the additional related material, excluding resources
                 Var location = var("aLocation");
                 Match locationQuery = match(
-                        $friend.id(map.get($friend).getId()),
+                        $friend.id(friend.getId()),
                         var().rel($friend).rel(location).isa(IS_LOCATED_IN));
                 Answer locationResult = locationQuery.withTx(graknTx).get().execute().iterator().next();
 
                 Var year = var("aYear");
                 Var oganisation = var("aOrganisation");
                 Match universityQuery = match(
-                        $friend.id(map.get($friend).getId()),
+                        $friend.id(friend.getId()),
                         var().rel($friend).rel(oganisation).isa(STUDY_AT).has(CLASS_YEAR, year),
                         var().rel(oganisation).rel(location).isa(IS_LOCATED_IN)
                 );
@@ -294,7 +288,7 @@ public class GraknQueryHandlers {
                 }).collect(Collectors.toList());
 
                 Match workQuery = match(
-                        $friend.id(map.get($friend).getId()),
+                        $friend.id(friend.getId()),
                         var().rel($friend).rel(oganisation).isa(WORK_AT).has(WORK_FROM, year),
                         var().rel(oganisation).rel(location).isa(IS_LOCATED_IN)
                 );
@@ -309,16 +303,16 @@ public class GraknQueryHandlers {
 
                 // populate the result with resources using graphAPI and relations from additional info query
                 return new LdbcQuery1Result(
-                        resource(map, $friendId),
-                        resource(map, $lastName),
+                        getSingleResource(friend, PERSON_ID, graknTx),
+                        getSingleResource(friend, LAST_NAME, graknTx),
                         distance,
-                        toEpoch(getSingleResource(map.get($friend).asEntity(), BIRTHDAY, graknTx)),
-                        toEpoch(getSingleResource(map.get($friend).asEntity(), CREATION_DATE, graknTx)),
-                        getSingleResource(map.get($friend).asEntity(), GENDER, graknTx),
-                        getSingleResource(map.get($friend).asEntity(), BROWSER_USED, graknTx),
-                        getSingleResource(map.get($friend).asEntity(), LOCATION_IP, graknTx),
-                        getListResources(map.get($friend).asEntity(), EMAIL, graknTx),
-                        getListResources(map.get($friend).asEntity(), SPEAKS, graknTx),
+                        toEpoch(getSingleResource(friend, BIRTHDAY, graknTx)),
+                        toEpoch(getSingleResource(friend, CREATION_DATE, graknTx)),
+                        getSingleResource(friend, GENDER, graknTx),
+                        getSingleResource(friend, BROWSER_USED, graknTx),
+                        getSingleResource(friend, LOCATION_IP, graknTx),
+                        getListResources(friend, EMAIL, graknTx),
+                        getListResources(friend, SPEAKS, graknTx),
                         getSingleResource(locationResult.get(location).asEntity(), NAME, graknTx),
                         universityProcessedResults,
                         workProcessedResults);
@@ -17,7 +17,10 @@
  */
 package ai.grakn;
 
+import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Thing;
 import ai.grakn.graql.Order;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
@@ -41,6 +44,7 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery7MessageRepl
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -59,8 +63,6 @@ import static ai.grakn.SNB.$date;
 import static ai.grakn.SNB.$firstName;
 import static ai.grakn.SNB.$forum;
 import static ai.grakn.SNB.$forumId;
-import static ai.grakn.SNB.$friend;
-import static ai.grakn.SNB.$friendId;
 import static ai.grakn.SNB.$gender;
 import static ai.grakn.SNB.$lastName;
 import static ai.grakn.SNB.$locationIp;
@@ -252,24 +254,38 @@ public class GraknShortQueryHandlers {
             GraknSession session = dbConnectionState.session();
             try (GraknTx graph = session.open(GraknTxType.READ)) {
 
-                List<Answer> results = graph.graql().match(
-                        $person.has(PERSON_ID, operation.personId()),
-                        var().rel($person).rel($friend).isa(KNOWS).has(CREATION_DATE, $date),
-                        $friend.has(PERSON_ID, $friendId).has(FIRST_NAME, $firstName).has(LAST_NAME, $lastName)
-                ).get().execute();
-
-                List<LdbcShortQuery3PersonFriendsResult> result = results.stream()
-                        .sorted(comparing(by($date)).reversed().thenComparing(by($friendId)))
-                        .map(map -> new LdbcShortQuery3PersonFriendsResult(
-                                resource(map, $friendId),
-                                resource(map, $firstName),
-                                resource(map, $lastName),
-                                toEpoch(resource(map, $date))
-                        )).collect(Collectors.toList());
+                // Walk out from the person through its knows relationships. Matching the whole pattern lets the
+                // planner start from the shared creation-date attributes, which held up validation indefinitely.
+                Thing person = graph.graql().match($person.has(PERSON_ID, operation.personId())).get()
+                        .execute().iterator().next().get($person).asThing();
+                Role friend = graph.getSchemaConcept(FRIEND.admin().getTypeLabel().get());
+                AttributeType<Long> personId = graph.getAttributeType(PERSON_ID);
+                AttributeType<String> firstName = graph.getAttributeType(FIRST_NAME);
+                AttributeType<String> lastName = graph.getAttributeType(LAST_NAME);
+                AttributeType<LocalDateTime> creationDate = graph.getAttributeType(CREATION_DATE);
+
+                Comparator<LdbcShortQuery3PersonFriendsResult> byDateAndId =
+                        comparing(LdbcShortQuery3PersonFriendsResult::friendshipCreationDate).reversed()
+                                .thenComparing(LdbcShortQuery3PersonFriendsResult::personId);
+
+                List<LdbcShortQuery3PersonFriendsResult> result = person.relationships(friend)
+                        .flatMap(knows -> knows.rolePlayers(friend)
+                                .filter(other -> !other.equals(person))
+                                .map(other -> new LdbcShortQuery3PersonFriendsResult(
+                                        value(other, personId),
+                                        value(other, firstName),
+                                        value(other, lastName),
+                                        toEpoch(value(knows, creationDate)))))
+                        .sorted(byDateAndId)
+                        .collect(Collectors.toList());
 
                 resultReporter.report(0, result, operation);
             }
         }
+
+        private static <T> T value(Thing thing, AttributeType<T> attributeType) {
+            return (T) thing.attributes(attributeType).iterator().next().getValue();
+        }
     }
 
 